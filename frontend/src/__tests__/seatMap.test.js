@@ -0,0 +1,49 @@
+import {
+    applySeatDelta, classifySeatDelta, decodeOccupiedSeats, parseSeatVersion, rowLabel, seatLabel,
+} from '../utils/seatMap';
+
+describe('seatMap utils', () => {
+    test('rowLabel continues past Z', () => {
+        expect(rowLabel(0)).toBe('A');
+        expect(rowLabel(25)).toBe('Z');
+        expect(rowLabel(26)).toBe('AA');
+        expect(rowLabel(27)).toBe('AB');
+    });
+
+    test('seatLabel maps index to row and column', () => {
+        expect(seatLabel(0, 8)).toBe('A1');
+        expect(seatLabel(9, 8)).toBe('B2');
+    });
+
+    test('decodeOccupiedSeats reads little-endian bitmap', () => {
+        const occupied = decodeOccupiedSeats('BQE=', 4, 8);
+        expect([...occupied].sort()).toEqual(['A1', 'A3', 'B1']);
+    });
+
+    test('decodeOccupiedSeats tolerates empty occupancy', () => {
+        expect(decodeOccupiedSeats('', 4, 8).size).toBe(0);
+    });
+
+    test('applySeatDelta occupies held seats and frees released ones', () => {
+        const held = applySeatDelta(new Set(['A1']), { state: 'HELD', seats: [9] }, 8);
+        expect([...held].sort()).toEqual(['A1', 'B2']);
+        const released = applySeatDelta(held, { state: 'RELEASED', seats: [0] }, 8);
+        expect([...released]).toEqual(['B2']);
+        expect([...held].sort()).toEqual(['A1', 'B2']);
+    });
+
+    test('parseSeatVersion splits the epoch from the counter', () => {
+        expect(parseSeatVersion('-1a2b-14')).toEqual({ epoch: '-1a2b', counter: 14 });
+        expect(parseSeatVersion(undefined)).toBeNull();
+    });
+
+    test('classifySeatDelta drops old deltas and reloads on gaps', () => {
+        const applied = parseSeatVersion('ab-5');
+        expect(classifySeatDelta(applied, { previousVersion: 'ab-4', version: 'ab-5' })).toBe('stale');
+        expect(classifySeatDelta(applied, { previousVersion: 'ab-5', version: 'ab-6' })).toBe('apply');
+        expect(classifySeatDelta(applied, { previousVersion: 'ab-3', version: 'ab-7' })).toBe('apply');
+        expect(classifySeatDelta(applied, { previousVersion: 'ab-6', version: 'ab-7' })).toBe('gap');
+        expect(classifySeatDelta(applied, { previousVersion: 'cd-0', version: 'cd-1' })).toBe('gap');
+        expect(classifySeatDelta(null, { previousVersion: 'ab-5', version: 'ab-6' })).toBe('gap');
+    });
+});
@@ -10,6 +10,8 @@ function AdminDashboard() {
   const [shows, setShows] = useState([]);
   const [bookings, setBookings] = useState([]);
   const [screens, setScreens] = useState([]);
+  const [bookingCursor, setBookingCursor] = useState(null);
+  const [bookingTotals, setBookingTotals] = useState({ count: 0, revenue: 0 });
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [activeTab, setActiveTab] = useState('overview');
@@ -62,23 +64,45 @@ function AdminDashboard() {
     fetchAdminData();
   }, [navigate]);
 
+  // Follows nextCursor until the last page; used for lists the forms need in full.
+  const fetchAllPages = async (url) => {
+    const items = [];
+    let after = 0;
+    do {
+      const { data } = await axios.get(url, { params: { after, limit: 200 }, timeout: 10000 });
+      items.push(...(data.items || []));
+      after = data.nextCursor;
+    } while (after != null);
+    return items;
+  };
+
+  const fetchBookingPage = (after = 0) =>
+    axios.get('/api/bookings', { params: { after, limit: 50 }, timeout: 10000 });
+
   const fetchAdminData = async () => {
     try {
       setLoading(true);
       setError('');
-      const [moviesRes, theatresRes, showsRes, bookingsRes, screensRes] = await Promise.all([
-        axios.get('/api/movies', { timeout: 10000 }),
-        axios.get('/api/theatres', { timeout: 10000 }),
-        axios.get('/api/shows', { timeout: 10000 }),
-        axios.get('/api/bookings', { timeout: 10000 }),
-        axios.get('/api/screens', { timeout: 10000 })
+      const [moviesList, theatresList, showsList, bookingsRes, screensList, summaryRes] = await Promise.all([
+        fetchAllPages('/api/movies'),
+        fetchAllPages('/api/theatres'),
+        fetchAllPages('/api/shows'),
+        fetchBookingPage(),
+        fetchAllPages('/api/screens'),
+        axios.get('/api/bookings/summary/movies', { timeout: 10000 })
       ]);
 
-      setMovies(moviesRes.data || []);
-      setTheatres(theatresRes.data || []);
-      setShows(showsRes.data || []);
-      setBookings(bookingsRes.data || []);
-      setScreens(screensRes.data || []);
+      setMovies(moviesList);
+      setTheatres(theatresList);
+      setShows(showsList);
+      setBookings(bookingsRes.data.items || []);
+      setBookingCursor(bookingsRes.data.nextCursor);
+      setScreens(screensList);
+      const summaries = summaryRes.data || [];
+      setBookingTotals({
+        count: summaries.reduce((sum, s) => sum + (s.totalBookings || 0), 0),
+        revenue: summaries.reduce((sum, s) => sum + (s.totalRevenue || 0), 0)
+      });
     } catch (err) {
       console.error('Error fetching admin data:', err);
       if (err.code === 'ECONNABORTED') {
@@ -93,6 +117,17 @@ function AdminDashboard() {
     }
   };
 
+  const loadMoreBookings = async () => {
+    try {
+      const { data } = await fetchBookingPage(bookingCursor);
+      setBookings(prev => [...prev, ...(data.items || [])]);
+      setBookingCursor(data.nextCursor);
+    } catch (err) {
+      console.error('Error loading bookings:', err);
+      alert('Failed to load more bookings. Please try again.');
+    }
+  };
+
   const handleDelete = (type, item) => {
     setDeleteItem({ type, item });
     setShowDeleteModal(true);
@@ -434,7 +469,7 @@ function AdminDashboard() {
     }
   };
 
-  const totalRevenue = bookings.reduce((sum, booking) => sum + (booking.totalCost || 0), 0);
+  const totalRevenue = bookingTotals.revenue;
 
   if (loading) {
     return (
@@ -491,7 +526,7 @@ function AdminDashboard() {
           <Card className="feature-card h-100 text-center">
             <Card.Body>
               <div className="feature-icon" style={{ fontSize: '3rem', marginBottom: '1rem' }}>🎫</div>
-              <h3 className="text-warning mb-2">{bookings.length}</h3>
+              <h3 className="text-warning mb-2">{bookingTotals.count}</h3>
               <p className="mb-0">Total Bookings</p>
             </Card.Body>
           </Card>
@@ -803,6 +838,13 @@ function AdminDashboard() {
                   </tbody>
                 </Table>
               </div>
+              {bookingCursor != null && (
+                <div className="text-center">
+                  <Button variant="outline-primary" onClick={loadMoreBookings} style={{ borderRadius: '8px' }}>
+                    Load more
+                  </Button>
+                </div>
+              )}
             </div>
           </Tab>
         </Tabs>
@@ -1,19 +1,14 @@
-import React, { useState, useEffect, useCallback } from 'react';
+import React, { useState, useEffect, useCallback, useRef } from 'react';
 import { Row, Col, Card, Button, Alert, Modal, Container, Badge, Spinner } from 'react-bootstrap';
 import { useParams, useNavigate } from 'react-router-dom';
 import axios from 'axios';
 import { loadStripe } from '@stripe/stripe-js';
 import { Elements, CardElement, useElements, useStripe } from '@stripe/react-stripe-js';
+import { applySeatDelta, classifySeatDelta, decodeOccupiedSeats, parseSeatVersion, rowLabel } from '../utils/seatMap';
 
-const SEAT_PRICES = {
-  A: 400,
-  B: 300,
-  C: 250
-};
-
-const SEAT_ROWS = ['A', 'B', 'C', 'D'];
-const SEATS_PER_ROW = 8;
-const MOCK_OCCUPIED_SEATS = ['A2', 'A5', 'B3', 'C1', 'C7'];
+const DEFAULT_SEAT_ROWS = 4;
+const DEFAULT_SEATS_PER_ROW = 8;
+const SEAT_POLL_INTERVAL_MS = 15000;
 
 const publishableKey = process.env.REACT_APP_STRIPE_PUBLISHABLE_KEY;
 const stripePromise = publishableKey ? loadStripe(publishableKey) : null;
@@ -133,6 +128,8 @@ function BookTicket() {
   const [customer, setCustomer] = useState(null);
   const [selectedSeats, setSelectedSeats] = useState([]);
   const [totalCost, setTotalCost] = useState(0);
+  const [rowPrices, setRowPrices] = useState({});
+  const [priceQuote, setPriceQuote] = useState(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [showModal, setShowModal] = useState(false);
@@ -142,6 +139,13 @@ function BookTicket() {
   const [isPaymentIntentLoading, setIsPaymentIntentLoading] = useState(false);
   const [paymentError, setPaymentError] = useState('');
   const [paymentReference, setPaymentReference] = useState('');
+  const [seatHoldId, setSeatHoldId] = useState('');
+  const [queuePosition, setQueuePosition] = useState(null);
+  const queueTokenRef = useRef(null);
+  const [seatLayout, setSeatLayout] = useState({ rows: DEFAULT_SEAT_ROWS, columns: DEFAULT_SEATS_PER_ROW });
+  const [occupiedSeats, setOccupiedSeats] = useState(() => new Set());
+  const seatColumnsRef = useRef(DEFAULT_SEATS_PER_ROW);
+  const seatVersionRef = useRef(null);
   const navigate = useNavigate();
 
   const resetPaymentState = () => {
@@ -150,8 +154,44 @@ function BookTicket() {
     setPaymentIntentId('');
     setIsPaymentIntentLoading(false);
     setPaymentError('');
+    setSeatHoldId('');
+  };
+
+  const releaseSeatHold = async (holdId) => {
+    if (!holdId) {
+      return;
+    }
+    try {
+      await axios.delete(`/api/shows/${showId}/holds/${holdId}`, { params: { customerId: customer.customerId } });
+    } catch (err) {
+      console.warn('Unable to release seat hold, it will expire automatically:', err);
+    }
+  };
+
+  // Flash-sale shows may have a waiting room; holds and bookings then need an admitted queue token.
+  const waitForAdmission = async () => {
+    let ticket = null;
+    if (queueTokenRef.current) {
+      try {
+        ticket = (await axios.get(`/api/shows/${showId}/waiting-room/tokens/${queueTokenRef.current}`)).data;
+      } catch (err) {
+        queueTokenRef.current = null;
+      }
+    }
+    if (!ticket) {
+      ticket = (await axios.post(`/api/shows/${showId}/waiting-room/tokens`, { customerId: customer.customerId })).data;
+    }
+    queueTokenRef.current = ticket.token;
+    while (!ticket.admitted) {
+      setQueuePosition(ticket.position);
+      await new Promise(resolve => setTimeout(resolve, ticket.retryAfterSeconds * 1000));
+      ticket = (await axios.get(`/api/shows/${showId}/waiting-room/tokens/${ticket.token}`)).data;
+    }
+    setQueuePosition(null);
   };
 
+  const queueHeaders = () => (queueTokenRef.current ? { 'X-Queue-Token': queueTokenRef.current } : {});
+
   const fetchShowDetails = useCallback(async () => {
     try {
       setLoading(true);
@@ -221,15 +261,110 @@ function BookTicket() {
     fetchShowDetails();
   }, [fetchShowDetails]);
 
+  const fetchSeatAvailability = useCallback(async () => {
+    try {
+      // The endpoint answers with an ETag, so repeat polls revalidate to a cheap 304.
+      const response = await axios.get(`/api/shows/${showId}/seats`, { timeout: 10000 });
+      const { rows, columns, occupancy, version } = response.data;
+      const snapshotVersion = parseSeatVersion(version);
+      const applied = seatVersionRef.current;
+      seatColumnsRef.current = columns;
+      setSeatLayout({ rows, columns });
+      // A slow response can be older than deltas that have been applied since it was requested.
+      if (applied && snapshotVersion && applied.epoch === snapshotVersion.epoch
+          && snapshotVersion.counter < applied.counter) {
+        return;
+      }
+      seatVersionRef.current = snapshotVersion;
+      setOccupiedSeats(decodeOccupiedSeats(occupancy, rows, columns));
+    } catch (err) {
+      console.error('Unable to refresh seat availability:', err);
+    }
+  }, [showId]);
+
   useEffect(() => {
-    const cost = selectedSeats.reduce((total, seat) => {
-      const row = seat.charAt(0);
-      return total + (SEAT_PRICES[row] ?? SEAT_PRICES.C);
-    }, 0);
-    setTotalCost(cost);
-  }, [selectedSeats]);
+    fetchSeatAvailability();
+    let streamOpen = false;
+    let source = null;
+    if (typeof window.EventSource !== 'undefined') {
+      source = new window.EventSource(`${axios.defaults.baseURL || ''}/api/shows/${showId}/seats/stream`);
+      source.onopen = () => {
+        // Reload the snapshot on every (re)connect so deltas missed while offline are not lost.
+        streamOpen = true;
+        fetchSeatAvailability();
+      };
+      source.onerror = () => {
+        streamOpen = false;
+      };
+      source.addEventListener('seats', (event) => {
+        const delta = JSON.parse(event.data);
+        const verdict = classifySeatDelta(seatVersionRef.current, delta);
+        if (verdict === 'gap') {
+          fetchSeatAvailability();
+        } else if (verdict === 'apply') {
+          seatVersionRef.current = parseSeatVersion(delta.version);
+          setOccupiedSeats(prev => applySeatDelta(prev, delta, seatColumnsRef.current));
+        }
+      });
+      source.addEventListener('resync', fetchSeatAvailability);
+    }
+    // Polling is only the fallback for when the stream is unavailable.
+    const intervalId = setInterval(() => {
+      if (!streamOpen) {
+        fetchSeatAvailability();
+      }
+    }, SEAT_POLL_INTERVAL_MS);
+    return () => {
+      clearInterval(intervalId);
+      if (source) {
+        source.close();
+      }
+    };
+  }, [fetchSeatAvailability, showId]);
+
+  const fetchPriceTable = useCallback(async () => {
+    try {
+      const response = await axios.get(`/api/shows/${showId}/prices`);
+      setRowPrices(response.data.rowPrices);
+    } catch (err) {
+      console.error('Unable to refresh seat prices:', err);
+    }
+  }, [showId]);
+
+  useEffect(() => {
+    fetchPriceTable();
+    const intervalId = setInterval(fetchPriceTable, SEAT_POLL_INTERVAL_MS);
+    return () => clearInterval(intervalId);
+  }, [fetchPriceTable]);
+
+  // Prices move with demand, so the server quotes every selection and the booking is charged the quote.
+  useEffect(() => {
+    if (selectedSeats.length === 0) {
+      setPriceQuote(null);
+      setTotalCost(0);
+      return undefined;
+    }
+    let stale = false;
+    axios.post(`/api/shows/${showId}/quotes`, { seatNumbers: selectedSeats })
+      .then((response) => {
+        if (!stale) {
+          setPriceQuote(response.data);
+          setTotalCost(response.data.totalCost);
+        }
+      })
+      .catch((err) => {
+        if (!stale) {
+          console.error('Unable to price the selected seats:', err);
+          setPriceQuote(null);
+          setTotalCost(0);
+        }
+      });
+    return () => {
+      stale = true;
+    };
+  }, [selectedSeats, showId]);
   const handleSeatToggle = (seat) => {
-    if (MOCK_OCCUPIED_SEATS.includes(seat)) return; // Can't select occupied seats
+    if (occupiedSeats.has(seat) && !selectedSeats.includes(seat)) return; // Can't select occupied seats
 
     setSelectedSeats(prev =>
       prev.includes(seat)
@@ -239,14 +374,14 @@ function BookTicket() {
   };
 
   const getSeatStatus = (seat) => {
-    if (MOCK_OCCUPIED_SEATS.includes(seat)) return 'occupied';
     if (selectedSeats.includes(seat)) return 'selected';
+    if (occupiedSeats.has(seat)) return 'occupied';
     return 'available';
   };
 
   const getSeatPrice = (seat) => {
-    const row = seat.charAt(0);
-    return SEAT_PRICES[row] ?? SEAT_PRICES.C;
+    const quoted = priceQuote?.seatPrices?.[seat];
+    return quoted ?? rowPrices[seat.replace(/\d+$/, '')] ?? '-';
   };
 
   const handleInitiateCheckout = async () => {
@@ -271,12 +406,27 @@ function BookTicket() {
       return;
     }
 
+    const quotedSeats = Object.keys(priceQuote?.seatPrices ?? {});
+    if (quotedSeats.length !== selectedSeats.length || !selectedSeats.every(seat => quotedSeats.includes(seat))) {
+      setPaymentError('Prices for your seats are still updating. Please try again in a moment.');
+      return;
+    }
+
+    let holdId = '';
     try {
       setIsPaymentIntentLoading(true);
       setError('');
       setPaymentError('');
       setPaymentReference('');
 
+      await waitForAdmission();
+      const holdResponse = await axios.post(`/api/shows/${showId}/holds`, {
+        customerId: customer.customerId,
+        seatNumbers: selectedSeats
+      }, { headers: queueHeaders() });
+      holdId = holdResponse.data.holdId;
+      setSeatHoldId(holdId);
+
       const amountInPaise = Math.round(totalCost * 100);
       const seatSummary = selectedSeats.join(', ');
       const description = `Booking for show ${show?.showName ?? showId} - Seats: ${seatSummary}`;
@@ -293,10 +443,13 @@ function BookTicket() {
       setShowPaymentModal(true);
     } catch (err) {
       console.error('Failed to create payment intent:', err);
+      await releaseSeatHold(holdId);
+      setSeatHoldId('');
       const message = err.response?.data?.error
         || (err.message ? `Unable to initiate payment: ${err.message}` : 'Unable to initiate payment. Please try again.');
       setPaymentError(message);
     } finally {
+      setQueuePosition(null);
       setIsPaymentIntentLoading(false);
     }
   };
@@ -309,10 +462,15 @@ function BookTicket() {
       totalCost,
       bookingDate: new Date().toISOString().split('T')[0],
       paymentMode: 'CARD',
-      paymentIntentId: paymentIntentIdentifier
+      paymentIntentId: paymentIntentIdentifier,
+      holdId: seatHoldId || undefined,
+      quoteId: priceQuote?.quoteId
     };
 
-    await axios.post('/api/bookings', bookingData);
+    // One payment pays for exactly one booking, so its id doubles as the key that makes retries safe.
+    await axios.post('/api/bookings', bookingData, {
+      headers: { 'Idempotency-Key': `booking-${paymentIntentIdentifier}`, ...queueHeaders() }
+    });
   };
 
   const handlePaymentSuccess = async (paymentIntent) => {
@@ -323,6 +481,7 @@ function BookTicket() {
       setPaymentError('');
       setShowModal(true);
       setSelectedSeats([]);
+      fetchSeatAvailability();
       resetPaymentState();
     } catch (err) {
       console.error('Payment succeeded but booking failed:', err);
@@ -336,6 +495,7 @@ function BookTicket() {
     if (isPaymentIntentLoading) {
       return;
     }
+    releaseSeatHold(seatHoldId);
     resetPaymentState();
   };
 
@@ -457,7 +617,7 @@ function BookTicket() {
 
           {/* Seat Map */}
           <div className="seat-map">
-            {SEAT_ROWS.map(row => (
+            {Array.from({ length: seatLayout.rows }, (_, rowIndex) => rowLabel(rowIndex)).map(row => (
               <div key={row} className="seat-row mb-3">
                 <Row className="justify-content-center align-items-center">
                   <Col xs="auto">
@@ -465,7 +625,7 @@ function BookTicket() {
                   </Col>
                   <Col xs="auto">
                     <div className="d-flex gap-2">
-                      {Array.from({ length: SEATS_PER_ROW }, (_, i) => {
+                      {Array.from({ length: seatLayout.columns }, (_, i) => {
                         const seatNumber = `${row}${i + 1}`;
                         const status = getSeatStatus(seatNumber);
                         const price = getSeatPrice(seatNumber);
@@ -502,7 +662,7 @@ function BookTicket() {
                     </div>
                   </Col>
                   <Col xs="auto">
-                    <Badge bg="outline-secondary">₹{SEAT_PRICES[row] ?? SEAT_PRICES.C}</Badge>
+                    <Badge bg="outline-secondary">₹{rowPrices[row] ?? '-'}</Badge>
                   </Col>
                 </Row>
               </div>
@@ -576,7 +736,9 @@ function BookTicket() {
                   {isPaymentIntentLoading ? (
                     <>
                       <Spinner animation="border" size="sm" className="me-2" />
-                      Starting Payment...
+                      {queuePosition !== null
+                        ? `You are number ${queuePosition + 1} in the queue...`
+                        : 'Starting Payment...'}
                     </>
                   ) : (
                     '💳 Proceed to Payment'
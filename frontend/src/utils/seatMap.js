@@ -0,0 +1,70 @@
+export const rowLabel = (row) => {
+    let label = '';
+    let n = row + 1;
+    while (n > 0) {
+        n -= 1;
+        label = String.fromCharCode(65 + (n % 26)) + label;
+        n = Math.floor(n / 26);
+    }
+    return label;
+};
+
+export const seatLabel = (index, columns) => `${rowLabel(Math.floor(index / columns))}${(index % columns) + 1}`;
+
+// Seat i is bit (i % 8) of byte (i / 8) in the base64 bitmap served by /api/shows/{id}/seats.
+export const decodeOccupiedSeats = (occupancy, rows, columns) => {
+    const occupied = new Set();
+    if (!occupancy) {
+        return occupied;
+    }
+    const bytes = atob(occupancy);
+    const capacity = rows * columns;
+    for (let byteIndex = 0; byteIndex < bytes.length; byteIndex += 1) {
+        const value = bytes.charCodeAt(byteIndex);
+        for (let bit = 0; bit < 8; bit += 1) {
+            const index = byteIndex * 8 + bit;
+            if (index < capacity && (value & (1 << bit)) !== 0) {
+                occupied.add(seatLabel(index, columns));
+            }
+        }
+    }
+    return occupied;
+};
+
+// Applies a delta from /api/shows/{id}/seats/stream; held and booked seats both render as occupied.
+export const applySeatDelta = (occupied, delta, columns) => {
+    const next = new Set(occupied);
+    (delta.seats || []).forEach((index) => {
+        const label = seatLabel(index, columns);
+        if (delta.state === 'RELEASED') {
+            next.delete(label);
+        } else {
+            next.add(label);
+        }
+    });
+    return next;
+};
+
+// Seat-map versions are "<epoch>-<counter>" tags; the counter only grows within one epoch.
+export const parseSeatVersion = (tag) => {
+    const dash = typeof tag === 'string' ? tag.lastIndexOf('-') : -1;
+    if (dash < 0) {
+        return null;
+    }
+    const counter = Number(tag.slice(dash + 1));
+    return Number.isInteger(counter) ? { epoch: tag.slice(0, dash), counter } : null;
+};
+
+// 'stale' when the delta is already part of the applied version, 'apply' when it follows on from it, and
+// 'gap' when deltas were missed (or the server reloaded the map) and the snapshot must be fetched again.
+export const classifySeatDelta = (applied, delta) => {
+    const version = parseSeatVersion(delta.version);
+    const previous = parseSeatVersion(delta.previousVersion);
+    if (!applied || !version || !previous || version.epoch !== applied.epoch || previous.epoch !== applied.epoch) {
+        return 'gap';
+    }
+    if (version.counter <= applied.counter) {
+        return 'stale';
+    }
+    return previous.counter <= applied.counter ? 'apply' : 'gap';
+};
@@ -0,0 +1,50 @@
+package com.moviebooking.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Open-session-in-view is off ({@code spring.jpa.open-in-view=false}), so
+ * writing a response cannot quietly run a query per lazy association. The
+ * endpoints below still return entities whose JSON walks lazy associations
+ * (a movie's shows, a theatre's screens, a show's screen), so they keep a
+ * request-scoped EntityManager until they return DTOs. Everything else,
+ * including the booking lists, loads what it returns in its own queries.
+ */
+@Configuration
+public class OpenSessionInViewConfig implements WebMvcConfigurer {
+
+    static final String[] LEGACY_ENTITY_PATHS = {
+            "/api/movies/**",
+            "/api/theatres/**",
+            "/api/screens/**",
+            "/api/shows",
+            "/api/shows/{showId:\\d+}",
+            "/api/shows/theatre/**",
+            "/api/shows/date/**",
+            "/api/bookings/{bookingId:\\d+}"
+    };
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public OpenSessionInViewConfig(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            // Web slice tests run without JPA.
+            return;
+        }
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(factory);
+        registry.addWebRequestInterceptor(interceptor).addPathPatterns(LEGACY_ENTITY_PATHS);
+    }
+}
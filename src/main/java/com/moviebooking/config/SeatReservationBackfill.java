@@ -0,0 +1,71 @@
+package com.moviebooking.config;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.moviebooking.entity.ShowSeatReservation;
+import com.moviebooking.inventory.SeatLabels;
+import com.moviebooking.inventory.SeatState;
+import com.moviebooking.repository.IBookingRepository;
+import com.moviebooking.repository.IShowSeatReservationRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Copies seats of active bookings from the legacy {@code ticket_seats}
+ * collection into {@code show_seat_reservations} the first time the
+ * application starts with an empty reservation table. It runs during context
+ * start-up, before the web server accepts bookings, and is a no-op once the
+ * table has rows.
+ */
+@Component
+public class SeatReservationBackfill {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SeatReservationBackfill.class);
+
+    private final IBookingRepository bookingRepository;
+    private final IShowSeatReservationRepository seatReservationRepository;
+
+    public SeatReservationBackfill(IBookingRepository bookingRepository,
+            IShowSeatReservationRepository seatReservationRepository) {
+        this.bookingRepository = bookingRepository;
+        this.seatReservationRepository = seatReservationRepository;
+    }
+
+    @PostConstruct
+    public void backfill() {
+        if (seatReservationRepository.count() > 0) {
+            return;
+        }
+
+        List<ShowSeatReservation> reservations = new ArrayList<>();
+        Set<Long> claimedSeats = new HashSet<>();
+        int skipped = 0;
+        for (Object[] row : bookingRepository.findLegacySeatAssignments()) {
+            int bookingId = ((Number) row[0]).intValue();
+            int showId = ((Number) row[1]).intValue();
+            String seatNumber = row[2] != null ? row[2].toString().trim().toUpperCase() : null;
+            int seatIndex = SeatLabels.toIndex(seatNumber, ((Number) row[3]).intValue(), ((Number) row[4]).intValue());
+            // Older data can hold seats outside the layout or seats sold twice; the earliest booking keeps the seat.
+            if (seatIndex < 0 || !claimedSeats.add(((long) showId << 32) | seatIndex)) {
+                skipped++;
+                continue;
+            }
+            reservations.add(new ShowSeatReservation(showId, seatIndex, seatNumber, bookingId, SeatState.BOOKED));
+        }
+
+        if (!reservations.isEmpty()) {
+            seatReservationRepository.saveAll(reservations);
+            LOGGER.info("Backfilled {} seat reservations from ticket_seats", reservations.size());
+        }
+        if (skipped > 0) {
+            LOGGER.warn("Skipped {} legacy seats that were invalid or already sold", skipped);
+        }
+    }
+}
@@ -40,7 +40,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/users/register", "/api/users/signin", "/api/users/signin-legacy", "/api/users/refresh").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/customers").permitAll()
-                .requestMatchers(HttpMethod.GET, "/api/movies/**", "/api/theatres/**", "/api/shows/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/movies/**", "/api/theatres/**", "/api/shows/**", "/api/autocomplete").permitAll()
                 .anyRequest().authenticated()
                 )
                 .headers(headers -> headers
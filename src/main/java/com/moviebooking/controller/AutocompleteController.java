@@ -0,0 +1,37 @@
+package com.moviebooking.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviebooking.dto.Suggestion;
+import com.moviebooking.service.IAutocompleteService;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@CrossOrigin(origins = "*")
+public class AutocompleteController {
+
+    @Autowired
+    private IAutocompleteService autocompleteService;
+
+    @GetMapping
+    public ResponseEntity<?> complete(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        try {
+            List<Suggestion> suggestions = autocompleteService.complete(q, limit);
+            return new ResponseEntity<>(suggestions, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.moviebooking.controller;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,14 +21,26 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.moviebooking.dto.BookingRequest;
+import com.moviebooking.dto.CursorPage;
+import com.moviebooking.dto.ExportFormat;
+import com.moviebooking.dto.IdempotentResponse;
 import com.moviebooking.dto.MovieBookingSummary;
 import com.moviebooking.dto.TicketView;
 import com.moviebooking.entity.TicketBooking;
+import com.moviebooking.exception.IdempotencyKeyException;
+import com.moviebooking.exception.WaitingRoomException;
+import com.moviebooking.service.IBookingExportService;
+import com.moviebooking.service.IBookingSequencer;
 import com.moviebooking.service.IBookingService;
+import com.moviebooking.service.IIdempotencyService;
+import com.moviebooking.service.IWaitingRoomService;
 
 @RestController
 @RequestMapping("/api/bookings")
@@ -31,23 +50,109 @@ public class BookingController {
     @Autowired
     private IBookingService bookingService;
 
+    @Autowired
+    private IIdempotencyService idempotencyService;
+
+    @Autowired
+    private IBookingSequencer bookingSequencer;
+
+    @Autowired
+    private IWaitingRoomService waitingRoomService;
+
+    @Autowired
+    private IBookingExportService bookingExportService;
+
     @PostMapping
-    public ResponseEntity<?> addBooking(@RequestBody BookingRequest bookingRequest) {
+    public ResponseEntity<?> addBooking(@RequestBody BookingRequest bookingRequest,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Queue-Token", required = false) String queueToken) {
+        try {
+            waitingRoomService.checkAdmitted(bookingRequest.getShowId(), bookingRequest.getCustomerId(), queueToken);
+        } catch (WaitingRoomException e) {
+            return notAdmitted(e);
+        }
+
+        boolean idempotent = idempotencyKey != null;
         try {
-            TicketBooking newBooking = bookingService.addBooking(bookingRequest);
+            if (idempotent) {
+                Optional<IdempotentResponse> stored = idempotencyService.claim(idempotencyKey, bookingRequest);
+                if (stored.isPresent()) {
+                    return ResponseEntity.status(stored.get().getStatus())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header("Idempotent-Replayed", "true")
+                            .body(stored.get().getBody());
+                }
+            }
+        } catch (IdempotencyKeyException e) {
+            HttpStatus status = e.getReason() == IdempotencyKeyException.Reason.IN_PROGRESS
+                    ? HttpStatus.CONFLICT
+                    : HttpStatus.UNPROCESSABLE_ENTITY;
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), status);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            TicketBooking newBooking = bookingSequencer.isEnabled()
+                    ? await(bookingSequencer.addBooking(bookingRequest))
+                    : bookingService.addBooking(bookingRequest);
+            if (idempotent) {
+                idempotencyService.complete(idempotencyKey, bookingRequest, HttpStatus.CREATED.value(), newBooking);
+            }
             return new ResponseEntity<>(newBooking, HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
+            releaseKey(idempotencyKey);
             return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (RejectedExecutionException e) {
+            releaseKey(idempotencyKey);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(Map.of("error", "Too many bookings for this show right now, please retry"));
         } catch (RuntimeException e) {
+            releaseKey(idempotencyKey);
             return new ResponseEntity<>(Map.of("error", "Unable to create booking"), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    static ResponseEntity<?> notAdmitted(WaitingRoomException e) {
+        if (e.getReason() != WaitingRoomException.Reason.NOT_ADMITTED) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.FORBIDDEN);
+        }
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("error", e.getMessage(), "position", e.getPosition()));
+    }
+
+    private void releaseKey(String idempotencyKey) {
+        if (idempotencyKey != null) {
+            idempotencyService.release(idempotencyKey);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @GetMapping
-    public ResponseEntity<List<TicketBooking>> showAllBookings() {
+    public ResponseEntity<?> showAllBookings(@RequestParam(required = false) Integer after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<TicketBooking> bookings = bookingService.showAllBookings();
-            return new ResponseEntity<>(bookings, HttpStatus.OK);
+            if (after == null && limit == null) {
+                List<TicketBooking> bookings = bookingService.showAllBookings();
+                return new ResponseEntity<>(bookings, HttpStatus.OK);
+            }
+            CursorPage<TicketBooking> page = bookingService.showBookingPage(after == null ? 0 : after,
+                    CursorPage.checkLimit(limit));
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -63,6 +168,33 @@ public class BookingController {
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<?> exportBookings(@RequestParam(defaultValue = "jsonl") String format,
+            @RequestParam(required = false) String from, @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer theatreId) {
+        ExportFormat exportFormat;
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            exportFormat = ExportFormat.fromParam(format);
+            fromDate = from == null ? null : LocalDate.parse(from);
+            toDate = to == null ? null : LocalDate.parse(to);
+            if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+                throw new IllegalArgumentException("from must not be after to");
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        StreamingResponseBody body = out -> bookingExportService.exportBookings(fromDate, toDate, theatreId,
+                exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"bookings." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<?> getBookingsForCustomer(@PathVariable int customerId) {
         try {
@@ -75,6 +207,20 @@ public class BookingController {
         }
     }
 
+    @GetMapping("/reference/{bookingReference}")
+    public ResponseEntity<?> getBookingByReference(@PathVariable long bookingReference) {
+        try {
+            TicketView ticket = bookingService.findBookingByReference(bookingReference);
+            return new ResponseEntity<>(ticket, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.CONFLICT);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(Map.of("error", "Unable to fetch booking"), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TicketBooking> updateBooking(@PathVariable int id, @RequestBody TicketBooking booking) {
         try {
@@ -87,21 +233,30 @@ public class BookingController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<TicketBooking> cancelBooking(@PathVariable int id) {
+    public ResponseEntity<?> cancelBooking(@PathVariable int id) {
         try {
-            TicketBooking booking = new TicketBooking();
-            booking.setBookingId(id);
-            TicketBooking cancelledBooking = bookingService.cancelBooking(booking);
-            return new ResponseEntity<>(cancelledBooking, HttpStatus.OK);
+            // Cancelling twice is not an error; either way the booking ends up cancelled.
+            if (bookingSequencer.isEnabled()) {
+                await(bookingSequencer.cancelBooking(id));
+            } else {
+                bookingService.cancelBooking(id);
+            }
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(Map.of("error", "Too many changes for this show right now, please retry"));
         } catch (RuntimeException e) {
-            return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
+            return new ResponseEntity<>(Map.of("error", "Unable to cancel booking"), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
     @GetMapping("/movie/{movieId}")
-    public ResponseEntity<List<TicketBooking>> showAllBookingByMovie(@PathVariable int movieId) {
+    public ResponseEntity<List<TicketView>> showAllBookingByMovie(@PathVariable int movieId) {
         try {
-            List<TicketBooking> bookings = bookingService.showAllBooking(movieId);
+            List<TicketView> bookings = bookingService.showAllBooking(movieId);
             return new ResponseEntity<>(bookings, HttpStatus.OK);
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -109,10 +264,10 @@ public class BookingController {
     }
 
     @GetMapping("/date/{date}")
-    public ResponseEntity<List<TicketBooking>> showAllBookingByDate(@PathVariable String date) {
+    public ResponseEntity<List<TicketView>> showAllBookingByDate(@PathVariable String date) {
         try {
             LocalDate localDate = LocalDate.parse(date);
-            List<TicketBooking> bookings = bookingService.showAllBooking(localDate);
+            List<TicketView> bookings = bookingService.showAllBooking(localDate);
             return new ResponseEntity<>(bookings, HttpStatus.OK);
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -120,9 +275,9 @@ public class BookingController {
     }
 
     @GetMapping("/show/{showId}")
-    public ResponseEntity<List<TicketBooking>> showBookingListByShow(@PathVariable int showId) {
+    public ResponseEntity<List<TicketView>> showBookingListByShow(@PathVariable int showId) {
         try {
-            List<TicketBooking> bookings = bookingService.showBookingList(showId);
+            List<TicketView> bookings = bookingService.showBookingList(showId);
             return new ResponseEntity<>(bookings, HttpStatus.OK);
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
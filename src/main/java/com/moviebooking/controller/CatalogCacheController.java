@@ -0,0 +1,33 @@
+package com.moviebooking.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviebooking.dto.CacheStats;
+import com.moviebooking.service.ICatalogCacheService;
+
+@RestController
+@RequestMapping("/api/catalog/cache")
+@CrossOrigin(origins = "*")
+public class CatalogCacheController {
+
+    @Autowired
+    private ICatalogCacheService catalogCacheService;
+
+    @GetMapping
+    public ResponseEntity<CacheStats> getStats() {
+        return new ResponseEntity<>(catalogCacheService.getStats(), HttpStatus.OK);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> invalidate() {
+        catalogCacheService.invalidateAll();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
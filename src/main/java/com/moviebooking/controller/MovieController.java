@@ -1,6 +1,9 @@
 package com.moviebooking.controller;
 
+import com.moviebooking.dto.CursorPage;
+import com.moviebooking.dto.MovieSearchHit;
 import com.moviebooking.entity.Movie;
+import com.moviebooking.service.IMovieSearchService;
 import com.moviebooking.service.IMovieService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -8,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/movies")
@@ -17,6 +21,9 @@ public class MovieController {
     @Autowired
     private IMovieService movieService;
 
+    @Autowired
+    private IMovieSearchService movieSearchService;
+
     @PostMapping
     public ResponseEntity<Movie> addMovie(@RequestBody Movie movie) {
         try {
@@ -59,10 +66,29 @@ public class MovieController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Movie>> viewAllMovies() {
+    public ResponseEntity<?> viewAllMovies(@RequestParam(required = false) Integer after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<Movie> movies = movieService.viewMovieList();
-            return new ResponseEntity<>(movies, HttpStatus.OK);
+            if (after == null && limit == null) {
+                List<Movie> movies = movieService.viewMovieList();
+                return new ResponseEntity<>(movies, HttpStatus.OK);
+            }
+            CursorPage<Movie> page = movieService.viewMoviePage(after == null ? 0 : after, CursorPage.checkLimit(limit));
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchMovies(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        try {
+            List<MovieSearchHit> hits = movieSearchService.search(q, limit);
+            return new ResponseEntity<>(hits, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
         }
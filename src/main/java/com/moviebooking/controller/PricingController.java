@@ -0,0 +1,50 @@
+package com.moviebooking.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviebooking.dto.PriceQuote;
+import com.moviebooking.dto.QuoteRequest;
+import com.moviebooking.service.IPricingService;
+
+@RestController
+@RequestMapping("/api/shows/{showId}")
+@CrossOrigin(origins = "*")
+public class PricingController {
+
+    @Autowired
+    private IPricingService pricingService;
+
+    @GetMapping("/prices")
+    public ResponseEntity<?> getPriceTable(@PathVariable int showId) {
+        try {
+            return new ResponseEntity<>(pricingService.getPriceTable(showId), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(Map.of("error", "Unable to fetch prices"), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("/quotes")
+    public ResponseEntity<?> quote(@PathVariable int showId, @RequestBody QuoteRequest request) {
+        try {
+            PriceQuote quote = pricingService.quote(showId, request.getSeatNumbers());
+            return new ResponseEntity<>(quote, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(Map.of("error", "Unable to price seats"), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
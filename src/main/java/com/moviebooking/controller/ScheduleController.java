@@ -0,0 +1,45 @@
+package com.moviebooking.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviebooking.dto.SchedulePlan;
+import com.moviebooking.dto.ScheduleRequest;
+import com.moviebooking.exception.ShowConflictException;
+import com.moviebooking.service.ISchedulePlannerService;
+
+@RestController
+@RequestMapping("/api/schedules")
+@CrossOrigin(origins = "*")
+public class ScheduleController {
+
+    @Autowired
+    private ISchedulePlannerService schedulePlannerService;
+
+    @PostMapping
+    public ResponseEntity<?> planSchedule(@RequestBody ScheduleRequest request,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        try {
+            SchedulePlan plan = schedulePlannerService.plan(request, dryRun);
+            return new ResponseEntity<>(plan, plan.isSaved() ? HttpStatus.CREATED : HttpStatus.OK);
+        } catch (ShowConflictException e) {
+            // Another show was added to one of the screens while the plan was being made.
+            return new ResponseEntity<>(
+                    Map.of("error", e.getMessage(), "conflictingShowIds", e.getConflictingShowIds()),
+                    HttpStatus.CONFLICT);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
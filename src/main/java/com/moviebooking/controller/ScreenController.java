@@ -1,5 +1,6 @@
 package com.moviebooking.controller;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Screen;
 import com.moviebooking.service.IScreenService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/screens")
@@ -58,10 +60,17 @@ public class ScreenController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Screen>> viewAllScreens() {
+    public ResponseEntity<?> viewAllScreens(@RequestParam(required = false) Integer after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<Screen> screens = screenService.viewAllScreens();
-            return new ResponseEntity<>(screens, HttpStatus.OK);
+            if (after == null && limit == null) {
+                List<Screen> screens = screenService.viewAllScreens();
+                return new ResponseEntity<>(screens, HttpStatus.OK);
+            }
+            CursorPage<Screen> page = screenService.viewScreenPage(after == null ? 0 : after, CursorPage.checkLimit(limit));
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -0,0 +1,66 @@
+package com.moviebooking.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviebooking.dto.SeatHold;
+import com.moviebooking.dto.SeatHoldRequest;
+import com.moviebooking.exception.WaitingRoomException;
+import com.moviebooking.service.ISeatHoldService;
+import com.moviebooking.service.IWaitingRoomService;
+
+@RestController
+@RequestMapping("/api/shows/{showId}/holds")
+@CrossOrigin(origins = "*")
+public class SeatHoldController {
+
+    @Autowired
+    private ISeatHoldService seatHoldService;
+
+    @Autowired
+    private IWaitingRoomService waitingRoomService;
+
+    @PostMapping
+    public ResponseEntity<?> createHold(@PathVariable int showId, @RequestBody SeatHoldRequest request,
+            @RequestHeader(value = "X-Queue-Token", required = false) String queueToken) {
+        try {
+            waitingRoomService.checkAdmitted(showId, request.getCustomerId(), queueToken);
+        } catch (WaitingRoomException e) {
+            return BookingController.notAdmitted(e);
+        }
+
+        try {
+            SeatHold hold = seatHoldService.createHold(showId, request);
+            return new ResponseEntity<>(hold, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(Map.of("error", "Unable to hold seats"), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @DeleteMapping("/{holdId}")
+    public ResponseEntity<?> releaseHold(@PathVariable int showId, @PathVariable String holdId,
+            @RequestParam int customerId) {
+        try {
+            if (seatHoldService.releaseHold(showId, holdId, customerId)) {
+                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            }
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(Map.of("error", "Seat hold not found or already expired"), HttpStatus.NOT_FOUND);
+    }
+}
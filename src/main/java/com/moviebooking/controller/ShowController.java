@@ -1,13 +1,18 @@
 package com.moviebooking.controller;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Show;
+import com.moviebooking.exception.ShowConflictException;
 import com.moviebooking.service.IShowService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/shows")
@@ -18,21 +23,29 @@ public class ShowController {
     private IShowService showService;
 
     @PostMapping
-    public ResponseEntity<Show> addShow(@RequestBody Show show) {
+    public ResponseEntity<?> addShow(@RequestBody Show show) {
         try {
             Show newShow = showService.addShow(show);
             return new ResponseEntity<>(newShow, HttpStatus.CREATED);
+        } catch (ShowConflictException e) {
+            return conflict(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
         }
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Show> updateShow(@PathVariable int id, @RequestBody Show show) {
+    public ResponseEntity<?> updateShow(@PathVariable int id, @RequestBody Show show) {
         try {
             show.setShowId(id);
             Show updatedShow = showService.updateShow(show);
             return new ResponseEntity<>(updatedShow, HttpStatus.OK);
+        } catch (ShowConflictException e) {
+            return conflict(e);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
         }
@@ -63,10 +76,36 @@ public class ShowController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Show>> viewAllShows() {
+    public ResponseEntity<?> viewAllShows(@RequestParam(required = false) Integer after,
+            @RequestParam(required = false) Integer limit, @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to, @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer movieId) {
         try {
-            List<Show> shows = showService.viewAllShows();
+            if (from != null || to != null || city != null || movieId != null) {
+                List<Show> shows = showService.searchShows(parseDateTime(from), parseDateTime(to), city, movieId);
+                return new ResponseEntity<>(shows, HttpStatus.OK);
+            }
+            if (after == null && limit == null) {
+                List<Show> shows = showService.viewAllShows();
+                return new ResponseEntity<>(shows, HttpStatus.OK);
+            }
+            CursorPage<Show> page = showService.viewShowPage(after == null ? 0 : after, CursorPage.checkLimit(limit));
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/playing")
+    public ResponseEntity<?> viewShowsPlaying(@RequestParam String from, @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer screenId) {
+        try {
+            List<Show> shows = showService.viewShowsPlaying(parseDateTime(from), parseDateTime(to), screenId);
             return new ResponseEntity<>(shows, HttpStatus.OK);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -92,4 +131,17 @@ public class ShowController {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    private static ResponseEntity<?> conflict(ShowConflictException e) {
+        return new ResponseEntity<>(Map.of("error", e.getMessage(), "conflictingShowIds", e.getConflictingShowIds()),
+                HttpStatus.CONFLICT);
+    }
+
+    // Accepts 2025-10-01T18:00 or a bare date, which means the start of that day.
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
 }
@@ -1,5 +1,6 @@
 package com.moviebooking.controller;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Theatre;
 import com.moviebooking.service.ITheatreService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/theatres")
@@ -58,10 +60,17 @@ public class TheatreController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Theatre>> viewAllTheatres() {
+    public ResponseEntity<?> viewAllTheatres(@RequestParam(required = false) Integer after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<Theatre> theatres = theatreService.viewAllTheatres();
-            return new ResponseEntity<>(theatres, HttpStatus.OK);
+            if (after == null && limit == null) {
+                List<Theatre> theatres = theatreService.viewAllTheatres();
+                return new ResponseEntity<>(theatres, HttpStatus.OK);
+            }
+            CursorPage<Theatre> page = theatreService.viewTheatrePage(after == null ? 0 : after, CursorPage.checkLimit(limit));
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -0,0 +1,68 @@
+package com.moviebooking.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviebooking.dto.QueueTicket;
+import com.moviebooking.dto.WaitingRoomSettings;
+import com.moviebooking.exception.WaitingRoomException;
+import com.moviebooking.service.IWaitingRoomService;
+
+@RestController
+@RequestMapping("/api/shows/{showId}/waiting-room")
+@CrossOrigin(origins = "*")
+public class WaitingRoomController {
+
+    @Autowired
+    private IWaitingRoomService waitingRoomService;
+
+    @PutMapping
+    public ResponseEntity<?> open(@PathVariable int showId, @RequestBody WaitingRoomSettings settings) {
+        try {
+            waitingRoomService.open(showId, settings.getAdmitPerSecond(), settings.getBurst());
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> close(@PathVariable int showId) {
+        if (waitingRoomService.close(showId)) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(Map.of("error", "No waiting room is open for this show"), HttpStatus.NOT_FOUND);
+    }
+
+    @PostMapping("/tokens")
+    public ResponseEntity<?> join(@PathVariable int showId, @RequestBody Map<String, Integer> request) {
+        Integer customerId = request.get("customerId");
+        if (customerId == null) {
+            return new ResponseEntity<>(Map.of("error", "customerId is required"), HttpStatus.BAD_REQUEST);
+        }
+        QueueTicket ticket = waitingRoomService.join(showId, customerId);
+        return new ResponseEntity<>(ticket, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/tokens/{token}")
+    public ResponseEntity<?> getTicket(@PathVariable int showId, @PathVariable String token) {
+        try {
+            QueueTicket ticket = waitingRoomService.getTicket(showId, token);
+            return new ResponseEntity<>(ticket, HttpStatus.OK);
+        } catch (WaitingRoomException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.moviebooking.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviebooking.dto.WaitlistEntry;
+import com.moviebooking.dto.WaitlistRequest;
+import com.moviebooking.service.IWaitlistService;
+
+@RestController
+@RequestMapping("/api/shows/{showId}/waitlist")
+@CrossOrigin(origins = "*")
+public class WaitlistController {
+
+    @Autowired
+    private IWaitlistService waitlistService;
+
+    @PostMapping
+    public ResponseEntity<?> join(@PathVariable int showId, @RequestBody WaitlistRequest request) {
+        try {
+            WaitlistEntry entry = waitlistService.join(showId, request);
+            return new ResponseEntity<>(entry, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(Map.of("error", "Unable to join the waitlist"), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/{entryId}")
+    public ResponseEntity<?> getEntry(@PathVariable int showId, @PathVariable String entryId) {
+        try {
+            return new ResponseEntity<>(waitlistService.getEntry(showId, entryId), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<?> leave(@PathVariable int showId, @PathVariable String entryId) {
+        if (waitlistService.leave(showId, entryId)) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(Map.of("error", "Waitlist entry not found or already promoted"), HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,89 @@
+package com.moviebooking.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One booking as written by the bulk export. Built straight from a JPQL
+ * constructor expression, so exported rows never enter the persistence
+ * context and can be dropped as soon as they are written.
+ */
+public class BookingExportRow {
+
+    private final int bookingId;
+    private final LocalDate bookingDate;
+    private final int showId;
+    private final int theatreId;
+    private final Integer movieId;
+    private final Integer customerId;
+    private final long transactionId;
+    private final String transactionMode;
+    private final String transactionStatus;
+    private final double totalCost;
+    private final Integer seatCount;
+    private final String paymentReference;
+
+    public BookingExportRow(int bookingId, LocalDate bookingDate, int showId, int theatreId, Integer movieId,
+            Integer customerId, long transactionId, String transactionMode, String transactionStatus,
+            double totalCost, Integer seatCount, String paymentReference) {
+        this.bookingId = bookingId;
+        this.bookingDate = bookingDate;
+        this.showId = showId;
+        this.theatreId = theatreId;
+        this.movieId = movieId;
+        this.customerId = customerId;
+        this.transactionId = transactionId;
+        this.transactionMode = transactionMode;
+        this.transactionStatus = transactionStatus;
+        this.totalCost = totalCost;
+        this.seatCount = seatCount;
+        this.paymentReference = paymentReference;
+    }
+
+    public int getBookingId() {
+        return bookingId;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    public int getTheatreId() {
+        return theatreId;
+    }
+
+    public Integer getMovieId() {
+        return movieId;
+    }
+
+    public Integer getCustomerId() {
+        return customerId;
+    }
+
+    public long getTransactionId() {
+        return transactionId;
+    }
+
+    public String getTransactionMode() {
+        return transactionMode;
+    }
+
+    public String getTransactionStatus() {
+        return transactionStatus;
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public Integer getSeatCount() {
+        return seatCount;
+    }
+
+    public String getPaymentReference() {
+        return paymentReference;
+    }
+}
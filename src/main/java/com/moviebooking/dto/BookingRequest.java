@@ -12,6 +12,10 @@ public class BookingRequest {
     private LocalDate bookingDate;
     private String paymentMode;
     private String paymentIntentId;
+    private String holdId;
+    private String quoteId;
+    private Integer seatCount;
+    private SeatPreferences seatPreferences;
 
     public int getShowId() {
         return showId;
@@ -68,4 +72,36 @@ public class BookingRequest {
     public void setPaymentIntentId(String paymentIntentId) {
         this.paymentIntentId = paymentIntentId;
     }
+
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public void setHoldId(String holdId) {
+        this.holdId = holdId;
+    }
+
+    public String getQuoteId() {
+        return quoteId;
+    }
+
+    public void setQuoteId(String quoteId) {
+        this.quoteId = quoteId;
+    }
+
+    public Integer getSeatCount() {
+        return seatCount;
+    }
+
+    public void setSeatCount(Integer seatCount) {
+        this.seatCount = seatCount;
+    }
+
+    public SeatPreferences getSeatPreferences() {
+        return seatPreferences;
+    }
+
+    public void setSeatPreferences(SeatPreferences seatPreferences) {
+        this.seatPreferences = seatPreferences;
+    }
 }
@@ -0,0 +1,54 @@
+package com.moviebooking.dto;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * One page of a keyset-paginated list, ordered by ID. Pass {@code nextCursor}
+ * back as {@code after} to get the following page; it is {@code null} on the
+ * last page. Each page is an index range scan on the primary key, so deep
+ * pages cost the same as the first, unlike OFFSET paging.
+ */
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private final List<T> items;
+    private final Integer nextCursor;
+
+    public CursorPage(List<T> items, Integer nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from up to {@code limit + 1} rows: the extra row, when
+     * present, only signals that another page follows.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, ToIntFunction<T> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(List.copyOf(items), idOf.applyAsInt(items.get(limit - 1)));
+    }
+
+    public static int checkLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Integer getNextCursor() {
+        return nextCursor;
+    }
+}
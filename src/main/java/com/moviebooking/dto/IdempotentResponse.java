@@ -0,0 +1,20 @@
+package com.moviebooking.dto;
+
+public class IdempotentResponse {
+
+    private final int status;
+    private final String body;
+
+    public IdempotentResponse(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getBody() {
+        return body;
+    }
+}
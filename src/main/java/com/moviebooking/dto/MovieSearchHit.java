@@ -0,0 +1,49 @@
+package com.moviebooking.dto;
+
+/**
+ * One ranked movie search result, with just enough of the movie to render a
+ * suggestion; the full movie is at {@code /api/movies/{movieId}}.
+ */
+public class MovieSearchHit {
+
+    private final int movieId;
+    private final String movieName;
+    private final String movieGenre;
+    private final String language;
+    private final String imageUrl;
+    private final double score;
+
+    public MovieSearchHit(int movieId, String movieName, String movieGenre, String language, String imageUrl,
+            double score) {
+        this.movieId = movieId;
+        this.movieName = movieName;
+        this.movieGenre = movieGenre;
+        this.language = language;
+        this.imageUrl = imageUrl;
+        this.score = score;
+    }
+
+    public int getMovieId() {
+        return movieId;
+    }
+
+    public String getMovieName() {
+        return movieName;
+    }
+
+    public String getMovieGenre() {
+        return movieGenre;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
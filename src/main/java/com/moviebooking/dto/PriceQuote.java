@@ -0,0 +1,46 @@
+package com.moviebooking.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Prices for a set of seats, honoured at booking time until
+ * {@code expiresAt} when the booking carries {@code quoteId}.
+ */
+public class PriceQuote {
+
+    private final String quoteId;
+    private final int showId;
+    private final Map<String, Double> seatPrices;
+    private final double totalCost;
+    private final LocalDateTime expiresAt;
+
+    public PriceQuote(String quoteId, int showId, Map<String, Double> seatPrices, double totalCost,
+            LocalDateTime expiresAt) {
+        this.quoteId = quoteId;
+        this.showId = showId;
+        this.seatPrices = seatPrices;
+        this.totalCost = totalCost;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getQuoteId() {
+        return quoteId;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    public Map<String, Double> getSeatPrices() {
+        return seatPrices;
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
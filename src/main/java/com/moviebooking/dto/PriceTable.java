@@ -0,0 +1,38 @@
+package com.moviebooking.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Current seat price for each row of a show, as a guide for the seat picker.
+ */
+public class PriceTable {
+
+    private final int showId;
+    private final Map<String, Double> rowPrices;
+    private final double multiplier;
+    private final LocalDateTime computedAt;
+
+    public PriceTable(int showId, Map<String, Double> rowPrices, double multiplier, LocalDateTime computedAt) {
+        this.showId = showId;
+        this.rowPrices = rowPrices;
+        this.multiplier = multiplier;
+        this.computedAt = computedAt;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    public Map<String, Double> getRowPrices() {
+        return rowPrices;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+}
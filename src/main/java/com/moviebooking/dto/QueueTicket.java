@@ -0,0 +1,47 @@
+package com.moviebooking.dto;
+
+/**
+ * A customer's place in a show's waiting room. {@code token} goes in the
+ * {@code X-Queue-Token} header of seat hold and booking requests once
+ * {@code admitted} is true; it is {@code null} when the show has no waiting
+ * room open.
+ */
+public class QueueTicket {
+
+    private final String token;
+    private final int showId;
+    private final long position;
+    private final boolean admitted;
+    private final long retryAfterSeconds;
+
+    public QueueTicket(String token, int showId, long position, boolean admitted, long retryAfterSeconds) {
+        this.token = token;
+        this.showId = showId;
+        this.position = position;
+        this.admitted = admitted;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    /**
+     * Customers still to be admitted ahead of this one.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    public boolean isAdmitted() {
+        return admitted;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.moviebooking.dto;
+
+import java.util.List;
+
+public class QuoteRequest {
+
+    private List<String> seatNumbers;
+
+    public List<String> getSeatNumbers() {
+        return seatNumbers;
+    }
+
+    public void setSeatNumbers(List<String> seatNumbers) {
+        this.seatNumbers = seatNumbers;
+    }
+}
@@ -0,0 +1,35 @@
+package com.moviebooking.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.moviebooking.entity.Show;
+
+/**
+ * The shows a schedule request produced, saved or not, and how many shows
+ * per movie ID did not fit.
+ */
+public class SchedulePlan {
+
+    private final List<Show> shows;
+    private final Map<Integer, Integer> unscheduled;
+    private final boolean saved;
+
+    public SchedulePlan(List<Show> shows, Map<Integer, Integer> unscheduled, boolean saved) {
+        this.shows = shows;
+        this.unscheduled = unscheduled;
+        this.saved = saved;
+    }
+
+    public List<Show> getShows() {
+        return shows;
+    }
+
+    public Map<Integer, Integer> getUnscheduled() {
+        return unscheduled;
+    }
+
+    public boolean isSaved() {
+        return saved;
+    }
+}
@@ -0,0 +1,78 @@
+package com.moviebooking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Shows to plan at a theatre from {@code startDate} for {@code days} days,
+ * between {@code openAt} and {@code closeAt} each day. A closing time at or
+ * before the opening time means the day runs past midnight. Without
+ * {@code screenIds} every screen of the theatre is used.
+ */
+public class ScheduleRequest {
+
+    private int theatreId;
+    private LocalDate startDate;
+    private Integer days;
+    private LocalTime openAt;
+    private LocalTime closeAt;
+    private List<Integer> screenIds;
+    private List<ShowTarget> targets;
+
+    public int getTheatreId() {
+        return theatreId;
+    }
+
+    public void setTheatreId(int theatreId) {
+        this.theatreId = theatreId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public Integer getDays() {
+        return days;
+    }
+
+    public void setDays(Integer days) {
+        this.days = days;
+    }
+
+    public LocalTime getOpenAt() {
+        return openAt;
+    }
+
+    public void setOpenAt(LocalTime openAt) {
+        this.openAt = openAt;
+    }
+
+    public LocalTime getCloseAt() {
+        return closeAt;
+    }
+
+    public void setCloseAt(LocalTime closeAt) {
+        this.closeAt = closeAt;
+    }
+
+    public List<Integer> getScreenIds() {
+        return screenIds;
+    }
+
+    public void setScreenIds(List<Integer> screenIds) {
+        this.screenIds = screenIds;
+    }
+
+    public List<ShowTarget> getTargets() {
+        return targets;
+    }
+
+    public void setTargets(List<ShowTarget> targets) {
+        this.targets = targets;
+    }
+}
@@ -0,0 +1,53 @@
+package com.moviebooking.dto;
+
+public class SeatAvailability {
+
+    public static final String BITMAP_ENCODING = "bitmap-base64";
+
+    private final int showId;
+    private final int rows;
+    private final int columns;
+    private final int occupiedCount;
+    private final String encoding;
+    private final String occupancy;
+    private final String version;
+
+    public SeatAvailability(int showId, int rows, int columns, int occupiedCount, String encoding,
+            String occupancy, String version) {
+        this.showId = showId;
+        this.rows = rows;
+        this.columns = columns;
+        this.occupiedCount = occupiedCount;
+        this.encoding = encoding;
+        this.occupancy = occupancy;
+        this.version = version;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getOccupiedCount() {
+        return occupiedCount;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public String getOccupancy() {
+        return occupancy;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
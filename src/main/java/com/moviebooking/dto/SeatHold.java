@@ -0,0 +1,41 @@
+package com.moviebooking.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SeatHold {
+
+    private final String holdId;
+    private final int showId;
+    private final int customerId;
+    private final List<String> seatNumbers;
+    private final LocalDateTime expiresAt;
+
+    public SeatHold(String holdId, int showId, int customerId, List<String> seatNumbers, LocalDateTime expiresAt) {
+        this.holdId = holdId;
+        this.showId = showId;
+        this.customerId = customerId;
+        this.seatNumbers = seatNumbers;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    public int getCustomerId() {
+        return customerId;
+    }
+
+    public List<String> getSeatNumbers() {
+        return seatNumbers;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
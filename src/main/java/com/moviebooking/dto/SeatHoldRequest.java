@@ -0,0 +1,34 @@
+package com.moviebooking.dto;
+
+import java.util.List;
+
+public class SeatHoldRequest {
+
+    private int customerId;
+    private List<String> seatNumbers;
+    private Integer holdMinutes;
+
+    public int getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(int customerId) {
+        this.customerId = customerId;
+    }
+
+    public List<String> getSeatNumbers() {
+        return seatNumbers;
+    }
+
+    public void setSeatNumbers(List<String> seatNumbers) {
+        this.seatNumbers = seatNumbers;
+    }
+
+    public Integer getHoldMinutes() {
+        return holdMinutes;
+    }
+
+    public void setHoldMinutes(Integer holdMinutes) {
+        this.holdMinutes = holdMinutes;
+    }
+}
@@ -0,0 +1,45 @@
+package com.moviebooking.dto;
+
+import com.moviebooking.inventory.SeatState;
+
+/**
+ * Seats that changed state between two seat-map versions. Coalesced deltas
+ * span several versions, so a client that has applied any version from
+ * {@code previousVersion} on can apply this one.
+ */
+public class SeatMapDelta {
+
+    private final int showId;
+    private final SeatState state;
+    private final int[] seats;
+    private final String previousVersion;
+    private final String version;
+
+    public SeatMapDelta(int showId, SeatState state, int[] seats, String previousVersion, String version) {
+        this.showId = showId;
+        this.state = state;
+        this.seats = seats;
+        this.previousVersion = previousVersion;
+        this.version = version;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    public SeatState getState() {
+        return state;
+    }
+
+    public int[] getSeats() {
+        return seats;
+    }
+
+    public String getPreviousVersion() {
+        return previousVersion;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
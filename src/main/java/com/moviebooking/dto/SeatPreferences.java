@@ -0,0 +1,29 @@
+package com.moviebooking.dto;
+
+import java.util.List;
+
+public class SeatPreferences {
+
+    public static final String FRONT = "FRONT";
+    public static final String MIDDLE = "MIDDLE";
+    public static final String BACK = "BACK";
+
+    private String rowPosition;
+    private List<String> rows;
+
+    public String getRowPosition() {
+        return rowPosition;
+    }
+
+    public void setRowPosition(String rowPosition) {
+        this.rowPosition = rowPosition;
+    }
+
+    public List<String> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<String> rows) {
+        this.rows = rows;
+    }
+}
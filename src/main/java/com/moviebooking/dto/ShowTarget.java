@@ -0,0 +1,24 @@
+package com.moviebooking.dto;
+
+/** How many shows of a movie a schedule plan should fit in. */
+public class ShowTarget {
+
+    private int movieId;
+    private int shows;
+
+    public int getMovieId() {
+        return movieId;
+    }
+
+    public void setMovieId(int movieId) {
+        this.movieId = movieId;
+    }
+
+    public int getShows() {
+        return shows;
+    }
+
+    public void setShows(int shows) {
+        this.shows = shows;
+    }
+}
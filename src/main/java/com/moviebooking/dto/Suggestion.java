@@ -0,0 +1,54 @@
+package com.moviebooking.dto;
+
+import java.util.Objects;
+
+/**
+ * One autocomplete suggestion: a movie, a theatre or a city. Cities have no
+ * ID; search theatres by city with the label.
+ */
+public class Suggestion {
+
+    public enum Type {
+        MOVIE, THEATRE, CITY
+    }
+
+    private final Type type;
+    private final Integer id;
+    private final String label;
+
+    public Suggestion(Type type, Integer id, String label) {
+        this.type = type;
+        this.id = id;
+        this.label = label;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Suggestion)) {
+            return false;
+        }
+        Suggestion suggestion = (Suggestion) other;
+        return type == suggestion.type && Objects.equals(id, suggestion.id)
+                && Objects.equals(label, suggestion.label);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, id, label);
+    }
+}
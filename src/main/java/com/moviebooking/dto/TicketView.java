@@ -12,8 +12,8 @@ public class TicketView {
     private final int bookingId;
     private final Integer ticketId;
     private final LocalDate bookingDate;
-    private final Integer bookingReference;
-    private final Integer transactionId;
+    private final Long bookingReference;
+    private final Long transactionId;
     private final String transactionMode;
     private final String transactionStatus;
     private final String paymentReference;
@@ -43,8 +43,8 @@ public class TicketView {
             int bookingId,
             Integer ticketId,
             LocalDate bookingDate,
-            Integer bookingReference,
-            Integer transactionId,
+            Long bookingReference,
+            Long transactionId,
             String transactionMode,
             String transactionStatus,
             String paymentReference,
@@ -105,11 +105,11 @@ public class TicketView {
         return bookingDate;
     }
 
-    public Integer getBookingReference() {
+    public Long getBookingReference() {
         return bookingReference;
     }
 
-    public Integer getTransactionId() {
+    public Long getTransactionId() {
         return transactionId;
     }
 
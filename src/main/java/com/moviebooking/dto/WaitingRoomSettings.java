@@ -0,0 +1,23 @@
+package com.moviebooking.dto;
+
+public class WaitingRoomSettings {
+
+    private double admitPerSecond;
+    private int burst;
+
+    public double getAdmitPerSecond() {
+        return admitPerSecond;
+    }
+
+    public void setAdmitPerSecond(double admitPerSecond) {
+        this.admitPerSecond = admitPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+}
@@ -0,0 +1,63 @@
+package com.moviebooking.dto;
+
+/**
+ * A customer's place on a show's waitlist. Once promoted, {@code hold}
+ * carries the seats set aside for them, which they book like any other hold.
+ */
+public class WaitlistEntry {
+
+    public enum Status {
+        WAITING,
+        PROMOTED
+    }
+
+    private final String entryId;
+    private final int showId;
+    private final int customerId;
+    private final int seatCount;
+    private final Status status;
+    private final Integer position;
+    private final SeatHold hold;
+
+    public WaitlistEntry(String entryId, int showId, int customerId, int seatCount, Status status, Integer position,
+            SeatHold hold) {
+        this.entryId = entryId;
+        this.showId = showId;
+        this.customerId = customerId;
+        this.seatCount = seatCount;
+        this.status = status;
+        this.position = position;
+        this.hold = hold;
+    }
+
+    public String getEntryId() {
+        return entryId;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    public int getCustomerId() {
+        return customerId;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Customers ahead in the queue while waiting, {@code null} once promoted.
+     */
+    public Integer getPosition() {
+        return position;
+    }
+
+    public SeatHold getHold() {
+        return hold;
+    }
+}
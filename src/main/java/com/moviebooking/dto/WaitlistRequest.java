@@ -0,0 +1,32 @@
+package com.moviebooking.dto;
+
+public class WaitlistRequest {
+
+    private int customerId;
+    private int seatCount;
+    private SeatPreferences seatPreferences;
+
+    public int getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(int customerId) {
+        this.customerId = customerId;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public void setSeatCount(int seatCount) {
+        this.seatCount = seatCount;
+    }
+
+    public SeatPreferences getSeatPreferences() {
+        return seatPreferences;
+    }
+
+    public void setSeatPreferences(SeatPreferences seatPreferences) {
+        this.seatPreferences = seatPreferences;
+    }
+}
@@ -1,5 +1,6 @@
 package com.moviebooking.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -7,7 +8,11 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "shows")
+@Table(name = "shows", indexes = {
+        @Index(name = "idx_shows_theatre_movie", columnList = "theatre_id, movie_id"),
+        @Index(name = "idx_shows_theatre_start_time", columnList = "theatre_id, show_start_time"),
+        @Index(name = "idx_shows_start_time_movie", columnList = "show_start_time, movie_id")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Show {
     @Id
@@ -47,6 +52,12 @@ public class Show {
     @JsonIgnoreProperties({"shows", "hibernateLazyInitializer", "handler"})
     private Screen screen;
 
+    // Only for fetch joins such as ticket history; API clients already get theatreId.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "theatreId", insertable = false, updatable = false)
+    @JsonIgnore
+    private Theatre theatre;
+
     // Constructors
     public Show() {}
 
@@ -130,4 +141,12 @@ public class Show {
     public void setScreen(Screen screen) {
         this.screen = screen;
     }
+
+    public Theatre getTheatre() {
+        return theatre;
+    }
+
+    public void setTheatre(Theatre theatre) {
+        this.theatre = theatre;
+    }
 }
@@ -0,0 +1,105 @@
+package com.moviebooking.entity;
+
+import com.moviebooking.inventory.SeatState;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * One row per sold seat. The unique (show_id, seat_index) key is what makes
+ * selling a seat twice impossible at the database level, whatever the
+ * application layer does.
+ */
+@Entity
+@Table(name = "show_seat_reservations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_show_seat_reservations_show_seat",
+                columnNames = { "show_id", "seat_index" }),
+        indexes = @Index(name = "idx_show_seat_reservations_booking", columnList = "booking_id"))
+public class ShowSeatReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long reservationId;
+
+    @Column(name = "show_id", nullable = false)
+    private int showId;
+
+    @Column(name = "seat_index", nullable = false)
+    private int seatIndex;
+
+    @Column(name = "seat_number", nullable = false, length = 8)
+    private String seatNumber;
+
+    @Column(name = "booking_id", nullable = false)
+    private int bookingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SeatState status;
+
+    public ShowSeatReservation() {}
+
+    public ShowSeatReservation(int showId, int seatIndex, String seatNumber, int bookingId, SeatState status) {
+        this.showId = showId;
+        this.seatIndex = seatIndex;
+        this.seatNumber = seatNumber;
+        this.bookingId = bookingId;
+        this.status = status;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public void setReservationId(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    public int getShowId() {
+        return showId;
+    }
+
+    public void setShowId(int showId) {
+        this.showId = showId;
+    }
+
+    public int getSeatIndex() {
+        return seatIndex;
+    }
+
+    public void setSeatIndex(int seatIndex) {
+        this.seatIndex = seatIndex;
+    }
+
+    public String getSeatNumber() {
+        return seatNumber;
+    }
+
+    public void setSeatNumber(String seatNumber) {
+        this.seatNumber = seatNumber;
+    }
+
+    public int getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(int bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public SeatState getStatus() {
+        return status;
+    }
+
+    public void setStatus(SeatState status) {
+        this.status = status;
+    }
+}
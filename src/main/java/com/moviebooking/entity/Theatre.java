@@ -6,7 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import java.util.List;
 
 @Entity
-@Table(name = "theatres")
+@Table(name = "theatres", indexes = @Index(name = "idx_theatres_city", columnList = "theatre_city"))
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Theatre {
     @Id
@@ -6,7 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import java.util.List;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = @Index(name = "idx_tickets_booking_ref", columnList = "booking_ref"))
 @JsonIgnoreProperties({"booking", "hibernateLazyInitializer", "handler"})
 public class Ticket {
     @Id
@@ -24,7 +24,7 @@ public class Ticket {
 
     @NotNull(message = "Booking reference is required")
     @Column(nullable = false)
-    private int bookingRef;
+    private long bookingRef;
 
     @NotNull(message = "Ticket status is required")
     @Column(nullable = false)
@@ -36,7 +36,7 @@ public class Ticket {
     // Constructors
     public Ticket() {}
 
-    public Ticket(int noOfSeats, List<String> seatNumber, int bookingRef, boolean ticketStatus) {
+    public Ticket(int noOfSeats, List<String> seatNumber, long bookingRef, boolean ticketStatus) {
         this.noOfSeats = noOfSeats;
         this.seatNumber = seatNumber;
         this.bookingRef = bookingRef;
@@ -68,11 +68,11 @@ public class Ticket {
         this.seatNumber = seatNumber;
     }
 
-    public int getBookingRef() {
+    public long getBookingRef() {
         return bookingRef;
     }
 
-    public void setBookingRef(int bookingRef) {
+    public void setBookingRef(long bookingRef) {
         this.bookingRef = bookingRef;
     }
 
@@ -7,7 +7,7 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "ticket_bookings")
+@Table(name = "ticket_bookings", indexes = @Index(name = "idx_ticket_bookings_transaction_id", columnList = "transaction_id"))
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class TicketBooking {
 
@@ -25,7 +25,7 @@ public class TicketBooking {
 
     @NotNull(message = "Transaction ID is required")
     @Column(nullable = false)
-    private int transactionId;
+    private long transactionId;
 
     @Column(name = "payment_reference", length = 64)
     private String paymentReference;
@@ -61,7 +61,7 @@ public class TicketBooking {
     public TicketBooking() {
     }
 
-    public TicketBooking(int showId, LocalDate bookingDate, int transactionId,
+    public TicketBooking(int showId, LocalDate bookingDate, long transactionId,
             String transactionMode, String transactionStatus, double totalCost) {
         this.showId = showId;
         this.bookingDate = bookingDate;
@@ -96,11 +96,11 @@ public class TicketBooking {
         this.bookingDate = bookingDate;
     }
 
-    public int getTransactionId() {
+    public long getTransactionId() {
         return transactionId;
     }
 
-    public void setTransactionId(int transactionId) {
+    public void setTransactionId(long transactionId) {
         this.transactionId = transactionId;
     }
 
@@ -0,0 +1,20 @@
+package com.moviebooking.exception;
+
+public class IdempotencyKeyException extends RuntimeException {
+
+    public enum Reason {
+        IN_PROGRESS,
+        REUSED
+    }
+
+    private final Reason reason;
+
+    public IdempotencyKeyException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,17 @@
+package com.moviebooking.exception;
+
+import java.util.List;
+
+public class ShowConflictException extends RuntimeException {
+
+    private final List<Integer> conflictingShowIds;
+
+    public ShowConflictException(String message, List<Integer> conflictingShowIds) {
+        super(message);
+        this.conflictingShowIds = List.copyOf(conflictingShowIds);
+    }
+
+    public List<Integer> getConflictingShowIds() {
+        return conflictingShowIds;
+    }
+}
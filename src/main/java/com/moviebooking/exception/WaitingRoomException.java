@@ -0,0 +1,33 @@
+package com.moviebooking.exception;
+
+public class WaitingRoomException extends RuntimeException {
+
+    public enum Reason {
+        NOT_ADMITTED,
+        INVALID_TOKEN,
+        ADMISSION_EXPIRED
+    }
+
+    private final Reason reason;
+    private final long position;
+    private final long retryAfterSeconds;
+
+    public WaitingRoomException(Reason reason, String message, long position, long retryAfterSeconds) {
+        super(message);
+        this.reason = reason;
+        this.position = position;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
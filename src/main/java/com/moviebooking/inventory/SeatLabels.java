@@ -0,0 +1,97 @@
+package com.moviebooking.inventory;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Converts between seat labels ({@code "A1"}, {@code "C12"}, {@code "AA3"}) and
+ * zero-based seat indexes within a screen grid. Rows use spreadsheet-style
+ * letters so layouts with more than 26 rows still get unique labels.
+ */
+public final class SeatLabels {
+
+    private SeatLabels() {
+    }
+
+    /**
+     * Trims and upper-cases seat labels, dropping blanks, in request order.
+     */
+    public static List<String> normalize(Collection<String> labels) {
+        return labels.stream()
+                .filter(seat -> seat != null && !seat.isBlank())
+                .map(seat -> seat.trim().toUpperCase())
+                .toList();
+    }
+
+    /**
+     * Returns the seat index for the label, or {@code -1} when the label is
+     * malformed or falls outside the grid.
+     */
+    public static int toIndex(String label, int rows, int columns) {
+        if (label == null) {
+            return -1;
+        }
+        String seat = label.trim().toUpperCase();
+        int length = seat.length();
+        int pos = 0;
+        int row = 0;
+        while (pos < length && seat.charAt(pos) >= 'A' && seat.charAt(pos) <= 'Z') {
+            row = row * 26 + (seat.charAt(pos) - 'A' + 1);
+            if (row > rows) {
+                return -1;
+            }
+            pos++;
+        }
+        if (pos == 0 || pos == length || length - pos > 4) {
+            return -1;
+        }
+        int column = 0;
+        for (; pos < length; pos++) {
+            char c = seat.charAt(pos);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            column = column * 10 + (c - '0');
+        }
+        if (column < 1 || column > columns) {
+            return -1;
+        }
+        return (row - 1) * columns + (column - 1);
+    }
+
+    /**
+     * Returns the zero-based row for a row label such as {@code "C"} or
+     * {@code "AA"}, or {@code -1} when it is malformed or beyond the grid.
+     */
+    public static int toRow(String label, int rows) {
+        if (label == null || label.isBlank()) {
+            return -1;
+        }
+        int row = 0;
+        for (char c : label.trim().toUpperCase().toCharArray()) {
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+            row = row * 26 + (c - 'A' + 1);
+            if (row > rows) {
+                return -1;
+            }
+        }
+        return row - 1;
+    }
+
+    public static String toLabel(int index, int columns) {
+        return rowLabel(index / columns) + (index % columns + 1);
+    }
+
+    public static String rowLabel(int row) {
+        StringBuilder label = new StringBuilder();
+        int n = row + 1;
+        while (n > 0) {
+            n--;
+            label.append((char) ('A' + n % 26));
+            n /= 26;
+        }
+        return label.reverse().toString();
+    }
+}
@@ -0,0 +1,299 @@
+package com.moviebooking.inventory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Occupancy bitmap for a single show. Seat {@code (row, column)} maps to bit
+ * {@code row * columns + column}, so a 180 seat screen fits in three longs and
+ * conflict checks are a handful of word-level AND operations. The map's own
+ * monitor guards the bits, so contention is confined to a single show.
+ */
+public class SeatMap {
+
+    private final int rows;
+    private final int columns;
+    private final long[] booked;
+    private final long epoch = ThreadLocalRandom.current().nextLong();
+    private long version;
+
+    public SeatMap(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Seat layout must have at least one row and one column");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.booked = new long[wordCount(rows * columns)];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int capacity() {
+        return rows * columns;
+    }
+
+    /**
+     * Builds a request mask from seat labels such as {@code "A1"} or {@code "AB12"}.
+     */
+    public long[] maskOf(Collection<String> seatLabels) {
+        long[] mask = new long[booked.length];
+        for (String label : seatLabels) {
+            int index = SeatLabels.toIndex(label, rows, columns);
+            if (index < 0) {
+                throw new IllegalArgumentException("Seat " + label + " does not exist for this show");
+            }
+            mask[index >>> 6] |= 1L << index;
+        }
+        return mask;
+    }
+
+    /**
+     * Same as {@link #maskOf(Collection)} but skips labels that fall outside the
+     * grid, for replaying seats that were stored before the layout changed.
+     */
+    public long[] maskOfKnownSeats(Collection<String> seatLabels) {
+        long[] mask = new long[booked.length];
+        for (String label : seatLabels) {
+            int index = SeatLabels.toIndex(label, rows, columns);
+            if (index >= 0) {
+                mask[index >>> 6] |= 1L << index;
+            }
+        }
+        return mask;
+    }
+
+    public synchronized List<String> findConflicts(long[] mask) {
+        List<String> conflicts = new ArrayList<>();
+        for (int word = 0; word < booked.length; word++) {
+            long hits = booked[word] & mask[word];
+            while (hits != 0) {
+                int bit = Long.numberOfTrailingZeros(hits);
+                conflicts.add(SeatLabels.toLabel((word << 6) + bit, columns));
+                hits &= hits - 1;
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Atomically occupies every seat in the mask, or none of them. Returns the
+     * conflicting seat labels, which is empty when the reservation succeeded.
+     */
+    public synchronized List<String> tryOccupy(long[] mask) {
+        List<String> conflicts = findConflicts(mask);
+        if (conflicts.isEmpty()) {
+            occupy(mask);
+        }
+        return conflicts;
+    }
+
+    public synchronized void occupy(long[] mask) {
+        boolean changed = false;
+        for (int word = 0; word < booked.length; word++) {
+            long updated = booked[word] | mask[word];
+            changed |= updated != booked[word];
+            booked[word] = updated;
+        }
+        if (changed) {
+            version++;
+        }
+    }
+
+    /**
+     * Moves to a new version without changing any bits, for changes that keep
+     * the seats occupied but alter their state, such as a hold becoming a sale.
+     */
+    public synchronized void touch() {
+        version++;
+    }
+
+    public synchronized void release(long[] mask) {
+        boolean changed = false;
+        for (int word = 0; word < booked.length; word++) {
+            long updated = booked[word] & ~mask[word];
+            changed |= updated != booked[word];
+            booked[word] = updated;
+        }
+        if (changed) {
+            version++;
+        }
+    }
+
+    /**
+     * Finds the best-ranked block of {@code count} adjacent free seats in a
+     * single row and occupies it under the same lock. Free runs are found a
+     * word at a time, and each run only needs its centred position and its two
+     * edges scored. Returns the mask that was occupied, or {@code null} when
+     * no row has enough seats together.
+     */
+    public synchronized long[] occupyBestAvailable(int count, SeatRanking ranking) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Seat count must be at least 1");
+        }
+        if (count > columns) {
+            return null;
+        }
+
+        double bestScore = Double.MAX_VALUE;
+        int bestStart = -1;
+        int centredOffset = (int) Math.round((columns - count) / 2.0);
+        for (int row = 0; row < rows; row++) {
+            if (!ranking.allows(row)) {
+                continue;
+            }
+            int rowStart = row * columns;
+            int rowEnd = rowStart + columns;
+            int position = rowStart;
+            while (position < rowEnd) {
+                int runStart = nextClear(position, rowEnd);
+                if (runStart >= rowEnd) {
+                    break;
+                }
+                int runEnd = nextSet(runStart, rowEnd);
+                if (runEnd - runStart >= count) {
+                    int centred = Math.max(runStart, Math.min(runEnd - count, rowStart + centredOffset));
+                    for (int candidate = 0; candidate < 3; candidate++) {
+                        int start = candidate == 0 ? centred : candidate == 1 ? runStart : runEnd - count;
+                        double score = ranking.score(row, start - rowStart, count,
+                                runStart - rowStart, runEnd - rowStart, rows, columns);
+                        if (score < bestScore) {
+                            bestScore = score;
+                            bestStart = start;
+                        }
+                    }
+                }
+                position = runEnd;
+            }
+        }
+        if (bestStart < 0) {
+            return null;
+        }
+
+        long[] mask = new long[booked.length];
+        for (int index = bestStart; index < bestStart + count; index++) {
+            mask[index >>> 6] |= 1L << index;
+        }
+        occupy(mask);
+        return mask;
+    }
+
+    public synchronized boolean isOccupied(int index) {
+        return (booked[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public synchronized int occupiedCount() {
+        int count = 0;
+        for (long word : booked) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public synchronized String tag() {
+        return Snapshot.tag(epoch, version);
+    }
+
+    public static int[] indexesOf(long[] mask) {
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        int[] indexes = new int[count];
+        int next = 0;
+        for (int word = 0; word < mask.length; word++) {
+            long bits = mask[word];
+            while (bits != 0) {
+                indexes[next++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Captures the occupancy as little-endian bytes (seat {@code i} is bit
+     * {@code i % 8} of byte {@code i / 8}) together with the version it was
+     * taken at.
+     */
+    public synchronized Snapshot snapshot() {
+        byte[] bytes = new byte[(capacity() + 7) >>> 3];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (booked[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return new Snapshot(epoch, version, occupiedCount(), bytes);
+    }
+
+    private int nextClear(int from, int to) {
+        int word = from >>> 6;
+        long free = ~booked[word] & (-1L << from);
+        while (free == 0) {
+            if (++word << 6 >= to) {
+                return to;
+            }
+            free = ~booked[word];
+        }
+        return Math.min(to, (word << 6) + Long.numberOfTrailingZeros(free));
+    }
+
+    private int nextSet(int from, int to) {
+        int word = from >>> 6;
+        long taken = booked[word] & (-1L << from);
+        while (taken == 0) {
+            if (++word << 6 >= to) {
+                return to;
+            }
+            taken = booked[word];
+        }
+        return Math.min(to, (word << 6) + Long.numberOfTrailingZeros(taken));
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    public static final class Snapshot {
+        private final long epoch;
+        private final long version;
+        private final int occupiedCount;
+        private final byte[] bitmap;
+
+        private Snapshot(long epoch, long version, int occupiedCount, byte[] bitmap) {
+            this.epoch = epoch;
+            this.version = version;
+            this.occupiedCount = occupiedCount;
+            this.bitmap = bitmap;
+        }
+
+        /**
+         * Changes whenever the occupancy changes, including across restarts
+         * and reloads, where the version counter starts again from zero.
+         */
+        public String tag() {
+            return tag(epoch, version);
+        }
+
+        private static String tag(long epoch, long version) {
+            return Long.toHexString(epoch) + "-" + version;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public int getOccupiedCount() {
+            return occupiedCount;
+        }
+
+        public byte[] getBitmap() {
+            return bitmap;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.moviebooking.inventory;
+
+import java.util.BitSet;
+
+/**
+ * Scores a block of adjacent seats for best-available allocation; lower is
+ * better. A block loses points for its distance from the preferred row and
+ * from the centre aisle, both as a fraction of the screen, and for leaving a
+ * lone seat that nobody booking in pairs could use.
+ */
+public final class SeatRanking {
+
+    private static final double ROW_WEIGHT = 1.5;
+    private static final double ORPHAN_PENALTY = 0.05;
+
+    private final double idealRowFraction;
+    private final BitSet allowedRows;
+
+    /**
+     * @param idealRowFraction preferred row as a fraction of the depth of the
+     *                         screen, {@code 0} being the front row
+     * @param allowedRows      zero-based rows to choose from, or {@code null}
+     *                         for every row
+     */
+    public SeatRanking(double idealRowFraction, BitSet allowedRows) {
+        this.idealRowFraction = idealRowFraction;
+        this.allowedRows = allowedRows;
+    }
+
+    public boolean allows(int row) {
+        return allowedRows == null || allowedRows.get(row);
+    }
+
+    double score(int row, int start, int count, int runStart, int runEnd, int rows, int columns) {
+        double idealRow = idealRowFraction * (rows - 1);
+        double rowDistance = Math.abs(row - idealRow) / rows;
+        double centreDistance = Math.abs(start + (count - 1) / 2.0 - (columns - 1) / 2.0) / columns;
+        int orphans = (start - runStart == 1 ? 1 : 0) + (runEnd - (start + count) == 1 ? 1 : 0);
+        return ROW_WEIGHT * rowDistance + centreDistance + ORPHAN_PENALTY * orphans;
+    }
+}
@@ -0,0 +1,7 @@
+package com.moviebooking.inventory;
+
+public enum SeatState {
+    HELD,
+    BOOKED,
+    RELEASED
+}
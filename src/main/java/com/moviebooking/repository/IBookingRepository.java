@@ -1,23 +1,119 @@
 package com.moviebooking.repository;
 
+import com.moviebooking.dto.BookingExportRow;
 import com.moviebooking.dto.MovieBookingSummary;
 import com.moviebooking.entity.TicketBooking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface IBookingRepository extends JpaRepository<TicketBooking, Integer> {
-    List<TicketBooking> findByShowId(int showId);
-    List<TicketBooking> findByShowMovieId(int movieId);
-    List<TicketBooking> findByBookingDate(LocalDate date);
     List<TicketBooking> findByCustomerCustomerId(int customerId);
 
-    @Query("SELECT seat FROM TicketBooking tb JOIN tb.ticket.seatNumber seat WHERE tb.showId = :showId AND UPPER(tb.transactionStatus) <> 'CANCELLED'")
-    List<String> findReservedSeatNumbersByShow(@Param("showId") int showId);
+    /**
+     * All bookings with the ticket, seats, customer and show they serialize,
+     * loaded in one statement rather than one per booking while the response
+     * is written.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"ticket.seatNumber", "customer", "show"})
+    List<TicketBooking> findAll();
+
+    /**
+     * One page of booking IDs. Pages are loaded as IDs first and then by
+     * {@link #findByBookingIdInOrderByBookingIdAsc}, because a limit on a query
+     * that fetches the seat collection would be applied in memory.
+     */
+    @Query("SELECT tb.bookingId FROM TicketBooking tb WHERE tb.bookingId > :after ORDER BY tb.bookingId ASC")
+    List<Integer> findBookingIdsAfter(@Param("after") int after, Pageable page);
+
+    @EntityGraph(attributePaths = {"ticket.seatNumber", "customer", "show"})
+    List<TicketBooking> findByBookingIdInOrderByBookingIdAsc(Collection<Integer> bookingIds);
+
+    // These load everything a TicketView needs, like findTicketHistoryByCustomerId below.
+    @EntityGraph(attributePaths = {"ticket.seatNumber", "show.movie", "show.theatre", "show.screen.theatre"})
+    List<TicketBooking> findByShowIdOrderByBookingIdAsc(int showId);
+
+    @EntityGraph(attributePaths = {"ticket.seatNumber", "show.movie", "show.theatre", "show.screen.theatre"})
+    List<TicketBooking> findByShowMovieIdOrderByBookingIdAsc(int movieId);
+
+    @EntityGraph(attributePaths = {"ticket.seatNumber", "show.movie", "show.theatre", "show.screen.theatre"})
+    List<TicketBooking> findByBookingDateOrderByBookingIdAsc(LocalDate date);
+
+    /**
+     * A customer's bookings with ticket, seats, show, movie, screen and
+     * theatre fetched in the same statement, so building ticket views needs
+     * no further queries however long the history is.
+     */
+    @Query("""
+        SELECT DISTINCT tb FROM TicketBooking tb
+        LEFT JOIN FETCH tb.ticket t
+        LEFT JOIN FETCH t.seatNumber
+        LEFT JOIN FETCH tb.show s
+        LEFT JOIN FETCH s.movie
+        LEFT JOIN FETCH s.theatre
+        LEFT JOIN FETCH s.screen sc
+        LEFT JOIN FETCH sc.theatre
+        WHERE tb.customer.customerId = :customerId
+    """)
+    List<TicketBooking> findTicketHistoryByCustomerId(@Param("customerId") int customerId);
+
+    @Query("""
+        SELECT tb FROM TicketBooking tb
+        JOIN FETCH tb.ticket t
+        LEFT JOIN FETCH t.seatNumber
+        LEFT JOIN FETCH tb.show s
+        LEFT JOIN FETCH s.movie
+        LEFT JOIN FETCH s.theatre
+        LEFT JOIN FETCH s.screen sc
+        LEFT JOIN FETCH sc.theatre
+        WHERE t.bookingRef = :bookingRef
+        ORDER BY tb.bookingId
+    """)
+    // A list, not an Optional: legacy random references were never unique, so one may match several bookings.
+    List<TicketBooking> findByTicketBookingRef(@Param("bookingRef") long bookingRef);
+
+    @Query("SELECT tb.showId FROM TicketBooking tb WHERE tb.bookingId = :bookingId")
+    Optional<Integer> findShowIdByBookingId(@Param("bookingId") int bookingId);
+
+    /**
+     * Cancels the booking in a single statement without loading it. Returns
+     * 0 when the booking does not exist or was already cancelled.
+     */
+    @Modifying
+    @Query("""
+        UPDATE TicketBooking tb SET tb.transactionStatus = 'CANCELLED'
+        WHERE tb.bookingId = :bookingId AND UPPER(tb.transactionStatus) <> 'CANCELLED'
+    """)
+    int markCancelled(@Param("bookingId") int bookingId);
+
+    /**
+     * Active seats from the legacy {@code ticket_seats} collection as
+     * {@code [bookingId, showId, seatNumber, screenRows, screenColumns]}.
+     */
+    @Query("""
+        SELECT tb.bookingId, s.showId, seat, sc.rows, sc.columns
+        FROM TicketBooking tb
+        JOIN tb.show s
+        JOIN s.screen sc
+        JOIN tb.ticket.seatNumber seat
+        WHERE UPPER(tb.transactionStatus) <> 'CANCELLED'
+        ORDER BY tb.bookingId ASC
+    """)
+    List<Object[]> findLegacySeatAssignments();
 
     @Query("""
         SELECT new com.moviebooking.dto.MovieBookingSummary(
@@ -37,6 +133,42 @@ public interface IBookingRepository extends JpaRepository<TicketBooking, Integer
     """)
     List<MovieBookingSummary> summarizeBookingsByMovie();
 
+    /**
+     * Active bookings per theatre as {@code [theatreId, count]} rows.
+     */
+    @Query("""
+        SELECT s.theatreId, COUNT(tb)
+        FROM TicketBooking tb
+        JOIN tb.show s
+        WHERE UPPER(tb.transactionStatus) <> 'CANCELLED'
+        GROUP BY s.theatreId
+    """)
+    List<Object[]> countBookingsByTheatre();
+
+    /**
+     * Bookings in ID order as export rows, read through a forward-only cursor.
+     * Null filters match everything. The stream holds a connection open, so
+     * it must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.moviebooking.dto.BookingExportRow(
+            tb.bookingId, tb.bookingDate, tb.showId, s.theatreId, s.movieId, c.customerId,
+            tb.transactionId, tb.transactionMode, tb.transactionStatus, tb.totalCost,
+            t.noOfSeats, tb.paymentReference
+        )
+        FROM TicketBooking tb
+        JOIN tb.show s
+        LEFT JOIN tb.customer c
+        LEFT JOIN tb.ticket t
+        WHERE (:from IS NULL OR tb.bookingDate >= :from)
+          AND (:to IS NULL OR tb.bookingDate <= :to)
+          AND (:theatreId IS NULL OR s.theatreId = :theatreId)
+        ORDER BY tb.bookingId ASC
+    """)
+    Stream<BookingExportRow> streamExportRows(@Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("theatreId") Integer theatreId);
+
     @Query("SELECT SUM(tb.totalCost) FROM TicketBooking tb WHERE tb.bookingId = :bookingId")
     double calculateTotalCost(@Param("bookingId") int bookingId);
 }
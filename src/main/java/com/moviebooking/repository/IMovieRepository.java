@@ -1,9 +1,13 @@
 package com.moviebooking.repository;
 
 import com.moviebooking.entity.Movie;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,4 +15,15 @@ public interface IMovieRepository extends JpaRepository<Movie, Integer> {
     List<Movie> findByMovieNameContainingIgnoreCase(String movieName);
     List<Movie> findByMovieGenre(String genre);
     List<Movie> findByLanguage(String language);
+    List<Movie> findByMovieIdGreaterThanOrderByMovieIdAsc(int movieId, Pageable page);
+
+    // The subqueries are answered from the (theatre_id, movie_id) and (show_start_time, movie_id) indexes on shows.
+    @Query("SELECT m FROM Movie m WHERE m.movieId IN "
+            + "(SELECT s.movieId FROM Show s WHERE s.theatreId = :theatreId) ORDER BY m.movieId")
+    List<Movie> findShowingAtTheatre(@Param("theatreId") int theatreId);
+
+    @Query("SELECT m FROM Movie m WHERE m.movieId IN "
+            + "(SELECT s.movieId FROM Show s WHERE s.showStartTime >= :start AND s.showStartTime < :end) "
+            + "ORDER BY m.movieId")
+    List<Movie> findShowingBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 }
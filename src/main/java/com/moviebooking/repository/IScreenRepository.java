@@ -1,6 +1,7 @@
 package com.moviebooking.repository;
 
 import com.moviebooking.entity.Screen;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -9,4 +10,5 @@ import java.util.List;
 public interface IScreenRepository extends JpaRepository<Screen, Integer> {
     List<Screen> findByTheatreId(int theatreId);
     List<Screen> findByScreenName(String screenName);
+    List<Screen> findByScreenIdGreaterThanOrderByScreenIdAsc(int screenId, Pageable page);
 }
@@ -1,21 +1,44 @@
 package com.moviebooking.repository;
 
 import com.moviebooking.entity.Show;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface IShowRepository extends JpaRepository<Show, Integer> {
     List<Show> findByTheatreId(int theatreId);
     List<Show> findByScreenId(int screenId);
+    List<Show> findByShowIdGreaterThanOrderByShowIdAsc(int showId, Pageable page);
 
-    @Query("SELECT s FROM Show s WHERE DATE(s.showStartTime) = :date")
-    List<Show> findByShowDate(@Param("date") LocalDate date);
+    // Half-open ranges on the bare column, so lookups are range scans of the show_start_time indexes.
+    @Query("SELECT s FROM Show s WHERE s.showStartTime >= :start AND s.showStartTime < :end "
+            + "AND (:movieId IS NULL OR s.movieId = :movieId) ORDER BY s.showStartTime, s.showId")
+    List<Show> findStartingBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+            @Param("movieId") Integer movieId);
+
+    @Query("SELECT s FROM Show s WHERE s.theatreId IN :theatreIds "
+            + "AND s.showStartTime >= :start AND s.showStartTime < :end "
+            + "AND (:movieId IS NULL OR s.movieId = :movieId) ORDER BY s.showStartTime, s.showId")
+    List<Show> findAtTheatresStartingBetween(@Param("theatreIds") Collection<Integer> theatreIds,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("movieId") Integer movieId);
 
     @Query("SELECT s FROM Show s WHERE s.movie.movieId = :movieId")
     List<Show> findByMovieId(@Param("movieId") int movieId);
+
+    // IDs of the shows that deleting a movie, screen or theatre removes by cascade.
+    @Query("SELECT s.showId FROM Show s WHERE s.movieId = :movieId")
+    List<Integer> findShowIdsByMovieId(@Param("movieId") int movieId);
+
+    @Query("SELECT s.showId FROM Show s WHERE s.screenId = :screenId")
+    List<Integer> findShowIdsByScreenId(@Param("screenId") int screenId);
+
+    @Query("SELECT s.showId FROM Show s WHERE s.screenId IN "
+            + "(SELECT sc.screenId FROM Screen sc WHERE sc.theatreId = :theatreId)")
+    List<Integer> findShowIdsByTheatreId(@Param("theatreId") int theatreId);
 }
@@ -0,0 +1,22 @@
+package com.moviebooking.repository;
+
+import com.moviebooking.entity.ShowSeatReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface IShowSeatReservationRepository extends JpaRepository<ShowSeatReservation, Long> {
+
+    @Query("SELECT r.seatNumber FROM ShowSeatReservation r WHERE r.showId = :showId")
+    List<String> findSeatNumbersByShowId(@Param("showId") int showId);
+
+    List<ShowSeatReservation> findByBookingId(int bookingId);
+
+    @Modifying
+    @Query("DELETE FROM ShowSeatReservation r WHERE r.bookingId = :bookingId")
+    int deleteByBookingId(@Param("bookingId") int bookingId);
+}
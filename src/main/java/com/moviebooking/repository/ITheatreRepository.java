@@ -1,13 +1,21 @@
 package com.moviebooking.repository;
 
 import com.moviebooking.entity.Theatre;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ITheatreRepository extends JpaRepository<Theatre, Integer> {
     List<Theatre> findByTheatreCity(String city);
+
+    @Query("SELECT t.theatreId FROM Theatre t WHERE t.theatreCity = :city")
+    List<Integer> findIdsByTheatreCity(@Param("city") String city);
+
     List<Theatre> findByTheatreNameContainingIgnoreCase(String name);
     boolean existsByTheatreName(String theatreName);
+    List<Theatre> findByTheatreIdGreaterThanOrderByTheatreIdAsc(int theatreId, Pageable page);
 }
@@ -0,0 +1,37 @@
+package com.moviebooking.schedule;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the free-text {@code Movie.movieHours} runtimes such as
+ * {@code "2h 28m"}, {@code "3h"} or {@code "95 min"}.
+ */
+public final class MovieRuntime {
+
+    private static final Pattern RUNTIME = Pattern.compile(
+            "\\s*(?:(\\d+)\\s*h(?:ours?|rs?)?)?\\s*(?:(\\d+)\\s*m(?:in(?:utes?|s)?)?)?\\s*",
+            Pattern.CASE_INSENSITIVE);
+
+    private MovieRuntime() {
+    }
+
+    /**
+     * Throws {@link IllegalArgumentException} for text that is not a positive
+     * number of hours and minutes.
+     */
+    public static Duration parse(String movieHours) {
+        Matcher matcher = movieHours == null ? null : RUNTIME.matcher(movieHours);
+        if (matcher == null || !matcher.matches() || (matcher.group(1) == null && matcher.group(2) == null)) {
+            throw new IllegalArgumentException("Unrecognised movie runtime: " + movieHours);
+        }
+        long hours = matcher.group(1) == null ? 0 : Long.parseLong(matcher.group(1));
+        long minutes = matcher.group(2) == null ? 0 : Long.parseLong(matcher.group(2));
+        Duration runtime = Duration.ofHours(hours).plusMinutes(minutes);
+        if (runtime.isZero()) {
+            throw new IllegalArgumentException("Movie runtime must be positive: " + movieHours);
+        }
+        return runtime;
+    }
+}
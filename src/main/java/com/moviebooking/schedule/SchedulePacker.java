@@ -0,0 +1,248 @@
+package com.moviebooking.schedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Greedy planner that packs shows onto screens day by day. Each day every
+ * movie is due its remaining target spread over the remaining days, so a
+ * shortfall on a full day carries over to the next. The day's shows are taken
+ * round-robin across movies, longest first within a round, and each goes on
+ * the screen where it can start earliest: screens fill back to back from
+ * opening, separated only by the turnaround, and each movie's shows spread
+ * through the day instead of bunching at opening time. A show that fits
+ * nowhere is skipped so that a shorter one can still use the end of the day.
+ *
+ * <p>Existing shows block their screen for their run plus the turnaround on
+ * either side. Starts are rounded up to whole multiples of the step (five
+ * minutes, say) so that listings show tidy times.
+ */
+public class SchedulePacker {
+
+    private final long turnaround;
+    private final long step;
+
+    public SchedulePacker(Duration turnaround, Duration step) {
+        if (turnaround.isNegative() || step.toMinutes() < 1) {
+            throw new IllegalArgumentException("Turnaround must not be negative and the step must be a whole minute");
+        }
+        this.turnaround = turnaround.toMinutes();
+        this.step = step.toMinutes();
+    }
+
+    /**
+     * Plans the shows of {@code targets} on {@code screenIds} within the
+     * opening window of each day, around the {@code busy} shows already on
+     * each screen.
+     */
+    public Plan pack(List<Integer> screenIds, List<Interval> days, List<Target> targets,
+            Map<Integer, List<Interval>> busy) {
+        List<Target> movies = new ArrayList<>(targets);
+        movies.sort(Comparator.comparing(Target::getRuntime).reversed().thenComparingInt(Target::getMovieId));
+        int[] remaining = new int[movies.size()];
+        long[] runtimes = new long[movies.size()];
+        for (int i = 0; i < movies.size(); i++) {
+            remaining[i] = movies.get(i).getShows();
+            runtimes[i] = movies.get(i).getRuntime().toMinutes();
+        }
+        long[][] blocked = new long[screenIds.size()][];
+        for (int s = 0; s < screenIds.size(); s++) {
+            blocked[s] = blocked(busy.getOrDefault(screenIds.get(s), List.of()));
+        }
+
+        List<Slot> slots = new ArrayList<>();
+        long[] cursors = new long[screenIds.size()];
+        for (int day = 0; day < days.size(); day++) {
+            long open = minutes(days.get(day).getStart());
+            long close = minutes(days.get(day).getEnd());
+            Arrays.fill(cursors, open);
+            int daysLeft = days.size() - day;
+            int[] due = new int[movies.size()];
+            int rounds = 0;
+            for (int i = 0; i < movies.size(); i++) {
+                due[i] = (remaining[i] + daysLeft - 1) / daysLeft;
+                rounds = Math.max(rounds, due[i]);
+            }
+            for (int round = 0; round < rounds; round++) {
+                for (int i = 0; i < movies.size(); i++) {
+                    if (due[i] <= round) {
+                        continue;
+                    }
+                    int bestScreen = -1;
+                    long bestStart = Long.MAX_VALUE;
+                    for (int s = 0; s < cursors.length; s++) {
+                        long start = earliestStart(blocked[s], cursors[s], runtimes[i]);
+                        if (start + runtimes[i] <= close && start < bestStart) {
+                            bestScreen = s;
+                            bestStart = start;
+                        }
+                    }
+                    if (bestScreen < 0) {
+                        continue;
+                    }
+                    long end = bestStart + runtimes[i];
+                    cursors[bestScreen] = end + turnaround;
+                    remaining[i]--;
+                    slots.add(new Slot(screenIds.get(bestScreen), movies.get(i).getMovieId(), time(bestStart),
+                            time(end)));
+                }
+            }
+        }
+
+        Map<Integer, Integer> unplaced = new LinkedHashMap<>();
+        for (int i = 0; i < movies.size(); i++) {
+            if (remaining[i] > 0) {
+                unplaced.put(movies.get(i).getMovieId(), remaining[i]);
+            }
+        }
+        return new Plan(slots, unplaced);
+    }
+
+    // The first step-aligned start at or after cursor that keeps the turnaround clear of every blocked interval.
+    private long earliestStart(long[] blocked, long cursor, long runtime) {
+        long start = roundUp(cursor);
+        for (int b = 0; b < blocked.length; b += 2) {
+            if (blocked[b] >= start + runtime + turnaround) {
+                break;
+            }
+            if (blocked[b + 1] + turnaround > start) {
+                start = roundUp(blocked[b + 1] + turnaround);
+            }
+        }
+        return start;
+    }
+
+    private long roundUp(long minute) {
+        return Math.floorDiv(minute + step - 1, step) * step;
+    }
+
+    // Busy intervals as sorted [start, end] minute pairs.
+    private static long[] blocked(List<Interval> intervals) {
+        List<Interval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(Interval::getStart));
+        long[] blocked = new long[sorted.size() * 2];
+        for (int i = 0; i < sorted.size(); i++) {
+            // Widened to whole minutes, so a show ending at hh:mm:30 is treated as ending at the next minute.
+            blocked[2 * i] = minutes(sorted.get(i).getStart());
+            blocked[2 * i + 1] = minutesRoundedUp(sorted.get(i).getEnd());
+        }
+        return blocked;
+    }
+
+    private static long minutes(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static long minutesRoundedUp(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC) + 59, 60);
+    }
+
+    private static LocalDateTime time(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+
+    public static final class Interval {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        public Interval(LocalDateTime start, LocalDateTime end) {
+            if (!start.isBefore(end)) {
+                throw new IllegalArgumentException("Interval must end after it starts");
+            }
+            this.start = start;
+            this.end = end;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+    }
+
+    public static final class Target {
+        private final int movieId;
+        private final Duration runtime;
+        private final int shows;
+
+        public Target(int movieId, Duration runtime, int shows) {
+            if (runtime.toMinutes() < 1 || shows < 0) {
+                throw new IllegalArgumentException("Runtime must be at least a minute and shows must not be negative");
+            }
+            this.movieId = movieId;
+            this.runtime = runtime;
+            this.shows = shows;
+        }
+
+        public int getMovieId() {
+            return movieId;
+        }
+
+        public Duration getRuntime() {
+            return runtime;
+        }
+
+        public int getShows() {
+            return shows;
+        }
+    }
+
+    public static final class Slot {
+        private final int screenId;
+        private final int movieId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private Slot(int screenId, int movieId, LocalDateTime start, LocalDateTime end) {
+            this.screenId = screenId;
+            this.movieId = movieId;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getScreenId() {
+            return screenId;
+        }
+
+        public int getMovieId() {
+            return movieId;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+    }
+
+    public static final class Plan {
+        private final List<Slot> slots;
+        private final Map<Integer, Integer> unplaced;
+
+        private Plan(List<Slot> slots, Map<Integer, Integer> unplaced) {
+            this.slots = slots;
+            this.unplaced = unplaced;
+        }
+
+        /** Planned shows in the order they were placed. */
+        public List<Slot> getSlots() {
+            return slots;
+        }
+
+        /** Shows per movie ID that did not fit, for movies short of their target. */
+        public Map<Integer, Integer> getUnplaced() {
+            return unplaced;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.moviebooking.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Radix trie from keys to weighted values that answers "the {@code k}
+ * heaviest values whose key starts with this prefix". Edges carry whole
+ * substrings, so a key costs one node per branching point rather than one
+ * per character. Each node records the heaviest weight beneath it, so a
+ * completion walks best-first and stops once it has {@code k} values,
+ * touching only the branches that can still contribute.
+ *
+ * <p>A value may be stored under several keys (every word of a title, say);
+ * completions list it once. Reads run concurrently under a read lock.
+ */
+public class CompletionTrie<T> {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node<T> root = new Node<>("");
+
+    /**
+     * Stores {@code value} under {@code key}, replacing its weight if it is
+     * already stored there.
+     */
+    public void put(String key, T value, int weight) {
+        lock.writeLock().lock();
+        try {
+            List<Node<T>> path = new ArrayList<>();
+            Node<T> node = root;
+            path.add(node);
+            int index = 0;
+            while (index < key.length()) {
+                int position = node.childIndex(key.charAt(index));
+                if (position < 0) {
+                    Node<T> leaf = new Node<>(key.substring(index));
+                    node.insertChild(-position - 1, leaf);
+                    node = leaf;
+                    path.add(node);
+                    break;
+                }
+                Node<T> child = node.children.get(position);
+                int common = commonPrefix(child.label, key, index);
+                if (common < child.label.length()) {
+                    Node<T> split = new Node<>(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children = new ArrayList<>(List.of(child));
+                    split.maxWeight = child.maxWeight;
+                    node.children.set(position, split);
+                    child = split;
+                }
+                node = child;
+                path.add(node);
+                index += common;
+            }
+            node.entries = node.entries == null ? new ArrayList<>() : node.entries;
+            node.entries.removeIf(entry -> entry.value.equals(value));
+            node.entries.add(new Entry<>(value, weight));
+            updateWeights(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes {@code value} from {@code key}; returns whether it was there.
+     */
+    public boolean remove(String key, T value) {
+        lock.writeLock().lock();
+        try {
+            List<Node<T>> path = new ArrayList<>();
+            Node<T> node = root;
+            path.add(node);
+            int index = 0;
+            while (index < key.length()) {
+                int position = node.childIndex(key.charAt(index));
+                if (position < 0) {
+                    return false;
+                }
+                node = node.children.get(position);
+                if (!key.startsWith(node.label, index)) {
+                    return false;
+                }
+                path.add(node);
+                index += node.label.length();
+            }
+            if (node.entries == null || !node.entries.removeIf(entry -> entry.value.equals(value))) {
+                return false;
+            }
+            if (node.entries.isEmpty()) {
+                node.entries = null;
+            }
+            prune(path);
+            updateWeights(path);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} distinct values stored under keys starting with
+     * {@code prefix}, heaviest first.
+     */
+    public List<T> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node<T> node = root;
+            int index = 0;
+            while (index < prefix.length()) {
+                int position = node.childIndex(prefix.charAt(index));
+                if (position < 0) {
+                    return List.of();
+                }
+                node = node.children.get(position);
+                int common = commonPrefix(node.label, prefix, index);
+                if (index + common == prefix.length()) {
+                    break;
+                }
+                if (common < node.label.length()) {
+                    return List.of();
+                }
+                index += common;
+            }
+
+            // Nodes are queued at the heaviest weight beneath them, so values come out in weight order.
+            PriorityQueue<Candidate<T>> queue = new PriorityQueue<>(Candidate.heaviestFirst());
+            queue.add(new Candidate<>(node, null, node.maxWeight));
+            Set<T> values = new LinkedHashSet<>();
+            while (!queue.isEmpty() && values.size() < limit) {
+                Candidate<T> next = queue.poll();
+                if (next.entry != null) {
+                    values.add(next.entry.value);
+                    continue;
+                }
+                if (next.node.entries != null) {
+                    for (Entry<T> entry : next.node.entries) {
+                        queue.add(new Candidate<>(null, entry, entry.weight));
+                    }
+                }
+                if (next.node.children != null) {
+                    for (Node<T> child : next.node.children) {
+                        queue.add(new Candidate<>(child, null, child.maxWeight));
+                    }
+                }
+            }
+            return new ArrayList<>(values);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Drops nodes left without entries or children and merges a bare node into its only child.
+    private void prune(List<Node<T>> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<T> node = path.get(i);
+            Node<T> parent = path.get(i - 1);
+            if (node.entries != null) {
+                return;
+            }
+            if (node.children == null || node.children.isEmpty()) {
+                parent.children.remove(node);
+                if (parent.children.isEmpty()) {
+                    parent.children = null;
+                }
+                path.remove(i);
+            } else if (node.children.size() == 1) {
+                Node<T> child = node.children.get(0);
+                child.label = node.label + child.label;
+                parent.children.set(parent.childIndex(child.label.charAt(0)), child);
+                path.set(i, child);
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static <T> void updateWeights(List<Node<T>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+            int max = 0;
+            if (node.entries != null) {
+                for (Entry<T> entry : node.entries) {
+                    max = Math.max(max, entry.weight);
+                }
+            }
+            if (node.children != null) {
+                for (Node<T> child : node.children) {
+                    max = Math.max(max, child.maxWeight);
+                }
+            }
+            node.maxWeight = max;
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(offset + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static final class Node<T> {
+        private String label;
+        // Sorted by the first character of each child's label; null until the first child.
+        private List<Node<T>> children;
+        private List<Entry<T>> entries;
+        private int maxWeight;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        // Binary search by first character; returns -(insertion point) - 1 when absent.
+        private int childIndex(char first) {
+            if (children == null) {
+                return -1;
+            }
+            int low = 0;
+            int high = children.size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleFirst = children.get(middle).label.charAt(0);
+                if (middleFirst < first) {
+                    low = middle + 1;
+                } else if (middleFirst > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+
+        private void insertChild(int position, Node<T> child) {
+            if (children == null) {
+                children = new ArrayList<>(2);
+            }
+            children.add(position, child);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final int weight;
+
+        private Entry(T value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Candidate<T> {
+        private final Node<T> node;
+        private final Entry<T> entry;
+        private final int weight;
+
+        private Candidate(Node<T> node, Entry<T> entry, int weight) {
+            this.node = node;
+            this.entry = entry;
+            this.weight = weight;
+        }
+
+        // At equal weight a value is taken before a subtree that might hold more of the same weight.
+        private static <T> Comparator<Candidate<T>> heaviestFirst() {
+            return Comparator.<Candidate<T>>comparingInt(candidate -> -candidate.weight)
+                    .thenComparingInt(candidate -> candidate.entry != null ? 0 : 1);
+        }
+    }
+}
@@ -0,0 +1,551 @@
+package com.moviebooking.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.moviebooking.dto.MovieSearchHit;
+import com.moviebooking.entity.Movie;
+
+/**
+ * Inverted index over movie names, genres, languages and descriptions,
+ * ranked with BM25. Field matches are weighted (a word in the name counts
+ * three times, in the genre twice) and summed into one term frequency per
+ * movie.
+ *
+ * <p>Every query word must match, except words found in more than half of
+ * all movies ("the", "of"), which only add to the score once a rarer word
+ * has narrowed the results. The last word also matches as a prefix,
+ * so results follow the user while they type. A word with no exact or
+ * prefix match is looked up in a trigram index of the vocabulary and
+ * matches terms within one edit (two for words of eight letters or more).
+ * Prefix and typo matches score less than exact ones.
+ *
+ * <p>Movies live in dense slots and postings are plain arrays of slots.
+ * A search scores the word with the fewest postings first. Each later word
+ * is either scanned or looked up per remaining candidate, whichever touches
+ * fewer entries. Updates replace a movie's postings in place; searches run
+ * concurrently under a read lock.
+ */
+public class MovieSearchIndex {
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float GENRE_WEIGHT = 2f;
+    private static final float LANGUAGE_WEIGHT = 1f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.9;
+    private static final double TYPO_WEIGHT = 0.7;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_TERMS = 32;
+    private static final int MAX_TYPO_TERMS = 8;
+    private static final int MIN_TYPO_LENGTH = 4;
+    // A per-candidate lookup costs about this many sequential posting reads.
+    private static final int LOOKUP_COST = 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private final Map<Integer, Integer> slotsByMovieId = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private float[] lengths = new float[16];
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+    private double totalLength;
+    private long totalTerms;
+
+    /**
+     * Indexes the movie, replacing whatever was indexed under its ID.
+     */
+    public void put(Movie movie) {
+        Map<String, Float> frequencies = new HashMap<>();
+        addField(frequencies, movie.getMovieName(), NAME_WEIGHT);
+        addField(frequencies, movie.getMovieGenre(), GENRE_WEIGHT);
+        addField(frequencies, movie.getLanguage(), LANGUAGE_WEIGHT);
+        addField(frequencies, movie.getDescription(), DESCRIPTION_WEIGHT);
+        Document document = new Document(movie, frequencies);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(movie.getMovieId());
+            int slot = freeSlots.isEmpty() ? documents.size() : freeSlots.pop();
+            if (slot == documents.size()) {
+                documents.add(document);
+            } else {
+                documents.set(slot, document);
+            }
+            slotsByMovieId.put(movie.getMovieId(), slot);
+            if (slot == lengths.length) {
+                lengths = Arrays.copyOf(lengths, slot * 2);
+            }
+            lengths[slot] = (float) document.length;
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, this::newPostings)
+                    .add(slot, frequency));
+            totalLength += document.length;
+            totalTerms += frequencies.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int movieId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(movieId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with {@code movies}.
+     */
+    public void rebuild(Collection<Movie> movies) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByTrigram.clear();
+            slotsByMovieId.clear();
+            documents.clear();
+            freeSlots.clear();
+            totalLength = 0;
+            totalTerms = 0;
+            movies.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByMovieId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} movies matching every word of the query,
+     * best first; ties go to the lower movie ID.
+     */
+    public List<MovieSearchHit> search(String query, int limit) {
+        List<String> words = SearchText.tokenize(query);
+        if (words.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (slotsByMovieId.isEmpty()) {
+                return List.of();
+            }
+            List<Map<String, Double>> expansions = new ArrayList<>(words.size());
+            for (int i = 0; i < words.size(); i++) {
+                Map<String, Double> terms = expand(words.get(i), i == words.size() - 1);
+                if (terms.isEmpty()) {
+                    return List.of();
+                }
+                expansions.add(terms);
+            }
+            expansions.sort(Comparator.comparingLong(this::postingCount));
+
+            Scratch work = scratch.get();
+            work.ensureCapacity(documents.size());
+            double averageLength = totalLength / slotsByMovieId.size();
+            int candidates = scanFirst(expansions.get(0), work, averageLength);
+            for (int i = 1; i < expansions.size() && candidates > 0; i++) {
+                Map<String, Double> terms = expansions.get(i);
+                long count = postingCount(terms);
+                boolean required = count * 2 <= slotsByMovieId.size();
+                long lookUpCost = (long) candidates * Math.min(terms.size(), averageTerms()) * LOOKUP_COST;
+                candidates = lookUpCost <= count
+                        ? lookUp(terms, work, candidates, averageLength, required)
+                        : scan(terms, work, candidates, averageLength, required);
+            }
+            return top(work, candidates, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Collects every movie the word matches, with its best score over the word's expansions.
+    private int scanFirst(Map<String, Double> terms, Scratch work, double averageLength) {
+        int stamp = work.nextStamp();
+        int count = 0;
+        for (Map.Entry<String, Double> term : terms.entrySet()) {
+            Postings termPostings = postings.get(term.getKey());
+            double idf = idf(termPostings.size);
+            for (int k = 0; k < termPostings.size; k++) {
+                int slot = termPostings.slots[k];
+                double score = score(term.getValue(), idf, termPostings.frequencies[k], slot, averageLength);
+                if (work.stamps[slot] != stamp) {
+                    work.stamps[slot] = stamp;
+                    work.values[slot] = score;
+                    work.candidates[count++] = slot;
+                } else {
+                    work.values[slot] = Math.max(work.values[slot], score);
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            work.scores[i] = work.values[work.candidates[i]];
+        }
+        return count;
+    }
+
+    // Scores the word for each candidate by scanning its postings; best when many candidates remain.
+    private int scan(Map<String, Double> terms, Scratch work, int candidates, double averageLength,
+            boolean required) {
+        int stamp = work.nextStamp();
+        for (int i = 0; i < candidates; i++) {
+            work.stamps[work.candidates[i]] = stamp;
+            work.values[work.candidates[i]] = -1;
+        }
+        for (Map.Entry<String, Double> term : terms.entrySet()) {
+            Postings termPostings = postings.get(term.getKey());
+            double idf = idf(termPostings.size);
+            for (int k = 0; k < termPostings.size; k++) {
+                int slot = termPostings.slots[k];
+                if (work.stamps[slot] == stamp) {
+                    double score = score(term.getValue(), idf, termPostings.frequencies[k], slot, averageLength);
+                    work.values[slot] = Math.max(work.values[slot], score);
+                }
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < candidates; i++) {
+            int slot = work.candidates[i];
+            if (work.values[slot] >= 0 || !required) {
+                work.candidates[kept] = slot;
+                work.scores[kept++] = work.scores[i] + Math.max(0, work.values[slot]);
+            }
+        }
+        return kept;
+    }
+
+    // Scores the word for each candidate by looking it up; best when few candidates remain. In both
+    // this and scan, candidates without the word are dropped only if it is required.
+    private int lookUp(Map<String, Double> terms, Scratch work, int candidates, double averageLength,
+            boolean required) {
+        List<String> keys = new ArrayList<>(terms.keySet());
+        Map<String, double[]> weightAndIdf = new HashMap<>();
+        for (String key : keys) {
+            weightAndIdf.put(key, new double[] {terms.get(key), idf(postings.get(key).size)});
+        }
+        int kept = 0;
+        for (int i = 0; i < candidates; i++) {
+            int slot = work.candidates[i];
+            Map<String, Float> frequencies = documents.get(slot).frequencies;
+            double best = -1;
+            if (frequencies.size() < keys.size()) {
+                // A short prefix can expand to more terms than the movie has; walk the movie's terms instead.
+                for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                    double[] term = weightAndIdf.get(entry.getKey());
+                    if (term != null) {
+                        best = Math.max(best, score(term[0], term[1], entry.getValue(), slot, averageLength));
+                    }
+                }
+            } else {
+                for (String key : keys) {
+                    Float frequency = frequencies.get(key);
+                    if (frequency != null) {
+                        double[] term = weightAndIdf.get(key);
+                        best = Math.max(best, score(term[0], term[1], frequency, slot, averageLength));
+                    }
+                }
+            }
+            if (best >= 0 || !required) {
+                work.candidates[kept] = slot;
+                work.scores[kept++] = work.scores[i] + Math.max(0, best);
+            }
+        }
+        return kept;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (slotsByMovieId.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private double score(double weight, double idf, float frequency, int slot, double averageLength) {
+        double lengthNorm = K1 * (1 - B + B * lengths[slot] / averageLength);
+        return weight * idf * frequency * (K1 + 1) / (frequency + lengthNorm);
+    }
+
+    private int averageTerms() {
+        return Math.max(1, (int) (totalTerms / slotsByMovieId.size()));
+    }
+
+    private long postingCount(Map<String, Double> terms) {
+        long count = 0;
+        for (String term : terms.keySet()) {
+            count += postings.get(term).size;
+        }
+        return count;
+    }
+
+    private Map<String, Double> expand(String word, boolean prefix) {
+        Map<String, Double> terms = new LinkedHashMap<>();
+        if (postings.containsKey(word)) {
+            terms.put(word, 1.0);
+        }
+        if (prefix && word.length() >= MIN_PREFIX_LENGTH) {
+            // Shortest completions first: they are the likeliest next keystrokes.
+            PriorityQueue<String> longestFirst = new PriorityQueue<>(
+                    Comparator.comparingInt(String::length).reversed());
+            for (String term : postings.subMap(word, false, word + Character.MAX_VALUE, false).keySet()) {
+                longestFirst.add(term);
+                if (longestFirst.size() > MAX_PREFIX_TERMS) {
+                    longestFirst.poll();
+                }
+            }
+            longestFirst.forEach(term -> terms.put(term, PREFIX_WEIGHT));
+        }
+        if (terms.isEmpty() && word.length() >= MIN_TYPO_LENGTH) {
+            addTypoMatches(word, terms);
+        }
+        return terms;
+    }
+
+    private void addTypoMatches(String word, Map<String, Double> terms) {
+        int maxEdits = word.length() >= 8 ? 2 : 1;
+        List<String> grams = trigrams(word);
+        // An edit changes at most four trigrams (a swap breaks the two grams on either side), so closer
+        // terms share at least this many. Words too short to guarantee one shared gram check every term.
+        int required = grams.size() - 4 * maxEdits;
+        Map<String, Integer> shared = new HashMap<>();
+        if (required < 1) {
+            for (String term : postings.keySet()) {
+                if (Math.abs(term.length() - word.length()) <= maxEdits) {
+                    shared.put(term, 0);
+                }
+            }
+        } else {
+            for (String gram : grams) {
+                for (String term : termsByTrigram.getOrDefault(gram, Set.of())) {
+                    if (Math.abs(term.length() - word.length()) <= maxEdits) {
+                        shared.merge(term, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        PriorityQueue<Map.Entry<String, Integer>> closest = new PriorityQueue<>(
+                Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        shared.forEach((term, count) -> {
+            if (count >= required) {
+                int distance = editDistance(word, term, maxEdits);
+                if (distance <= maxEdits) {
+                    closest.add(Map.entry(term, distance));
+                }
+            }
+        });
+        for (int i = 0; i < MAX_TYPO_TERMS && !closest.isEmpty(); i++) {
+            Map.Entry<String, Integer> match = closest.poll();
+            terms.put(match.getKey(), Math.pow(TYPO_WEIGHT, match.getValue()));
+        }
+    }
+
+    // Insertion into a sorted buffer of size limit; most candidates fail the first comparison.
+    private List<MovieSearchHit> top(Scratch work, int candidates, int limit) {
+        int[] best = new int[Math.min(limit, candidates)];
+        int size = 0;
+        for (int i = 0; i < candidates; i++) {
+            if (size == best.length && !better(work, i, best[size - 1])) {
+                continue;
+            }
+            int position = size == best.length ? size - 1 : size++;
+            while (position > 0 && better(work, i, best[position - 1])) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = i;
+        }
+        List<MovieSearchHit> hits = new ArrayList<>(size);
+        for (int r = 0; r < size; r++) {
+            Document document = documents.get(work.candidates[best[r]]);
+            hits.add(new MovieSearchHit(document.movieId, document.movieName, document.movieGenre, document.language,
+                    document.imageUrl, work.scores[best[r]]));
+        }
+        return hits;
+    }
+
+    private boolean better(Scratch work, int candidate, int other) {
+        if (work.scores[candidate] != work.scores[other]) {
+            return work.scores[candidate] > work.scores[other];
+        }
+        return documents.get(work.candidates[candidate]).movieId < documents.get(work.candidates[other]).movieId;
+    }
+
+    private void removeLocked(int movieId) {
+        Integer slot = slotsByMovieId.remove(movieId);
+        if (slot == null) {
+            return;
+        }
+        Document document = documents.set(slot, null);
+        freeSlots.push(slot);
+        totalLength -= document.length;
+        totalTerms -= document.frequencies.size();
+        for (String term : document.frequencies.keySet()) {
+            Postings termPostings = postings.get(term);
+            termPostings.remove(slot);
+            if (termPostings.size == 0) {
+                postings.remove(term);
+                for (String gram : trigrams(term)) {
+                    Set<String> terms = termsByTrigram.get(gram);
+                    terms.remove(term);
+                    if (terms.isEmpty()) {
+                        termsByTrigram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private Postings newPostings(String term) {
+        for (String gram : trigrams(term)) {
+            termsByTrigram.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+        }
+        return new Postings();
+    }
+
+    private static void addField(Map<String, Float> frequencies, String text, float weight) {
+        for (String token : SearchText.tokenize(text)) {
+            frequencies.merge(token, weight, Float::sum);
+        }
+    }
+
+    private static List<String> trigrams(String term) {
+        String padded = "^" + term + "$";
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Edit distance counting adjacent swaps as one edit, or {@code max + 1}
+     * once it is certain to exceed {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static final class Document {
+        private final int movieId;
+        private final String movieName;
+        private final String movieGenre;
+        private final String language;
+        private final String imageUrl;
+        private final Map<String, Float> frequencies;
+        private final double length;
+
+        private Document(Movie movie, Map<String, Float> frequencies) {
+            this.movieId = movie.getMovieId();
+            this.movieName = movie.getMovieName();
+            this.movieGenre = movie.getMovieGenre();
+            this.language = movie.getLanguage();
+            this.imageUrl = movie.getImageUrl();
+            this.frequencies = frequencies;
+            this.length = frequencies.values().stream().mapToDouble(Float::doubleValue).sum();
+        }
+    }
+
+    /**
+     * Slots of the movies containing a term, with the term's weighted
+     * frequency in each; unordered, so removal swaps in the last entry.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        private void add(int slot, float frequency) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            slots[size] = slot;
+            frequencies[size++] = frequency;
+        }
+
+        private void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    size--;
+                    slots[i] = slots[size];
+                    frequencies[i] = frequencies[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Per-thread working arrays indexed by slot. A stamp marks which entries
+     * belong to the current pass, so nothing is cleared between searches.
+     */
+    private static final class Scratch {
+        private int[] stamps = new int[0];
+        private double[] values = new double[0];
+        private int[] candidates = new int[0];
+        private double[] scores = new double[0];
+        private int stamp;
+
+        private void ensureCapacity(int slots) {
+            if (stamps.length < slots) {
+                int capacity = Math.max(slots, stamps.length * 2);
+                stamps = Arrays.copyOf(stamps, capacity);
+                values = new double[capacity];
+                candidates = new int[capacity];
+                scores = new double[capacity];
+            }
+        }
+
+        private int nextStamp() {
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+            return stamp;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.moviebooking.service;
+
+import java.util.List;
+
+import com.moviebooking.dto.Suggestion;
+import com.moviebooking.entity.Movie;
+import com.moviebooking.entity.Theatre;
+
+public interface IAutocompleteService {
+
+    /**
+     * Movies, theatres and cities with a word starting with the words of
+     * {@code query}, most booked first. Throws
+     * {@link IllegalArgumentException} when {@code limit} is out of range.
+     */
+    List<Suggestion> complete(String query, Integer limit);
+
+    void putMovie(Movie movie);
+
+    void removeMovie(int movieId);
+
+    void putTheatre(Theatre theatre);
+
+    void removeTheatre(int theatreId);
+
+    /**
+     * Reloads suggestions and their booking counts from the database.
+     */
+    void rebuild();
+}
@@ -0,0 +1,18 @@
+package com.moviebooking.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+import com.moviebooking.dto.ExportFormat;
+
+public interface IBookingExportService {
+
+    /**
+     * Writes every booking matching the filters to {@code out}, one row at a
+     * time, and returns the number of rows written. Null filters match all
+     * bookings.
+     */
+    long exportBookings(LocalDate from, LocalDate to, Integer theatreId, ExportFormat format, OutputStream out)
+            throws IOException;
+}
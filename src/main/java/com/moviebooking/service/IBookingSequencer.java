@@ -0,0 +1,21 @@
+package com.moviebooking.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.moviebooking.dto.BookingRequest;
+import com.moviebooking.entity.TicketBooking;
+
+/**
+ * Optional single-writer path for bookings. When enabled, every booking and
+ * cancellation for a show is applied by one thread in arrival order, so
+ * requests for a sold-out flash sale queue up instead of fighting over the
+ * same seats.
+ */
+public interface IBookingSequencer {
+
+    boolean isEnabled();
+
+    CompletableFuture<TicketBooking> addBooking(BookingRequest request);
+
+    CompletableFuture<Boolean> cancelBooking(int bookingId);
+}
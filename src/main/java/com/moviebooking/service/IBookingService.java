@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import com.moviebooking.dto.BookingRequest;
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.dto.MovieBookingSummary;
 import com.moviebooking.dto.TicketView;
 import com.moviebooking.entity.TicketBooking;
@@ -14,18 +15,26 @@ public interface IBookingService {
 
     TicketBooking updateBooking(TicketBooking booking);
 
-    TicketBooking cancelBooking(TicketBooking booking);
+    /**
+     * Cancels the booking and frees its seats. Returns {@code false} when it
+     * was already cancelled.
+     */
+    boolean cancelBooking(int bookingId);
 
     List<TicketBooking> showAllBookings();
 
-    List<TicketBooking> showAllBooking(int movieId);
+    CursorPage<TicketBooking> showBookingPage(int after, int limit);
 
-    List<TicketBooking> showAllBooking(LocalDate date);
+    List<TicketView> showAllBooking(int movieId);
 
-    List<TicketBooking> showBookingList(int showId);
+    List<TicketView> showAllBooking(LocalDate date);
+
+    List<TicketView> showBookingList(int showId);
 
     List<TicketView> findBookingsForCustomer(int customerId);
 
+    TicketView findBookingByReference(long bookingReference);
+
     double calculateTotalCost(int bookingId);
 
     List<MovieBookingSummary> summarizeBookingsByMovie();
@@ -0,0 +1,24 @@
+package com.moviebooking.service;
+
+import java.util.function.Supplier;
+
+import com.moviebooking.dto.CacheStats;
+
+public interface ICatalogCacheService {
+
+    /**
+     * Returns the cached value for {@code key}, or runs {@code loader} in a
+     * read-only transaction and caches what it returns. The loader must
+     * initialize every lazy association the caller will read, since the
+     * cached value outlives its session.
+     */
+    <T> T get(String key, Supplier<T> loader);
+
+    /**
+     * Drops every entry. Movies, theatres, screens and shows are serialized
+     * with each other nested inside, so any write invalidates the lot.
+     */
+    void invalidateAll();
+
+    CacheStats getStats();
+}
@@ -0,0 +1,19 @@
+package com.moviebooking.service;
+
+import java.util.Optional;
+
+import com.moviebooking.dto.IdempotentResponse;
+
+public interface IIdempotencyService {
+
+    /**
+     * Returns the stored response when a request with this key already
+     * completed, or empty once the caller owns the key and must either
+     * {@link #complete} or {@link #release} it.
+     */
+    Optional<IdempotentResponse> claim(String key, Object request);
+
+    void complete(String key, Object request, int status, Object responseBody);
+
+    void release(String key);
+}
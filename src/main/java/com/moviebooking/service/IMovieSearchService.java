@@ -0,0 +1,26 @@
+package com.moviebooking.service;
+
+import java.util.List;
+
+import com.moviebooking.dto.MovieSearchHit;
+import com.moviebooking.entity.Movie;
+
+public interface IMovieSearchService {
+
+    /**
+     * Movies matching every word of {@code query}, the last word also as a
+     * prefix, best match first. Throws {@link IllegalArgumentException} when
+     * {@code limit} is out of range.
+     */
+    List<MovieSearchHit> search(String query, Integer limit);
+
+    void index(Movie movie);
+
+    void remove(int movieId);
+
+    /**
+     * Reloads the index from the database, for changes made outside the
+     * movie service.
+     */
+    void rebuild();
+}
@@ -1,5 +1,6 @@
 package com.moviebooking.service;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Movie;
 import java.time.LocalDate;
 import java.util.List;
@@ -10,6 +11,7 @@ public interface IMovieService {
     Movie removeMovie(int movieId);
     Movie viewMovie(int movieId);
     List<Movie> viewMovieList();
+    CursorPage<Movie> viewMoviePage(int after, int limit);
     List<Movie> viewMovieList(int theatreId);
     List<Movie> viewMovieList(LocalDate date);
 }
@@ -0,0 +1,27 @@
+package com.moviebooking.service;
+
+import java.util.Collection;
+
+import com.moviebooking.dto.PriceQuote;
+import com.moviebooking.dto.PriceTable;
+import com.moviebooking.entity.Show;
+
+public interface IPricingService {
+
+    PriceTable getPriceTable(int showId);
+
+    PriceQuote quote(int showId, Collection<String> seatNumbers);
+
+    /**
+     * Current total for the seats, for bookings made without a quote.
+     */
+    double priceSeats(Show show, Collection<String> seatNumbers);
+
+    /**
+     * Returns the quoted total, or throws {@link IllegalArgumentException}
+     * when the quote has expired or was issued for another show or seats.
+     */
+    double redeemQuote(String quoteId, Show show, Collection<String> seatNumbers);
+
+    void evict(int showId);
+}
@@ -0,0 +1,15 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.SchedulePlan;
+import com.moviebooking.dto.ScheduleRequest;
+
+public interface ISchedulePlannerService {
+
+    /**
+     * Packs the requested shows onto the theatre's screens around the shows
+     * already there, and saves them in one batch unless {@code dryRun}.
+     * Throws {@link IllegalArgumentException} for an invalid request, such as
+     * an unknown movie or screen or an unreadable movie runtime.
+     */
+    SchedulePlan plan(ScheduleRequest request, boolean dryRun);
+}
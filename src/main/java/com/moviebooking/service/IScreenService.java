@@ -1,5 +1,6 @@
 package com.moviebooking.service;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Screen;
 import java.util.List;
 
@@ -9,6 +10,7 @@ public interface IScreenService {
     Screen removeScreen(int screenId);
     Screen viewScreen(int screenId);
     List<Screen> viewAllScreens();
+    CursorPage<Screen> viewScreenPage(int after, int limit);
     List<Screen> viewScreensByTheatre(int theatreId);
     List<Screen> viewScreensByName(String screenName);
 }
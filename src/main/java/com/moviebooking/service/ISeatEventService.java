@@ -0,0 +1,14 @@
+package com.moviebooking.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.moviebooking.dto.SeatMapDelta;
+
+public interface ISeatEventService {
+
+    SseEmitter subscribe(int showId);
+
+    boolean hasSubscribers(int showId);
+
+    void publish(SeatMapDelta delta);
+}
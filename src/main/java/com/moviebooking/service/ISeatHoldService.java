@@ -0,0 +1,32 @@
+package com.moviebooking.service;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+
+import com.moviebooking.dto.SeatHold;
+import com.moviebooking.dto.SeatHoldRequest;
+import com.moviebooking.dto.SeatPreferences;
+import com.moviebooking.entity.Show;
+
+public interface ISeatHoldService {
+
+    SeatHold createHold(int showId, SeatHoldRequest request);
+
+    /**
+     * Holds the best block of adjacent seats for the customer, or returns
+     * empty when no row has enough seats together.
+     */
+    Optional<SeatHold> holdBestAvailable(Show show, int customerId, int seatCount, SeatPreferences preferences);
+
+    /**
+     * Frees the hold's seats, or returns false when it has already gone.
+     * Throws {@link IllegalArgumentException} when the hold is another customer's.
+     */
+    boolean releaseHold(int showId, String holdId, int customerId);
+
+    boolean consumeHold(String holdId, int showId, int customerId, Collection<String> seatNumbers);
+
+    /** Registers a callback that receives each show whose seats were just freed by expired holds. */
+    void onHoldsExpired(IntConsumer listener);
+}
@@ -0,0 +1,37 @@
+package com.moviebooking.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.moviebooking.dto.SeatAvailability;
+import com.moviebooking.dto.SeatPreferences;
+import com.moviebooking.entity.Show;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.inventory.SeatState;
+
+public interface ISeatInventoryService {
+
+    SeatMap getSeatMap(Show show);
+
+    SeatAvailability getAvailability(int showId);
+
+    List<String> findUnavailableSeats(Show show, Collection<String> seatNumbers);
+
+    List<String> reserveSeats(Show show, Collection<String> seatNumbers, SeatState state);
+
+    /**
+     * Picks and reserves the best block of adjacent seats, returning their
+     * labels, or an empty list when no row has enough seats together.
+     */
+    List<String> reserveBestAvailable(Show show, int seatCount, SeatPreferences preferences, SeatState state);
+
+    void markBooked(int showId, Collection<String> seatNumbers);
+
+    void markReleased(int showId, Collection<String> seatNumbers);
+
+    /**
+     * Drops the show's seat map, so the next access reloads it from the
+     * screen's current layout. Used once a show is deleted or its layout changes.
+     */
+    void evict(int showId);
+}
@@ -0,0 +1,44 @@
+package com.moviebooking.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import com.moviebooking.entity.Show;
+
+public interface IShowScheduleService {
+
+    /**
+     * Saves {@code show} through {@code save} if its screen is free from the
+     * turnaround before it starts until the turnaround after it ends, and
+     * records the saved show. Throws
+     * {@link com.moviebooking.exception.ShowConflictException} when another
+     * show is in the way and {@link IllegalArgumentException} when the show
+     * does not end after it starts.
+     */
+    Show schedule(Show show, UnaryOperator<Show> save);
+
+    /**
+     * Checks new shows as {@link #schedule} does, and against each other,
+     * then saves them in one call to {@code save} and records them.
+     */
+    List<Show> scheduleAll(List<Show> shows, UnaryOperator<List<Show>> save);
+
+    void unschedule(int showId);
+
+    /**
+     * IDs of the shows running at any time in {@code [from, to)}, on one
+     * screen or on every screen when {@code screenId} is null.
+     */
+    List<Integer> findShowIds(Integer screenId, LocalDateTime from, LocalDateTime to);
+
+    /** The gap kept free between two shows on a screen for cleaning. */
+    Duration getTurnaround();
+
+    /**
+     * Reloads every screen's schedule from the database, for changes made
+     * outside the show service.
+     */
+    void rebuild();
+}
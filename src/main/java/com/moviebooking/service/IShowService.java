@@ -1,7 +1,9 @@
 package com.moviebooking.service;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Show;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface IShowService {
@@ -12,4 +14,20 @@ public interface IShowService {
     List<Show> viewShowList(int theatreId);
     List<Show> viewShowList(LocalDate date);
     List<Show> viewAllShows();
+    CursorPage<Show> viewShowPage(int after, int limit);
+
+    /**
+     * Shows starting in {@code [from, to)}, optionally only in {@code city}
+     * or only of {@code movieId}, ordered by start time. Throws
+     * {@link IllegalArgumentException} for an empty or over-long window.
+     */
+    List<Show> searchShows(LocalDateTime from, LocalDateTime to, String city, Integer movieId);
+
+    /**
+     * Shows running at any time in {@code [from, to)}, or at {@code from}
+     * when {@code to} is null, optionally only on {@code screenId}, ordered
+     * by start time. Throws {@link IllegalArgumentException} for an empty or
+     * over-long window.
+     */
+    List<Show> viewShowsPlaying(LocalDateTime from, LocalDateTime to, Integer screenId);
 }
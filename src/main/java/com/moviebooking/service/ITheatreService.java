@@ -1,5 +1,6 @@
 package com.moviebooking.service;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Theatre;
 import java.util.List;
 
@@ -9,5 +10,6 @@ public interface ITheatreService {
     Theatre removeTheatre(int theatreId);
     Theatre viewTheatre(int theatreId);
     List<Theatre> viewAllTheatres();
+    CursorPage<Theatre> viewTheatrePage(int after, int limit);
     List<Theatre> viewTheatresByCity(String city);
 }
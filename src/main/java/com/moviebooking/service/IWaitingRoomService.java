@@ -0,0 +1,22 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.QueueTicket;
+
+public interface IWaitingRoomService {
+
+    void open(int showId, double admitPerSecond, int burst);
+
+    boolean close(int showId);
+
+    QueueTicket join(int showId, int customerId);
+
+    QueueTicket getTicket(int showId, String token);
+
+    /**
+     * Returns normally when the show has no waiting room or the token has
+     * been admitted; otherwise throws
+     * {@link com.moviebooking.exception.WaitingRoomException}. Never touches
+     * the database.
+     */
+    void checkAdmitted(int showId, int customerId, String token);
+}
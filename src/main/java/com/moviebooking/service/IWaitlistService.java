@@ -0,0 +1,22 @@
+package com.moviebooking.service;
+
+import java.util.List;
+
+import com.moviebooking.dto.SeatHold;
+import com.moviebooking.dto.WaitlistEntry;
+import com.moviebooking.dto.WaitlistRequest;
+
+public interface IWaitlistService {
+
+    WaitlistEntry join(int showId, WaitlistRequest request);
+
+    WaitlistEntry getEntry(int showId, String entryId);
+
+    boolean leave(int showId, String entryId);
+
+    /**
+     * Holds freed seats for the earliest waiting customers they can serve and
+     * returns the holds that were created.
+     */
+    List<SeatHold> promote(int showId);
+}
@@ -0,0 +1,250 @@
+package com.moviebooking.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.dto.MovieBookingSummary;
+import com.moviebooking.dto.Suggestion;
+import com.moviebooking.entity.Movie;
+import com.moviebooking.entity.Theatre;
+import com.moviebooking.repository.IBookingRepository;
+import com.moviebooking.repository.IMovieRepository;
+import com.moviebooking.repository.ITheatreRepository;
+import com.moviebooking.search.CompletionTrie;
+import com.moviebooking.search.SearchText;
+import com.moviebooking.service.IAutocompleteService;
+
+/**
+ * Serves autocomplete from a {@link CompletionTrie} of movie titles, theatre
+ * names and cities. Every word of a label is a key, so "knight" completes
+ * "The Dark Knight". Suggestions are weighted by active bookings (a city by
+ * the bookings of its theatres), counted when the trie is built; movies and
+ * theatres added later start at weight one and keep their weight on update.
+ */
+@Service
+public class AutocompleteServiceImpl implements IAutocompleteService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AutocompleteServiceImpl.class);
+
+    private static final int DEFAULT_LIMIT = 8;
+    private static final int MAX_LIMIT = 20;
+
+    private final IMovieRepository movieRepository;
+    private final ITheatreRepository theatreRepository;
+    private final IBookingRepository bookingRepository;
+    // Replaced whole on rebuild so that completions never see a half-built trie.
+    private volatile Suggestions suggestions = new Suggestions();
+    private volatile boolean loaded;
+
+    @Autowired
+    public AutocompleteServiceImpl(IMovieRepository movieRepository, ITheatreRepository theatreRepository,
+            IBookingRepository bookingRepository) {
+        this.movieRepository = movieRepository;
+        this.theatreRepository = theatreRepository;
+        this.bookingRepository = bookingRepository;
+    }
+
+    @Override
+    public List<Suggestion> complete(String query, Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : limit;
+        if (max < 1 || max > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        ensureLoaded();
+        String prefix = String.join(" ", SearchText.tokenize(query == null ? "" : query));
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        return suggestions.trie.complete(prefix, max);
+    }
+
+    @Override
+    public synchronized void putMovie(Movie movie) {
+        suggestions.putMovie(movie, null);
+    }
+
+    @Override
+    public synchronized void removeMovie(int movieId) {
+        suggestions.removeMovie(movieId);
+    }
+
+    @Override
+    public synchronized void putTheatre(Theatre theatre) {
+        suggestions.putTheatre(theatre, null);
+    }
+
+    @Override
+    public synchronized void removeTheatre(int theatreId) {
+        suggestions.removeTheatre(theatreId);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Integer, Integer> movieWeights = new HashMap<>();
+        for (MovieBookingSummary summary : bookingRepository.summarizeBookingsByMovie()) {
+            movieWeights.put(summary.getMovieId(), weight(summary.getTotalBookings()));
+        }
+        Map<Integer, Integer> theatreWeights = new HashMap<>();
+        for (Object[] row : bookingRepository.countBookingsByTheatre()) {
+            theatreWeights.put(((Number) row[0]).intValue(), weight(((Number) row[1]).longValue()));
+        }
+
+        Suggestions rebuilt = new Suggestions();
+        List<Movie> movies = movieRepository.findAll();
+        for (Movie movie : movies) {
+            rebuilt.putMovie(movie, movieWeights.getOrDefault(movie.getMovieId(), 1));
+        }
+        List<Theatre> theatres = theatreRepository.findAll();
+        for (Theatre theatre : theatres) {
+            rebuilt.putTheatre(theatre, theatreWeights.getOrDefault(theatre.getTheatreId(), 1));
+        }
+        suggestions = rebuilt;
+        loaded = true;
+        LOGGER.info("Loaded autocomplete for {} movies and {} theatres", movies.size(), theatres.size());
+    }
+
+    private void ensureLoaded() {
+        // Checked before locking so that queries never wait behind a rebuild or a write once loaded.
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static int weight(long bookings) {
+        return (int) Math.min(Integer.MAX_VALUE, bookings + 1);
+    }
+
+    private static final class Suggestions {
+        private final CompletionTrie<Suggestion> trie = new CompletionTrie<>();
+        private final Map<Integer, Weighted> movies = new HashMap<>();
+        private final Map<Integer, Weighted> theatres = new HashMap<>();
+        private final Map<Integer, String> theatreCities = new HashMap<>();
+        private final Map<String, City> cities = new HashMap<>();
+
+        private void putMovie(Movie movie, Integer weight) {
+            Weighted previous = movies.remove(movie.getMovieId());
+            if (previous != null) {
+                remove(previous.suggestion);
+            }
+            if (movie.getMovieName() == null) {
+                return;
+            }
+            Weighted current = new Weighted(new Suggestion(Suggestion.Type.MOVIE, movie.getMovieId(),
+                    movie.getMovieName()), weight != null ? weight : previous != null ? previous.weight : 1);
+            movies.put(movie.getMovieId(), current);
+            put(current);
+        }
+
+        private void removeMovie(int movieId) {
+            Weighted previous = movies.remove(movieId);
+            if (previous != null) {
+                remove(previous.suggestion);
+            }
+        }
+
+        private void putTheatre(Theatre theatre, Integer weight) {
+            Weighted previous = theatres.get(theatre.getTheatreId());
+            int current = weight != null ? weight : previous != null ? previous.weight : 1;
+            removeTheatre(theatre.getTheatreId());
+            if (theatre.getTheatreName() != null) {
+                Weighted named = new Weighted(new Suggestion(Suggestion.Type.THEATRE, theatre.getTheatreId(),
+                        theatre.getTheatreName()), current);
+                theatres.put(theatre.getTheatreId(), named);
+                put(named);
+            }
+            String cityKey = key(theatre.getTheatreCity());
+            if (!cityKey.isEmpty()) {
+                City city = cities.computeIfAbsent(cityKey, ignored -> new City(theatre.getTheatreCity()));
+                remove(city.suggestion);
+                city.theatreWeights.put(theatre.getTheatreId(), current);
+                theatreCities.put(theatre.getTheatreId(), cityKey);
+                put(new Weighted(city.suggestion, city.weight()));
+            }
+        }
+
+        private void removeTheatre(int theatreId) {
+            Weighted previous = theatres.remove(theatreId);
+            if (previous != null) {
+                remove(previous.suggestion);
+            }
+            String cityKey = theatreCities.remove(theatreId);
+            City city = cityKey == null ? null : cities.get(cityKey);
+            if (city != null) {
+                remove(city.suggestion);
+                city.theatreWeights.remove(theatreId);
+                if (city.theatreWeights.isEmpty()) {
+                    cities.remove(cityKey);
+                } else {
+                    put(new Weighted(city.suggestion, city.weight()));
+                }
+            }
+        }
+
+        private void put(Weighted weighted) {
+            for (String key : keys(weighted.suggestion.getLabel())) {
+                trie.put(key, weighted.suggestion, weighted.weight);
+            }
+        }
+
+        private void remove(Suggestion suggestion) {
+            for (String key : keys(suggestion.getLabel())) {
+                trie.remove(key, suggestion);
+            }
+        }
+
+        // The label from each word on, so that any word of it can start a completion.
+        private static List<String> keys(String label) {
+            List<String> words = SearchText.tokenize(label);
+            List<String> keys = new ArrayList<>(words.size());
+            for (int i = 0; i < words.size(); i++) {
+                keys.add(String.join(" ", words.subList(i, words.size())));
+            }
+            return keys;
+        }
+
+        private static String key(String label) {
+            return label == null ? "" : String.join(" ", SearchText.tokenize(label));
+        }
+    }
+
+    private static final class Weighted {
+        private final Suggestion suggestion;
+        private final int weight;
+
+        private Weighted(Suggestion suggestion, int weight) {
+            this.suggestion = suggestion;
+            this.weight = weight;
+        }
+    }
+
+    private static final class City {
+        private final Suggestion suggestion;
+        private final Map<Integer, Integer> theatreWeights = new HashMap<>();
+
+        private City(String label) {
+            this.suggestion = new Suggestion(Suggestion.Type.CITY, null, label);
+        }
+
+        private int weight() {
+            long total = 0;
+            for (int weight : theatreWeights.values()) {
+                total += weight;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, total);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.moviebooking.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviebooking.dto.BookingExportRow;
+import com.moviebooking.dto.ExportFormat;
+import com.moviebooking.repository.IBookingRepository;
+import com.moviebooking.service.IBookingExportService;
+
+/**
+ * Streams bookings out of the database and into the response as they are
+ * read. Rows come from a forward-only cursor as plain DTOs and are written
+ * and forgotten one by one, so memory use does not grow with the number of
+ * bookings exported.
+ */
+@Service
+public class BookingExportServiceImpl implements IBookingExportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BookingExportServiceImpl.class);
+
+    static final String CSV_HEADER = "booking_id,booking_date,show_id,theatre_id,movie_id,customer_id,"
+            + "transaction_id,transaction_mode,transaction_status,total_cost,seat_count,payment_reference";
+
+    // Pushes written rows to the client regularly instead of only when the buffer fills.
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final IBookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+
+    public BookingExportServiceImpl(IBookingRepository bookingRepository, ObjectMapper objectMapper) {
+        this.bookingRepository = bookingRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportBookings(LocalDate from, LocalDate to, Integer theatreId, ExportFormat format, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rows = 0;
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<BookingExportRow> stream = bookingRepository.streamExportRows(from, to, theatreId)) {
+            Iterator<BookingExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                BookingExportRow row = iterator.next();
+                writer.write(format == ExportFormat.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        LOGGER.info("Exported {} bookings as {} (from={}, to={}, theatreId={})", rows, format, from, to, theatreId);
+        return rows;
+    }
+
+    private static String toCsv(BookingExportRow row) {
+        return String.join(",",
+                String.valueOf(row.getBookingId()),
+                csvValue(row.getBookingDate()),
+                String.valueOf(row.getShowId()),
+                String.valueOf(row.getTheatreId()),
+                csvValue(row.getMovieId()),
+                csvValue(row.getCustomerId()),
+                String.valueOf(row.getTransactionId()),
+                csvValue(row.getTransactionMode()),
+                csvValue(row.getTransactionStatus()),
+                String.valueOf(row.getTotalCost()),
+                csvValue(row.getSeatCount()),
+                csvValue(row.getPaymentReference()));
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
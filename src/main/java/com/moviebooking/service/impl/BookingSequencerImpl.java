@@ -0,0 +1,84 @@
+package com.moviebooking.service.impl;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.dto.BookingRequest;
+import com.moviebooking.entity.TicketBooking;
+import com.moviebooking.repository.IBookingRepository;
+import com.moviebooking.service.IBookingSequencer;
+import com.moviebooking.service.IBookingService;
+import com.moviebooking.util.SingleWriterSequencer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hashes each show onto one of a fixed number of partitions, each drained by
+ * its own {@link SingleWriterSequencer}. A show's commands therefore always
+ * run on the same thread and commit in the order they were accepted, while
+ * different hot shows proceed in parallel. Each command still runs through
+ * the transactional {@link IBookingService}, one transaction per command.
+ */
+@Service
+public class BookingSequencerImpl implements IBookingSequencer {
+
+    private final IBookingService bookingService;
+    private final IBookingRepository bookingRepository;
+    private final SingleWriterSequencer[] partitions;
+
+    @Autowired
+    public BookingSequencerImpl(IBookingService bookingService, IBookingRepository bookingRepository,
+            @Value("${app.booking.sequencer.enabled:false}") boolean enabled,
+            @Value("${app.booking.sequencer.partitions:4}") int partitionCount,
+            @Value("${app.booking.sequencer.ring-size:1024}") int ringSize) {
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        this.partitions = new SingleWriterSequencer[enabled ? partitionCount : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new SingleWriterSequencer("booking-sequencer-" + i, ringSize);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return partitions.length > 0;
+    }
+
+    @Override
+    public CompletableFuture<TicketBooking> addBooking(BookingRequest request) {
+        if (request == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Booking request must not be null"));
+        }
+        return partitionFor(request.getShowId()).submit(() -> bookingService.addBooking(request));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> cancelBooking(int bookingId) {
+        // The cancel endpoint only knows the booking ID; the show decides the partition.
+        Optional<Integer> showId = bookingRepository.findShowIdByBookingId(bookingId);
+        if (showId.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Booking not found with ID: " + bookingId));
+        }
+        return partitionFor(showId.get()).submit(() -> bookingService.cancelBooking(bookingId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (SingleWriterSequencer partition : partitions) {
+            partition.close();
+        }
+    }
+
+    private SingleWriterSequencer partitionFor(int showId) {
+        if (partitions.length == 0) {
+            throw new IllegalStateException("Booking sequencer is disabled");
+        }
+        // Spread consecutive show IDs, which are usually the same evening's shows, across partitions.
+        int hash = showId * 0x9E3779B9;
+        return partitions[Math.floorMod(hash ^ (hash >>> 16), partitions.length)];
+    }
+}
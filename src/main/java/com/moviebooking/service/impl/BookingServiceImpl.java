@@ -3,37 +3,46 @@ package com.moviebooking.service.impl;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.moviebooking.dto.BookingRequest;
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.dto.MovieBookingSummary;
 import com.moviebooking.dto.TicketView;
 import com.moviebooking.entity.Customer;
 import com.moviebooking.entity.Movie;
 import com.moviebooking.entity.Screen;
 import com.moviebooking.entity.Show;
+import com.moviebooking.entity.ShowSeatReservation;
 import com.moviebooking.entity.Theatre;
 import com.moviebooking.entity.Ticket;
 import com.moviebooking.entity.TicketBooking;
+import com.moviebooking.inventory.SeatLabels;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.inventory.SeatState;
 import com.moviebooking.repository.IBookingRepository;
 import com.moviebooking.repository.ICustomerRepository;
-import com.moviebooking.repository.IMovieRepository;
-import com.moviebooking.repository.IScreenRepository;
 import com.moviebooking.repository.IShowRepository;
-import com.moviebooking.repository.ITheatreRepository;
+import com.moviebooking.repository.IShowSeatReservationRepository;
 import com.moviebooking.service.IBookingService;
+import com.moviebooking.service.IPricingService;
+import com.moviebooking.service.ISeatHoldService;
+import com.moviebooking.service.ISeatInventoryService;
+import com.moviebooking.service.IWaitlistService;
+import com.moviebooking.util.SnowflakeIdGenerator;
+import com.moviebooking.util.TransactionHooks;
 
 @Service
 public class BookingServiceImpl implements IBookingService {
@@ -48,36 +57,52 @@ public class BookingServiceImpl implements IBookingService {
     private IShowRepository showRepository;
 
     @Autowired
-    private IMovieRepository movieRepository;
+    private IShowSeatReservationRepository seatReservationRepository;
 
     @Autowired
-    private ITheatreRepository theatreRepository;
+    private ISeatInventoryService seatInventoryService;
 
     @Autowired
-    private IScreenRepository screenRepository;
+    private ISeatHoldService seatHoldService;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private IWaitlistService waitlistService;
+
+    @Autowired
+    private IPricingService pricingService;
 
     @Override
+    @Transactional
     public TicketBooking addBooking(BookingRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Booking request must not be null");
         }
 
-        if (request.getSeatNumbers() == null || request.getSeatNumbers().isEmpty()) {
-            throw new IllegalArgumentException("At least one seat must be selected");
-        }
+        boolean bestAvailable = (request.getSeatNumbers() == null || request.getSeatNumbers().isEmpty())
+                && request.getSeatCount() != null;
+        Set<String> uniqueSeats = new LinkedHashSet<>();
+        if (bestAvailable) {
+            if (request.getSeatCount() <= 0) {
+                throw new IllegalArgumentException("Seat count must be at least 1");
+            }
+        } else {
+            if (request.getSeatNumbers() == null || request.getSeatNumbers().isEmpty()) {
+                throw new IllegalArgumentException("At least one seat must be selected");
+            }
 
-        List<String> normalizedSeats = request.getSeatNumbers().stream()
-                .filter(seat -> seat != null && !seat.isBlank())
-                .map(seat -> seat.trim().toUpperCase())
-                .collect(Collectors.toList());
+            List<String> normalizedSeats = SeatLabels.normalize(request.getSeatNumbers());
 
-        if (normalizedSeats.isEmpty()) {
-            throw new IllegalArgumentException("At least one seat must be selected");
-        }
+            if (normalizedSeats.isEmpty()) {
+                throw new IllegalArgumentException("At least one seat must be selected");
+            }
 
-        Set<String> uniqueSeats = new LinkedHashSet<>(normalizedSeats);
-        if (uniqueSeats.size() != normalizedSeats.size()) {
-            throw new IllegalArgumentException("Duplicate seats selected. Please review your selection.");
+            uniqueSeats.addAll(normalizedSeats);
+            if (uniqueSeats.size() != normalizedSeats.size()) {
+                throw new IllegalArgumentException("Duplicate seats selected. Please review your selection.");
+            }
         }
 
         Customer customer = customerRepository.findById(request.getCustomerId())
@@ -86,37 +111,43 @@ public class BookingServiceImpl implements IBookingService {
         Show show = showRepository.findById(request.getShowId())
                 .orElseThrow(() -> new IllegalArgumentException("Show not found with ID: " + request.getShowId()));
 
-        List<String> reservedSeats = bookingRepository.findReservedSeatNumbersByShow(show.getShowId())
-                .stream()
-                .filter(seat -> seat != null && !seat.isBlank())
-                .map(seat -> seat.trim().toUpperCase())
-                .collect(Collectors.toList());
-
-        Set<String> reservedSeatSet = new HashSet<>(reservedSeats);
-        Set<String> requestedSeatSet = new HashSet<>(uniqueSeats);
-        requestedSeatSet.retainAll(reservedSeatSet);
-
-        if (!requestedSeatSet.isEmpty()) {
-            List<String> unavailableSeats = requestedSeatSet.stream()
-                    .sorted()
-                    .toList();
-            throw new IllegalArgumentException("Selected seats are no longer available: " + unavailableSeats);
+        // The client's totalCost is never trusted. A quote fixes the price of the seats it
+        // was issued for; without one, seats are charged at the current price.
+        boolean quoted = !bestAvailable && request.getQuoteId() != null && !request.getQuoteId().isBlank();
+        double quotedCost = quoted ? pricingService.redeemQuote(request.getQuoteId(), show, uniqueSeats) : 0;
+
+        boolean seatsHeld = !bestAvailable && request.getHoldId() != null && !request.getHoldId().isBlank()
+                && seatHoldService.consumeHold(request.getHoldId(), show.getShowId(), customer.getCustomerId(), uniqueSeats);
+        if (bestAvailable) {
+            List<String> allocatedSeats = seatInventoryService.reserveBestAvailable(
+                    show, request.getSeatCount(), request.getSeatPreferences(), SeatState.BOOKED);
+            if (allocatedSeats.isEmpty()) {
+                throw new IllegalArgumentException("Not enough seats available together for this show");
+            }
+            uniqueSeats.addAll(allocatedSeats);
+        } else if (!seatsHeld) {
+            List<String> unavailableSeats = seatInventoryService.reserveSeats(show, uniqueSeats, SeatState.BOOKED);
+            if (!unavailableSeats.isEmpty()) {
+                throw new IllegalArgumentException("Selected seats are no longer available: "
+                        + unavailableSeats.stream().sorted().toList());
+            }
         }
+        // From here the seats are occupied in memory; if no booking row commits, nothing backs them.
+        int showId = show.getShowId();
+        TransactionHooks.afterRollback(() -> seatInventoryService.markReleased(showId, uniqueSeats));
 
-        if (request.getTotalCost() <= 0) {
-            throw new IllegalArgumentException("Total cost must be greater than zero");
-        }
+        double totalCost = quoted ? quotedCost : pricingService.priceSeats(show, uniqueSeats);
 
         Ticket ticket = new Ticket();
         ticket.setNoOfSeats(uniqueSeats.size());
         ticket.setSeatNumber(new ArrayList<>(uniqueSeats));
-        ticket.setBookingRef(generateBookingReference());
+        ticket.setBookingRef(idGenerator.nextId());
         ticket.setTicketStatus(true);
 
         TicketBooking booking = new TicketBooking();
         booking.setShowId(show.getShowId());
         booking.setBookingDate(request.getBookingDate() != null ? request.getBookingDate() : LocalDate.now());
-        booking.setTransactionId(generateTransactionId());
+        booking.setTransactionId(idGenerator.nextId());
 
         if (request.getPaymentIntentId() != null && !request.getPaymentIntentId().isBlank()) {
             booking.setPaymentReference(request.getPaymentIntentId());
@@ -128,38 +159,81 @@ public class BookingServiceImpl implements IBookingService {
         }
         booking.setTransactionMode(paymentMode.toUpperCase());
         booking.setTransactionStatus("CONFIRMED");
-        booking.setTotalCost(request.getTotalCost());
+        booking.setTotalCost(totalCost);
         booking.setCustomer(customer);
         booking.setTicket(ticket);
         booking.setShow(show);
         ticket.setBooking(booking);
 
+        TicketBooking savedBooking;
         try {
-            return bookingRepository.save(booking);
+            savedBooking = bookingRepository.save(booking);
+            // Flushed here so a unique-key clash surfaces as a bad request rather than at commit.
+            seatReservationRepository.saveAllAndFlush(reservationsFor(savedBooking, show, uniqueSeats));
         } catch (DataIntegrityViolationException e) {
             throw new IllegalArgumentException("Unable to create booking with provided data", e);
         }
+        if (seatsHeld) {
+            // The seats are already occupied; this only tells watchers the hold became a sale, once it has.
+            TransactionHooks.afterCommit(() -> seatInventoryService.markBooked(showId, uniqueSeats));
+        }
+        return savedBooking;
     }
 
     @Override
+    @Transactional
     public TicketBooking updateBooking(TicketBooking booking) {
         Optional<TicketBooking> existingBooking = bookingRepository.findById(booking.getBookingId());
         if (existingBooking.isPresent()) {
-            return bookingRepository.save(booking);
+            TicketBooking current = existingBooking.get();
+            List<String> previousSeats = activeSeatsOf(current);
+            int previousShowId = current.getShowId();
+            TicketBooking updatedBooking = bookingRepository.save(booking);
+            List<String> updatedSeats = activeSeatsOf(updatedBooking);
+            seatReservationRepository.deleteByBookingId(updatedBooking.getBookingId());
+            if (!updatedSeats.isEmpty()) {
+                Show show = showRepository.findById(updatedBooking.getShowId())
+                        .orElseThrow(() -> new IllegalArgumentException("Show not found with ID: " + updatedBooking.getShowId()));
+                seatReservationRepository.saveAllAndFlush(reservationsFor(updatedBooking, show, updatedSeats));
+            }
+            // New seats are claimed now and handed back on rollback; seats the booking gives up stay sold
+            // until the update commits. Seats it keeps on the same show are left alone.
+            int updatedShowId = updatedBooking.getShowId();
+            boolean sameShow = updatedShowId == previousShowId;
+            List<String> claimed = sameShow ? without(updatedSeats, previousSeats) : updatedSeats;
+            List<String> freed = sameShow ? without(previousSeats, updatedSeats) : previousSeats;
+            seatInventoryService.markBooked(updatedShowId, claimed);
+            TransactionHooks.afterRollback(() -> seatInventoryService.markReleased(updatedShowId, claimed));
+            TransactionHooks.afterCommit(() -> seatInventoryService.markReleased(previousShowId, freed));
+            return updatedBooking;
         } else {
             throw new RuntimeException("Booking not found with ID: " + booking.getBookingId());
         }
     }
 
     @Override
-    public TicketBooking cancelBooking(TicketBooking booking) {
-        Optional<TicketBooking> existingBooking = bookingRepository.findById(booking.getBookingId());
-        if (existingBooking.isPresent()) {
-            booking.setTransactionStatus("CANCELLED");
-            return bookingRepository.save(booking);
-        } else {
-            throw new RuntimeException("Booking not found with ID: " + booking.getBookingId());
+    @Transactional
+    public boolean cancelBooking(int bookingId) {
+        if (bookingRepository.markCancelled(bookingId) == 0) {
+            if (!bookingRepository.existsById(bookingId)) {
+                throw new IllegalArgumentException("Booking not found with ID: " + bookingId);
+            }
+            return false;
         }
+
+        // The conditional update lets exactly one caller through, so the seats are freed once.
+        List<ShowSeatReservation> reservations = seatReservationRepository.findByBookingId(bookingId);
+        if (!reservations.isEmpty()) {
+            seatReservationRepository.deleteByBookingId(bookingId);
+            int showId = reservations.get(0).getShowId();
+            List<String> seats = reservations.stream().map(ShowSeatReservation::getSeatNumber).toList();
+            // Until the delete commits the seats are still sold, so nobody may be handed them yet.
+            TransactionHooks.afterCommit(() -> {
+                seatInventoryService.markReleased(showId, seats);
+                waitlistService.promote(showId);
+            });
+        }
+        return true;
     }
 
     @Override
@@ -168,18 +242,31 @@ public class BookingServiceImpl implements IBookingService {
     }
 
     @Override
-    public List<TicketBooking> showAllBooking(int movieId) {
-        return bookingRepository.findByShowMovieId(movieId);
+    public CursorPage<TicketBooking> showBookingPage(int after, int limit) {
+        CursorPage<Integer> ids = CursorPage.of(bookingRepository.findBookingIdsAfter(after, PageRequest.of(0, limit + 1)),
+                limit, Integer::intValue);
+        List<TicketBooking> bookings = ids.getItems().isEmpty()
+                ? List.of()
+                : bookingRepository.findByBookingIdInOrderByBookingIdAsc(ids.getItems());
+        return new CursorPage<>(bookings, ids.getNextCursor());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TicketView> showAllBooking(int movieId) {
+        return toTicketViews(bookingRepository.findByShowMovieIdOrderByBookingIdAsc(movieId));
     }
 
     @Override
-    public List<TicketBooking> showAllBooking(LocalDate date) {
-        return bookingRepository.findByBookingDate(date);
+    @Transactional(readOnly = true)
+    public List<TicketView> showAllBooking(LocalDate date) {
+        return toTicketViews(bookingRepository.findByBookingDateOrderByBookingIdAsc(date));
     }
 
     @Override
-    public List<TicketBooking> showBookingList(int showId) {
-        return bookingRepository.findByShowId(showId);
+    @Transactional(readOnly = true)
+    public List<TicketView> showBookingList(int showId) {
+        return toTicketViews(bookingRepository.findByShowIdOrderByBookingIdAsc(showId));
     }
 
     @Override
@@ -189,7 +276,7 @@ public class BookingServiceImpl implements IBookingService {
             throw new IllegalArgumentException("Customer not found with ID: " + customerId);
         }
 
-        List<TicketBooking> bookings = bookingRepository.findByCustomerCustomerId(customerId);
+        List<TicketBooking> bookings = bookingRepository.findTicketHistoryByCustomerId(customerId);
         if (bookings.isEmpty()) {
             return List.of();
         }
@@ -210,6 +297,21 @@ public class BookingServiceImpl implements IBookingService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TicketView findBookingByReference(long bookingReference) {
+        List<TicketBooking> bookings = bookingRepository.findByTicketBookingRef(bookingReference);
+        if (bookings.isEmpty()) {
+            throw new IllegalArgumentException("Booking not found with reference: " + bookingReference);
+        }
+        if (bookings.size() > 1) {
+            // Only pre-Snowflake references can repeat; showing one of them could reveal someone else's booking.
+            throw new IllegalStateException("Booking reference " + bookingReference
+                    + " matches more than one booking, please look it up by booking ID");
+        }
+        return mapToTicketView(bookings.get(0));
+    }
+
     @Override
     public double calculateTotalCost(int bookingId) {
         return bookingRepository.calculateTotalCost(bookingId);
@@ -220,12 +322,35 @@ public class BookingServiceImpl implements IBookingService {
         return bookingRepository.summarizeBookingsByMovie();
     }
 
-    private int generateTransactionId() {
-        return ThreadLocalRandom.current().nextInt(100_000, 1_000_000);
+    private List<ShowSeatReservation> reservationsFor(TicketBooking booking, Show show, Collection<String> seats) {
+        SeatMap seatMap = seatInventoryService.getSeatMap(show);
+        List<ShowSeatReservation> reservations = new ArrayList<>(seats.size());
+        for (String seat : seats) {
+            int seatIndex = SeatLabels.toIndex(seat, seatMap.getRows(), seatMap.getColumns());
+            if (seatIndex < 0) {
+                throw new IllegalArgumentException("Seat " + seat + " does not exist for this show");
+            }
+            reservations.add(new ShowSeatReservation(show.getShowId(), seatIndex, seat.trim().toUpperCase(),
+                    booking.getBookingId(), SeatState.BOOKED));
+        }
+        return reservations;
     }
 
-    private int generateBookingReference() {
-        return ThreadLocalRandom.current().nextInt(1_000_000, 9_999_999);
+    private static List<String> without(List<String> seats, List<String> removed) {
+        Set<String> excluded = Set.copyOf(SeatLabels.normalize(removed));
+        return SeatLabels.normalize(seats).stream().filter(seat -> !excluded.contains(seat)).toList();
+    }
+
+    private List<String> activeSeatsOf(TicketBooking booking) {
+        if ("CANCELLED".equalsIgnoreCase(booking.getTransactionStatus())
+                || booking.getTicket() == null || booking.getTicket().getSeatNumber() == null) {
+            return List.of();
+        }
+        return new ArrayList<>(booking.getTicket().getSeatNumber());
+    }
+
+    private List<TicketView> toTicketViews(List<TicketBooking> bookings) {
+        return bookings.stream().map(this::mapToTicketView).collect(Collectors.toList());
     }
 
     private TicketView mapToTicketView(TicketBooking booking) {
@@ -234,10 +359,11 @@ public class BookingServiceImpl implements IBookingService {
                 ? List.copyOf(ticket.getSeatNumber())
                 : List.of();
 
-        Show show = showRepository.findById(booking.getShowId()).orElse(null);
-        Movie movie = resolveMovie(show);
-        Screen screen = resolveScreen(show);
-        Theatre theatre = resolveTheatre(show, screen);
+        // Everything below was fetched with the booking by the finders that feed this method.
+        Show show = booking.getShow();
+        Movie movie = show != null ? show.getMovie() : null;
+        Screen screen = show != null ? show.getScreen() : null;
+        Theatre theatre = show != null ? resolveTheatre(show) : null;
 
         return new TicketView(
                 booking.getBookingId(),
@@ -268,44 +394,10 @@ public class BookingServiceImpl implements IBookingService {
         );
     }
 
-    private Movie resolveMovie(Show show) {
-        if (show == null) {
-            return null;
-        }
-        if (show.getMovie() != null) {
-            return show.getMovie();
-        }
-        Integer movieId = show.getMovieId();
-        if (movieId == null) {
-            return null;
-        }
-        return movieRepository.findById(movieId).orElse(null);
-    }
-
-    private Screen resolveScreen(Show show) {
-        if (show == null) {
-            return null;
-        }
-        if (show.getScreen() != null) {
-            return show.getScreen();
-        }
-        int screenId = show.getScreenId();
-        if (screenId <= 0) {
-            return null;
-        }
-        return screenRepository.findById(screenId).orElse(null);
-    }
-
-    private Theatre resolveTheatre(Show show, Screen screen) {
-        if (show != null && show.getTheatreId() > 0) {
-            Optional<Theatre> theatre = theatreRepository.findById(show.getTheatreId());
-            if (theatre.isPresent()) {
-                return theatre.get();
-            }
-        }
-        if (screen != null && screen.getTheatreId() > 0) {
-            return theatreRepository.findById(screen.getTheatreId()).orElse(null);
+    private Theatre resolveTheatre(Show show) {
+        if (show.getTheatre() != null) {
+            return show.getTheatre();
         }
-        return null;
+        return show.getScreen() != null ? show.getScreen().getTheatre() : null;
     }
 }
@@ -0,0 +1,65 @@
+package com.moviebooking.service.impl;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moviebooking.dto.CacheStats;
+import com.moviebooking.service.ICatalogCacheService;
+import com.moviebooking.util.TinyLfuCache;
+
+/**
+ * Keeps catalog reads (movies, theatres, screens, shows and their filtered
+ * lists) in memory for {@code app.catalog-cache.ttl-seconds}. The catalog is
+ * read on every page of the site and changes a few times a day, so most
+ * requests are served without a query; writes through the catalog services
+ * clear the cache, and the time to live bounds how stale a change made
+ * directly in the database can get.
+ */
+@Service
+public class CatalogCacheServiceImpl implements ICatalogCacheService {
+
+    private final TinyLfuCache<String, Object> cache;
+    private final TransactionOperations readOnlyTransaction;
+
+    @Autowired
+    public CatalogCacheServiceImpl(PlatformTransactionManager transactionManager,
+            @Value("${app.catalog-cache.max-entries:2000}") int maxEntries,
+            @Value("${app.catalog-cache.ttl-seconds:300}") long ttlSeconds) {
+        this(maxEntries, ttlSeconds, readOnly(transactionManager));
+    }
+
+    public CatalogCacheServiceImpl(int maxEntries, long ttlSeconds, TransactionOperations readOnlyTransaction) {
+        this.cache = new TinyLfuCache<>(maxEntries, Duration.ofSeconds(ttlSeconds).toNanos(), System::nanoTime);
+        this.readOnlyTransaction = readOnlyTransaction;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        return (T) cache.get(key, k -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return new CacheStats(cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount(),
+                cache.getRejectionCount(), cache.size(), cache.getMaximumSize());
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
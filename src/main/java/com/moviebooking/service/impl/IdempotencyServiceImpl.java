@@ -0,0 +1,193 @@
+package com.moviebooking.service.impl;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviebooking.dto.IdempotentResponse;
+import com.moviebooking.entity.IdempotencyRecord;
+import com.moviebooking.exception.IdempotencyKeyException;
+import com.moviebooking.repository.IIdempotencyRecordRepository;
+import com.moviebooking.service.IIdempotencyService;
+
+/**
+ * Remembers completed responses by idempotency key. Recent keys sit in a
+ * bounded in-memory map so replays never reach the database; every key is
+ * also written to {@code idempotency_keys} so replays survive a restart or
+ * eviction. All keys share one time to live, so insertion order is expiry
+ * order and the map's head is always the next entry to expire.
+ */
+@Service
+public class IdempotencyServiceImpl implements IIdempotencyService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+
+    private final IIdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final LinkedHashMap<String, IdempotencyRecord> recent = new LinkedHashMap<>();
+    private Instant newestExpiry = Instant.MIN;
+    private volatile Instant nextPurge = Instant.MIN;
+
+    @Autowired
+    public IdempotencyServiceImpl(IIdempotencyRecordRepository recordRepository, ObjectMapper objectMapper,
+            @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this(recordRepository, objectMapper, Clock.systemUTC(), Duration.ofHours(ttlHours), maxEntries);
+    }
+
+    public IdempotencyServiceImpl(IIdempotencyRecordRepository recordRepository, ObjectMapper objectMapper,
+            Clock clock, Duration ttl, int maxEntries) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> claim(String key, Object request) {
+        validate(key);
+        String requestHash = hash(request);
+
+        Optional<IdempotentResponse> stored = replay(key, requestHash);
+        if (stored.isPresent()) {
+            return stored;
+        }
+        if (!inFlight.add(key)) {
+            throw new IdempotencyKeyException(IdempotencyKeyException.Reason.IN_PROGRESS,
+                    "A request with this Idempotency-Key is still being processed");
+        }
+        // The previous owner may have completed between the lookup and the claim.
+        try {
+            stored = replay(key, requestHash);
+        } catch (RuntimeException e) {
+            inFlight.remove(key);
+            throw e;
+        }
+        if (stored.isPresent()) {
+            inFlight.remove(key);
+        }
+        return stored;
+    }
+
+    @Override
+    public void complete(String key, Object request, int status, Object responseBody) {
+        try {
+            Instant now = clock.instant();
+            IdempotencyRecord record = new IdempotencyRecord(key, hash(request), status,
+                    objectMapper.writeValueAsString(responseBody), now, now.plus(ttl));
+            remember(record, now);
+            recordRepository.save(record);
+            purgeExpiredRecords(now);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The booking itself succeeded; losing the replay record must not fail the response.
+            LOGGER.warn("Unable to store response for idempotency key {}", key, e);
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        inFlight.remove(key);
+    }
+
+    private Optional<IdempotentResponse> replay(String key, String requestHash) {
+        Instant now = clock.instant();
+        IdempotencyRecord record;
+        synchronized (recent) {
+            evictExpired(now);
+            record = recent.get(key);
+        }
+        if (record == null) {
+            record = recordRepository.findById(key)
+                    .filter(candidate -> candidate.getExpiresAt().isAfter(now))
+                    .orElse(null);
+            if (record == null) {
+                return Optional.empty();
+            }
+            remember(record, now);
+        }
+
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyException(IdempotencyKeyException.Reason.REUSED,
+                    "Idempotency-Key was already used for a different request");
+        }
+        return Optional.of(new IdempotentResponse(record.getResponseStatus(), record.getResponseBody()));
+    }
+
+    private void remember(IdempotencyRecord record, Instant now) {
+        synchronized (recent) {
+            // A record reloaded from the database can be older than the newest entry; it is left
+            // out rather than break the expiry ordering, and stays one query away.
+            if (record.getExpiresAt().isBefore(newestExpiry)) {
+                return;
+            }
+            newestExpiry = record.getExpiresAt();
+            recent.put(record.getIdempotencyKey(), record);
+            evictExpired(now);
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        Iterator<IdempotencyRecord> iterator = recent.values().iterator();
+        while (iterator.hasNext()) {
+            IdempotencyRecord oldest = iterator.next();
+            if (oldest.getExpiresAt().isAfter(now) && recent.size() <= maxEntries) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private void purgeExpiredRecords(Instant now) {
+        if (now.isBefore(nextPurge)) {
+            return;
+        }
+        nextPurge = now.plus(PURGE_INTERVAL);
+        int purged = recordRepository.deleteExpired(now);
+        if (purged > 0) {
+            LOGGER.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private void validate(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to read booking request", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.moviebooking.service.impl;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.dto.MovieSearchHit;
+import com.moviebooking.entity.Movie;
+import com.moviebooking.repository.IMovieRepository;
+import com.moviebooking.search.MovieSearchIndex;
+import com.moviebooking.service.IMovieSearchService;
+
+/**
+ * Serves movie search from a {@link MovieSearchIndex} held in memory. The
+ * index is loaded once the application is up (after the seed data) and kept
+ * current by {@link MovieServiceImpl}, which reports every add, update and
+ * removal, so a search never touches the database.
+ */
+@Service
+public class MovieSearchServiceImpl implements IMovieSearchService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MovieSearchServiceImpl.class);
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final IMovieRepository movieRepository;
+    private final MovieSearchIndex index = new MovieSearchIndex();
+    private volatile boolean loaded;
+
+    @Autowired
+    public MovieSearchServiceImpl(IMovieRepository movieRepository) {
+        this.movieRepository = movieRepository;
+    }
+
+    @Override
+    public List<MovieSearchHit> search(String query, Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : limit;
+        if (max < 1 || max > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        ensureLoaded();
+        return index.search(query, max);
+    }
+
+    @Override
+    public void index(Movie movie) {
+        index.put(movie);
+    }
+
+    @Override
+    public void remove(int movieId) {
+        index.remove(movieId);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Movie> movies = movieRepository.findAll();
+        index.rebuild(movies);
+        loaded = true;
+        LOGGER.info("Indexed {} movies for search", movies.size());
+    }
+
+    private void ensureLoaded() {
+        // Checked before locking so that searches never wait behind a rebuild once loaded.
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.moviebooking.service.impl;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Movie;
 import com.moviebooking.repository.IMovieRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.IAutocompleteService;
+import com.moviebooking.service.ICatalogCacheService;
+import com.moviebooking.service.IMovieSearchService;
 import com.moviebooking.service.IMovieService;
+import com.moviebooking.service.IPricingService;
+import com.moviebooking.service.ISeatInventoryService;
+import com.moviebooking.service.IShowScheduleService;
+import com.moviebooking.util.TransactionHooks;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.util.List;
@@ -15,16 +26,45 @@ public class MovieServiceImpl implements IMovieService {
     @Autowired
     private IMovieRepository movieRepository;
 
+    @Autowired
+    private ICatalogCacheService catalogCache;
+
+    @Autowired
+    private IMovieSearchService movieSearchService;
+
+    @Autowired
+    private IAutocompleteService autocompleteService;
+
+    @Autowired
+    private IShowRepository showRepository;
+
+    @Autowired
+    private IShowScheduleService showSchedule;
+
+    @Autowired
+    private ISeatInventoryService seatInventoryService;
+
+    @Autowired
+    private IPricingService pricingService;
+
     @Override
     public Movie addMovie(Movie movie) {
-        return movieRepository.save(movie);
+        Movie saved = movieRepository.save(movie);
+        catalogCache.invalidateAll();
+        movieSearchService.index(saved);
+        autocompleteService.putMovie(saved);
+        return saved;
     }
 
     @Override
     public Movie updateMovie(Movie movie) {
         Optional<Movie> existingMovie = movieRepository.findById(movie.getMovieId());
         if (existingMovie.isPresent()) {
-            return movieRepository.save(movie);
+            Movie saved = movieRepository.save(movie);
+            catalogCache.invalidateAll();
+            movieSearchService.index(saved);
+            autocompleteService.putMovie(saved);
+            return saved;
         } else {
             throw new RuntimeException("Movie not found with ID: " + movie.getMovieId());
         }
@@ -34,7 +74,14 @@ public class MovieServiceImpl implements IMovieService {
     public Movie removeMovie(int movieId) {
         Optional<Movie> movie = movieRepository.findById(movieId);
         if (movie.isPresent()) {
+            // The delete cascades to the movie's shows, which must leave the screen schedules too.
+            List<Integer> showIds = showRepository.findShowIdsByMovieId(movieId);
             movieRepository.deleteById(movieId);
+            showIds.forEach(showSchedule::unschedule);
+            TransactionHooks.afterCommit(() -> showIds.forEach(this::evictShowState));
+            catalogCache.invalidateAll();
+            movieSearchService.remove(movieId);
+            autocompleteService.removeMovie(movieId);
             return movie.get();
         } else {
             throw new RuntimeException("Movie not found with ID: " + movieId);
@@ -43,26 +90,56 @@ public class MovieServiceImpl implements IMovieService {
 
     @Override
     public Movie viewMovie(int movieId) {
-        return movieRepository.findById(movieId)
-            .orElseThrow(() -> new RuntimeException("Movie not found with ID: " + movieId));
+        Movie movie = catalogCache.get("movie:" + movieId,
+                () -> initialized(movieRepository.findById(movieId).orElse(null)));
+        if (movie == null) {
+            throw new RuntimeException("Movie not found with ID: " + movieId);
+        }
+        return movie;
     }
 
     @Override
     public List<Movie> viewMovieList() {
-        return movieRepository.findAll();
+        return catalogCache.get("movies", () -> initialized(movieRepository.findAll()));
+    }
+
+    @Override
+    public CursorPage<Movie> viewMoviePage(int after, int limit) {
+        return CursorPage.of(
+                movieRepository.findByMovieIdGreaterThanOrderByMovieIdAsc(after, PageRequest.of(0, limit + 1)),
+                limit, Movie::getMovieId);
     }
 
     @Override
     public List<Movie> viewMovieList(int theatreId) {
-        // This would need additional logic to filter by theatre
-        // For now, returning all movies
-        return movieRepository.findAll();
+        // Cached per theatre; ShowServiceImpl clears the cache whenever a show is added, moved or removed.
+        return catalogCache.get("movies:theatre:" + theatreId,
+                () -> initialized(movieRepository.findShowingAtTheatre(theatreId)));
     }
 
     @Override
     public List<Movie> viewMovieList(LocalDate date) {
-        // This would need additional logic to filter by date
-        // For now, returning all movies
-        return movieRepository.findAll();
+        return catalogCache.get("movies:date:" + date, () -> initialized(
+                movieRepository.findShowingBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay())));
+    }
+
+    private static List<Movie> initialized(List<Movie> movies) {
+        List<Movie> copy = List.copyOf(movies);
+        copy.forEach(MovieServiceImpl::initialized);
+        return copy;
+    }
+
+    // Cached movies outlive their session, so the shows they are serialized with are loaded up front.
+    private static Movie initialized(Movie movie) {
+        if (movie != null) {
+            Hibernate.initialize(movie.getShows());
+        }
+        return movie;
+    }
+
+    // The deleted shows' seat maps and price tables would otherwise stay cached until restart.
+    private void evictShowState(int showId) {
+        seatInventoryService.evict(showId);
+        pricingService.evict(showId);
     }
 }
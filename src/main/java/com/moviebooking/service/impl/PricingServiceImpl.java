@@ -0,0 +1,300 @@
+package com.moviebooking.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moviebooking.dto.PriceQuote;
+import com.moviebooking.dto.PriceTable;
+import com.moviebooking.entity.Show;
+import com.moviebooking.inventory.SeatLabels;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.IPricingService;
+import com.moviebooking.service.ISeatInventoryService;
+import com.moviebooking.util.HmacSigner;
+
+/**
+ * Prices seats per show from a base price per row, scaled by how full the
+ * show is, how soon it starts and how fast it has been selling. Each show's
+ * row prices are computed from its in-memory {@link SeatMap} and cached for
+ * {@code app.pricing.refresh-seconds}, so a quote is a few array lookups and
+ * never a query once the show is known.
+ *
+ * <p>Quotes are signed rather than stored: the quote ID carries the total and
+ * expiry, and its signature covers the show and seats, so a booking can check
+ * it without a lookup. Only redeemed quote IDs are remembered, until they
+ * expire, so a quote pays for one booking; a booking that rolls back hands
+ * its quote back.
+ */
+@Service
+public class PricingServiceImpl implements IPricingService {
+
+    // Above this share of seats taken, prices rise linearly to +50% at a full house.
+    private static final double OCCUPANCY_SURGE_START = 0.5;
+    private static final double OCCUPANCY_SURGE = 0.5;
+    // Seats sold in roughly the last hour, as a share of the house, add up to this much.
+    private static final double MAX_DEMAND_SURGE = 0.25;
+    private static final double DEMAND_DECAY_MS = Duration.ofHours(1).toMillis();
+    private static final double LAST_MINUTE_FACTOR = 1.1;
+    private static final double EARLY_BIRD_FACTOR = 0.9;
+    private static final Duration LAST_MINUTE = Duration.ofHours(3);
+    private static final Duration EARLY_BIRD = Duration.ofDays(7);
+    private static final double PRICE_STEP = 5.0;
+
+    private final IShowRepository showRepository;
+    private final ISeatInventoryService seatInventoryService;
+    private final Map<String, Double> rowBasePrices;
+    private final double defaultPrice;
+    private final double maxMultiplier;
+    private final long refreshMillis;
+    private final Duration quoteLifetime;
+    private final Clock clock;
+    private final HmacSigner signer = new HmacSigner();
+    private final ConcurrentMap<Integer, ShowPricing> shows = new ConcurrentHashMap<>();
+    // Redeemed quote ID -> its expiry in epoch seconds; swept at most once a minute.
+    private final ConcurrentMap<String, Long> redeemedQuotes = new ConcurrentHashMap<>();
+    private volatile long nextSweep;
+
+    @Autowired
+    public PricingServiceImpl(IShowRepository showRepository, ISeatInventoryService seatInventoryService,
+            @Value("${app.pricing.row-prices:A:400,B:300}") String rowPrices,
+            @Value("${app.pricing.default-price:250}") double defaultPrice,
+            @Value("${app.pricing.max-multiplier:2.0}") double maxMultiplier,
+            @Value("${app.pricing.refresh-seconds:30}") long refreshSeconds,
+            @Value("${app.pricing.quote-minutes:15}") long quoteMinutes) {
+        this(showRepository, seatInventoryService, rowPrices, defaultPrice, maxMultiplier, refreshSeconds, quoteMinutes,
+                Clock.systemDefaultZone());
+    }
+
+    public PricingServiceImpl(IShowRepository showRepository, ISeatInventoryService seatInventoryService,
+            String rowPrices, double defaultPrice, double maxMultiplier, long refreshSeconds, long quoteMinutes,
+            Clock clock) {
+        this.showRepository = showRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.rowBasePrices = parseRowPrices(rowPrices);
+        this.defaultPrice = defaultPrice;
+        this.maxMultiplier = maxMultiplier;
+        this.refreshMillis = Duration.ofSeconds(refreshSeconds).toMillis();
+        this.quoteLifetime = Duration.ofMinutes(quoteMinutes);
+        this.clock = clock;
+    }
+
+    @Override
+    public PriceTable getPriceTable(int showId) {
+        ShowPricing pricing = pricingFor(showId);
+        RowPrices table = pricing.current(clock.millis());
+        Map<String, Double> rowPrices = new LinkedHashMap<>();
+        for (int row = 0; row < table.prices.length; row++) {
+            rowPrices.put(SeatLabels.rowLabel(row), table.prices[row]);
+        }
+        return new PriceTable(showId, rowPrices, table.multiplier, toLocalDateTime(Instant.ofEpochMilli(table.computedAt)));
+    }
+
+    @Override
+    public PriceQuote quote(int showId, Collection<String> seatNumbers) {
+        ShowPricing pricing = pricingFor(showId);
+        Map<String, Double> seatPrices = priceEach(pricing, seatNumbers);
+        double total = total(seatPrices);
+
+        Instant expiresAt = clock.instant().plus(quoteLifetime);
+        String payload = Math.round(total * 100) + "-" + expiresAt.getEpochSecond();
+        String quoteId = payload + "." + signer.sign(quoteContext(showId, seatPrices.keySet()), payload);
+        return new PriceQuote(quoteId, showId, seatPrices, total, toLocalDateTime(expiresAt));
+    }
+
+    @Override
+    public double priceSeats(Show show, Collection<String> seatNumbers) {
+        return total(priceEach(pricingFor(show), seatNumbers));
+    }
+
+    @Override
+    public double redeemQuote(String quoteId, Show show, Collection<String> seatNumbers) {
+        int dot = quoteId.lastIndexOf('.');
+        String[] parts = dot > 0 ? quoteId.substring(0, dot).split("-") : new String[0];
+        List<String> seats = SeatLabels.normalize(seatNumbers);
+        if (parts.length != 2 || !signer.verify(quoteContext(show.getShowId(), seats), quoteId.substring(0, dot),
+                quoteId.substring(dot + 1))) {
+            throw new IllegalArgumentException("Price quote does not match this show and seats");
+        }
+        long now = clock.instant().getEpochSecond();
+        long expiresAt = Long.parseLong(parts[1]);
+        if (now > expiresAt) {
+            throw new IllegalArgumentException("Price quote has expired, please request a new one");
+        }
+        sweepRedeemedQuotes(now);
+        if (redeemedQuotes.putIfAbsent(quoteId, expiresAt) != null) {
+            throw new IllegalArgumentException("Price quote has already been used, please request a new one");
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        redeemedQuotes.remove(quoteId);
+                    }
+                }
+            });
+        }
+        return Long.parseLong(parts[0]) / 100.0;
+    }
+
+    @Override
+    public void evict(int showId) {
+        shows.remove(showId);
+    }
+
+    private void sweepRedeemedQuotes(long now) {
+        if (now < nextSweep) {
+            return;
+        }
+        nextSweep = now + 60;
+        redeemedQuotes.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    private ShowPricing pricingFor(int showId) {
+        ShowPricing pricing = shows.get(showId);
+        if (pricing != null) {
+            return pricing;
+        }
+        Show show = showRepository.findById(showId)
+                .orElseThrow(() -> new IllegalArgumentException("Show not found with ID: " + showId));
+        return pricingFor(show);
+    }
+
+    private ShowPricing pricingFor(Show show) {
+        return shows.computeIfAbsent(show.getShowId(), showId -> new ShowPricing(show, seatInventoryService.getSeatMap(show)));
+    }
+
+    private Map<String, Double> priceEach(ShowPricing pricing, Collection<String> seatNumbers) {
+        List<String> seats = seatNumbers == null ? List.of() : SeatLabels.normalize(seatNumbers);
+        if (seats.isEmpty()) {
+            throw new IllegalArgumentException("At least one seat must be selected");
+        }
+        SeatMap seatMap = pricing.seatMap;
+        double[] prices = pricing.current(clock.millis()).prices;
+        Map<String, Double> seatPrices = new LinkedHashMap<>();
+        for (String seat : seats) {
+            int index = SeatLabels.toIndex(seat, seatMap.getRows(), seatMap.getColumns());
+            if (index < 0) {
+                throw new IllegalArgumentException("Seat " + seat + " does not exist for this show");
+            }
+            seatPrices.put(seat, prices[index / seatMap.getColumns()]);
+        }
+        return seatPrices;
+    }
+
+    private static double total(Map<String, Double> seatPrices) {
+        return seatPrices.values().stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    private static String quoteContext(int showId, Collection<String> seats) {
+        return showId + ":" + String.join(",", seats.stream().distinct().sorted().toList());
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, clock.getZone());
+    }
+
+    private RowPrices compute(ShowPricing pricing, long now) {
+        SeatMap seatMap = pricing.seatMap;
+        int occupied = seatMap.occupiedCount();
+        RowPrices previous = pricing.table;
+        if (previous != null) {
+            double decay = Math.exp(-(now - previous.computedAt) / DEMAND_DECAY_MS);
+            pricing.recentSales = pricing.recentSales * decay + Math.max(0, occupied - pricing.lastOccupied);
+        }
+        pricing.lastOccupied = occupied;
+
+        double occupancy = (double) occupied / seatMap.capacity();
+        double occupancyFactor = 1 + OCCUPANCY_SURGE
+                * Math.max(0, occupancy - OCCUPANCY_SURGE_START) / (1 - OCCUPANCY_SURGE_START);
+        double demandFactor = 1 + Math.min(MAX_DEMAND_SURGE, pricing.recentSales / seatMap.capacity());
+        double multiplier = Math.min(maxMultiplier, occupancyFactor * demandFactor * timeFactor(pricing.show, now));
+
+        double[] prices = new double[seatMap.getRows()];
+        for (int row = 0; row < prices.length; row++) {
+            double base = rowBasePrices.getOrDefault(SeatLabels.rowLabel(row), defaultPrice);
+            prices[row] = Math.max(PRICE_STEP, Math.round(base * multiplier / PRICE_STEP) * PRICE_STEP);
+        }
+        return new RowPrices(prices, multiplier, now);
+    }
+
+    private double timeFactor(Show show, long now) {
+        if (show.getShowStartTime() == null) {
+            return 1.0;
+        }
+        Duration untilStart = Duration.between(toLocalDateTime(Instant.ofEpochMilli(now)), show.getShowStartTime());
+        if (untilStart.compareTo(LAST_MINUTE) < 0) {
+            return LAST_MINUTE_FACTOR;
+        }
+        return untilStart.compareTo(EARLY_BIRD) > 0 ? EARLY_BIRD_FACTOR : 1.0;
+    }
+
+    private static Map<String, Double> parseRowPrices(String rowPrices) {
+        Map<String, Double> prices = new HashMap<>();
+        for (String entry : rowPrices.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Row prices must look like A:400,B:300 but got: " + rowPrices);
+            }
+            prices.put(parts[0].trim().toUpperCase(), Double.parseDouble(parts[1].trim()));
+        }
+        return prices;
+    }
+
+    private final class ShowPricing {
+        private final Show show;
+        private final SeatMap seatMap;
+        private volatile RowPrices table;
+        private int lastOccupied;
+        private double recentSales;
+
+        private ShowPricing(Show show, SeatMap seatMap) {
+            this.show = show;
+            this.seatMap = seatMap;
+        }
+
+        private RowPrices current(long now) {
+            RowPrices current = table;
+            if (current != null && now - current.computedAt < refreshMillis) {
+                return current;
+            }
+            synchronized (this) {
+                if (table == null || now - table.computedAt >= refreshMillis) {
+                    table = compute(this, now);
+                }
+                return table;
+            }
+        }
+    }
+
+    private static final class RowPrices {
+        private final double[] prices;
+        private final double multiplier;
+        private final long computedAt;
+
+        private RowPrices(double[] prices, double multiplier, long computedAt) {
+            this.prices = prices;
+            this.multiplier = multiplier;
+            this.computedAt = computedAt;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.moviebooking.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.dto.SchedulePlan;
+import com.moviebooking.dto.ScheduleRequest;
+import com.moviebooking.dto.ShowTarget;
+import com.moviebooking.entity.Movie;
+import com.moviebooking.entity.Screen;
+import com.moviebooking.entity.Show;
+import com.moviebooking.repository.IMovieRepository;
+import com.moviebooking.repository.IScreenRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.schedule.MovieRuntime;
+import com.moviebooking.schedule.SchedulePacker;
+import com.moviebooking.service.ICatalogCacheService;
+import com.moviebooking.service.ISchedulePlannerService;
+import com.moviebooking.service.IShowScheduleService;
+
+@Service
+public class SchedulePlannerServiceImpl implements ISchedulePlannerService {
+
+    private static final int DEFAULT_DAYS = 7;
+    private static final int MAX_DAYS = 14;
+    private static final LocalTime DEFAULT_OPEN_AT = LocalTime.of(10, 0);
+    private static final LocalTime DEFAULT_CLOSE_AT = LocalTime.MIDNIGHT;
+    private static final Duration START_STEP = Duration.ofMinutes(5);
+
+    @Autowired
+    private IScreenRepository screenRepository;
+
+    @Autowired
+    private IMovieRepository movieRepository;
+
+    @Autowired
+    private IShowRepository showRepository;
+
+    @Autowired
+    private IShowScheduleService showSchedule;
+
+    @Autowired
+    private ICatalogCacheService catalogCache;
+
+    @Override
+    public SchedulePlan plan(ScheduleRequest request, boolean dryRun) {
+        if (request == null || request.getStartDate() == null || request.getTargets() == null
+                || request.getTargets().isEmpty()) {
+            throw new IllegalArgumentException("startDate and at least one target are required");
+        }
+        int dayCount = request.getDays() == null ? DEFAULT_DAYS : request.getDays();
+        if (dayCount < 1 || dayCount > MAX_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_DAYS);
+        }
+        List<Integer> screenIds = screenIds(request);
+        List<SchedulePacker.Target> targets = targets(request.getTargets());
+
+        LocalTime openAt = request.getOpenAt() == null ? DEFAULT_OPEN_AT : request.getOpenAt();
+        LocalTime closeAt = request.getCloseAt() == null ? DEFAULT_CLOSE_AT : request.getCloseAt();
+        List<SchedulePacker.Interval> days = new ArrayList<>(dayCount);
+        for (int day = 0; day < dayCount; day++) {
+            LocalDate date = request.getStartDate().plusDays(day);
+            LocalDateTime open = date.atTime(openAt);
+            LocalDateTime close = date.atTime(closeAt);
+            days.add(new SchedulePacker.Interval(open, close.isAfter(open) ? close : close.plusDays(1)));
+        }
+
+        Duration turnaround = showSchedule.getTurnaround();
+        SchedulePacker.Plan plan = new SchedulePacker(turnaround, START_STEP).pack(screenIds, days, targets,
+                busy(screenIds, days.get(0).getStart().minus(turnaround),
+                        days.get(dayCount - 1).getEnd().plus(turnaround)));
+
+        List<Show> shows = new ArrayList<>(plan.getSlots().size());
+        for (SchedulePacker.Slot slot : plan.getSlots()) {
+            Show show = new Show(slot.getStart(), slot.getEnd(), showName(slot.getStart()), slot.getScreenId(),
+                    request.getTheatreId());
+            show.setMovieId(slot.getMovieId());
+            shows.add(show);
+        }
+        if (dryRun) {
+            return new SchedulePlan(shows, plan.getUnplaced(), false);
+        }
+        // One saveAll is one transaction, so the week commits (and syncs the database file) once.
+        List<Show> saved = showSchedule.scheduleAll(shows, showRepository::saveAll);
+        catalogCache.invalidateAll();
+        return new SchedulePlan(saved, plan.getUnplaced(), true);
+    }
+
+    private List<Integer> screenIds(ScheduleRequest request) {
+        List<Integer> theatreScreens = new ArrayList<>();
+        for (Screen screen : screenRepository.findByTheatreId(request.getTheatreId())) {
+            theatreScreens.add(screen.getScreenId());
+        }
+        if (theatreScreens.isEmpty()) {
+            throw new IllegalArgumentException("Theatre " + request.getTheatreId() + " has no screens");
+        }
+        if (request.getScreenIds() == null || request.getScreenIds().isEmpty()) {
+            theatreScreens.sort(null);
+            return theatreScreens;
+        }
+        Set<Integer> requested = new LinkedHashSet<>(request.getScreenIds());
+        for (Integer screenId : requested) {
+            if (!theatreScreens.contains(screenId)) {
+                throw new IllegalArgumentException(
+                        "Screen " + screenId + " is not in theatre " + request.getTheatreId());
+            }
+        }
+        return new ArrayList<>(requested);
+    }
+
+    private List<SchedulePacker.Target> targets(List<ShowTarget> requested) {
+        Map<Integer, Integer> shows = new HashMap<>();
+        for (ShowTarget target : requested) {
+            if (target.getShows() < 1) {
+                throw new IllegalArgumentException(
+                        "Target for movie " + target.getMovieId() + " must be at least one show");
+            }
+            shows.merge(target.getMovieId(), target.getShows(), Integer::sum);
+        }
+        List<SchedulePacker.Target> targets = new ArrayList<>(shows.size());
+        for (Movie movie : movieRepository.findAllById(shows.keySet())) {
+            targets.add(new SchedulePacker.Target(movie.getMovieId(), MovieRuntime.parse(movie.getMovieHours()),
+                    shows.get(movie.getMovieId())));
+        }
+        if (targets.size() < shows.size()) {
+            throw new IllegalArgumentException("Unknown movie in targets");
+        }
+        return targets;
+    }
+
+    // Shows already on the screens over the plan window, looked up in the schedule index.
+    private Map<Integer, List<SchedulePacker.Interval>> busy(List<Integer> screenIds, LocalDateTime from,
+            LocalDateTime to) {
+        List<Integer> showIds = new ArrayList<>();
+        for (Integer screenId : screenIds) {
+            showIds.addAll(showSchedule.findShowIds(screenId, from, to));
+        }
+        Map<Integer, List<SchedulePacker.Interval>> busy = new HashMap<>();
+        if (showIds.isEmpty()) {
+            return busy;
+        }
+        for (Show show : showRepository.findAllById(showIds)) {
+            busy.computeIfAbsent(show.getScreenId(), ignored -> new ArrayList<>())
+                    .add(new SchedulePacker.Interval(show.getShowStartTime(), show.getShowEndTime()));
+        }
+        return busy;
+    }
+
+    // Named like the hand-made shows: Morning, Afternoon, Evening or Night by start time.
+    private static String showName(LocalDateTime start) {
+        int hour = start.getHour();
+        if (hour >= 6 && hour < 12) {
+            return "Morning Show";
+        }
+        if (hour >= 12 && hour < 17) {
+            return "Afternoon Show";
+        }
+        if (hour >= 17 && hour < 21) {
+            return "Evening Show";
+        }
+        return "Night Show";
+    }
+}
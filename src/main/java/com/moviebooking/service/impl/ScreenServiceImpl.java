@@ -1,9 +1,18 @@
 package com.moviebooking.service.impl;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Screen;
 import com.moviebooking.repository.IScreenRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.ICatalogCacheService;
 import com.moviebooking.service.IScreenService;
+import com.moviebooking.service.IPricingService;
+import com.moviebooking.service.ISeatInventoryService;
+import com.moviebooking.service.IShowScheduleService;
+import com.moviebooking.util.TransactionHooks;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -14,16 +23,40 @@ public class ScreenServiceImpl implements IScreenService {
     @Autowired
     private IScreenRepository screenRepository;
 
+    @Autowired
+    private ICatalogCacheService catalogCache;
+
+    @Autowired
+    private IShowRepository showRepository;
+
+    @Autowired
+    private IShowScheduleService showSchedule;
+
+    @Autowired
+    private ISeatInventoryService seatInventoryService;
+
+    @Autowired
+    private IPricingService pricingService;
+
     @Override
     public Screen addScreen(Screen screen) {
-        return screenRepository.save(screen);
+        Screen saved = screenRepository.save(screen);
+        catalogCache.invalidateAll();
+        return saved;
     }
 
     @Override
     public Screen updateScreen(Screen screen) {
         Optional<Screen> existingScreen = screenRepository.findById(screen.getScreenId());
         if (existingScreen.isPresent()) {
-            return screenRepository.save(screen);
+            Screen previous = existingScreen.get();
+            Screen saved = screenRepository.save(screen);
+            if (saved.getRows() != previous.getRows() || saved.getColumns() != previous.getColumns()) {
+                List<Integer> showIds = showRepository.findShowIdsByScreenId(saved.getScreenId());
+                TransactionHooks.afterCommit(() -> showIds.forEach(this::evictShowState));
+            }
+            catalogCache.invalidateAll();
+            return saved;
         } else {
             throw new RuntimeException("Screen not found with ID: " + screen.getScreenId());
         }
@@ -33,7 +66,12 @@ public class ScreenServiceImpl implements IScreenService {
     public Screen removeScreen(int screenId) {
         Optional<Screen> screen = screenRepository.findById(screenId);
         if (screen.isPresent()) {
+            // The delete cascades to the screen's shows, which must leave its schedule too.
+            List<Integer> showIds = showRepository.findShowIdsByScreenId(screenId);
             screenRepository.deleteById(screenId);
+            showIds.forEach(showSchedule::unschedule);
+            TransactionHooks.afterCommit(() -> showIds.forEach(this::evictShowState));
+            catalogCache.invalidateAll();
             return screen.get();
         } else {
             throw new RuntimeException("Screen not found with ID: " + screenId);
@@ -42,22 +80,56 @@ public class ScreenServiceImpl implements IScreenService {
 
     @Override
     public Screen viewScreen(int screenId) {
-        return screenRepository.findById(screenId)
-            .orElseThrow(() -> new RuntimeException("Screen not found with ID: " + screenId));
+        Screen screen = catalogCache.get("screen:" + screenId,
+                () -> initialized(screenRepository.findById(screenId).orElse(null)));
+        if (screen == null) {
+            throw new RuntimeException("Screen not found with ID: " + screenId);
+        }
+        return screen;
     }
 
     @Override
     public List<Screen> viewAllScreens() {
-        return screenRepository.findAll();
+        return catalogCache.get("screens", () -> initialized(screenRepository.findAll()));
+    }
+
+    @Override
+    public CursorPage<Screen> viewScreenPage(int after, int limit) {
+        return CursorPage.of(
+                screenRepository.findByScreenIdGreaterThanOrderByScreenIdAsc(after, PageRequest.of(0, limit + 1)),
+                limit, Screen::getScreenId);
     }
 
     @Override
     public List<Screen> viewScreensByTheatre(int theatreId) {
-        return screenRepository.findByTheatreId(theatreId);
+        return catalogCache.get("screens:theatre:" + theatreId,
+                () -> initialized(screenRepository.findByTheatreId(theatreId)));
     }
 
     @Override
     public List<Screen> viewScreensByName(String screenName) {
-        return screenRepository.findByScreenName(screenName);
+        return catalogCache.get("screens:name:" + screenName,
+                () -> initialized(screenRepository.findByScreenName(screenName)));
+    }
+
+    private static List<Screen> initialized(List<Screen> screens) {
+        List<Screen> copy = List.copyOf(screens);
+        copy.forEach(ScreenServiceImpl::initialized);
+        return copy;
+    }
+
+    // Cached screens outlive their session, so the theatre and shows they are serialized with are loaded up front.
+    private static Screen initialized(Screen screen) {
+        if (screen != null) {
+            Hibernate.initialize(screen.getTheatre());
+            Hibernate.initialize(screen.getShowList());
+        }
+        return screen;
+    }
+
+    // Seat maps and price tables are built per show from the screen layout, so they go with the shows.
+    private void evictShowState(int showId) {
+        seatInventoryService.evict(showId);
+        pricingService.evict(showId);
     }
 }
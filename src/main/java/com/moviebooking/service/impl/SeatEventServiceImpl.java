@@ -0,0 +1,213 @@
+package com.moviebooking.service.impl;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.moviebooking.dto.SeatMapDelta;
+import com.moviebooking.service.ISeatEventService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans seat-map deltas out to SSE subscribers without ever blocking the
+ * booking path: {@link #publish(SeatMapDelta)} only appends to each
+ * subscriber's bounded queue, and a small dispatcher pool does the writes.
+ * Consecutive deltas of the same state are merged while a subscriber is
+ * behind, and a subscriber that still overflows is told to resync from the
+ * snapshot endpoint instead of being handed a partial history.
+ */
+@Service
+public class SeatEventServiceImpl implements ISeatEventService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SeatEventServiceImpl.class);
+
+    static final String SEATS_EVENT = "seats";
+    static final String RESYNC_EVENT = "resync";
+
+    private final ConcurrentMap<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Executor dispatcher;
+    private final long timeoutMs;
+    private final int bufferSize;
+
+    @Autowired
+    public SeatEventServiceImpl(@Value("${app.seats.stream-threads:4}") int dispatchThreads,
+            @Value("${app.seats.stream-timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.seats.stream-buffer:64}") int bufferSize) {
+        this(newDispatcher(dispatchThreads), timeoutMs, bufferSize);
+    }
+
+    public SeatEventServiceImpl(Executor dispatcher, long timeoutMs, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Seat stream buffer must hold at least one event");
+        }
+        this.dispatcher = dispatcher;
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    @Override
+    public SseEmitter subscribe(int showId) {
+        return subscribe(showId, new SseEmitter(timeoutMs));
+    }
+
+    public SseEmitter subscribe(int showId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(showId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        subscribers.compute(showId, (id, set) -> {
+            Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+        try {
+            // Flushes the response headers so the client knows to load the snapshot.
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+        }
+        return emitter;
+    }
+
+    @Override
+    public boolean hasSubscribers(int showId) {
+        Set<Subscriber> set = subscribers.get(showId);
+        return set != null && !set.isEmpty();
+    }
+
+    @Override
+    public void publish(SeatMapDelta delta) {
+        Set<Subscriber> set = subscribers.get(delta.getShowId());
+        if (set == null || delta.getSeats().length == 0) {
+            return;
+        }
+        for (Subscriber subscriber : set) {
+            subscriber.offer(delta);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.showId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static Executor newDispatcher(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "seat-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static SeatMapDelta merge(SeatMapDelta earlier, SeatMapDelta later) {
+        int[] seats = Arrays.copyOf(earlier.getSeats(), earlier.getSeats().length + later.getSeats().length);
+        System.arraycopy(later.getSeats(), 0, seats, earlier.getSeats().length, later.getSeats().length);
+        Arrays.sort(seats);
+        return new SeatMapDelta(later.getShowId(), later.getState(), Arrays.stream(seats).distinct().toArray(),
+                earlier.getPreviousVersion(), later.getVersion());
+    }
+
+    private final class Subscriber implements Runnable {
+        private final int showId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<SeatMapDelta> pending = new ArrayDeque<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private boolean overflowed;
+
+        private Subscriber(int showId, SseEmitter emitter) {
+            this.showId = showId;
+            this.emitter = emitter;
+        }
+
+        void offer(SeatMapDelta delta) {
+            synchronized (this) {
+                if (!overflowed) {
+                    SeatMapDelta last = pending.peekLast();
+                    if (last != null && last.getState() == delta.getState()) {
+                        pending.pollLast();
+                        pending.addLast(merge(last, delta));
+                    } else if (pending.size() >= bufferSize) {
+                        pending.clear();
+                        overflowed = true;
+                    } else {
+                        pending.addLast(delta);
+                    }
+                }
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    LOGGER.warn("Dropping seat stream for show {}: dispatcher rejected the update", showId);
+                    unsubscribe(this);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                boolean resync;
+                SeatMapDelta delta;
+                synchronized (this) {
+                    resync = overflowed;
+                    overflowed = false;
+                    delta = resync ? null : pending.pollFirst();
+                    if (!resync && delta == null) {
+                        // Cleared under the lock so a concurrent offer either sees it or is seen here.
+                        scheduled.set(false);
+                        return;
+                    }
+                }
+                try {
+                    if (resync) {
+                        emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .name(SEATS_EVENT)
+                                .id(delta.getVersion())
+                                .data(delta, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    LOGGER.debug("Seat stream for show {} closed: {}", showId, e.getMessage());
+                    unsubscribe(this);
+                    synchronized (this) {
+                        pending.clear();
+                        scheduled.set(false);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
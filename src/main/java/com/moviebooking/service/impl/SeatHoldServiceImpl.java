@@ -0,0 +1,235 @@
+package com.moviebooking.service.impl;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.dto.SeatHold;
+import com.moviebooking.dto.SeatHoldRequest;
+import com.moviebooking.dto.SeatPreferences;
+import com.moviebooking.entity.Show;
+import com.moviebooking.inventory.SeatLabels;
+import com.moviebooking.inventory.SeatState;
+import com.moviebooking.repository.ICustomerRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.ISeatHoldService;
+import com.moviebooking.service.ISeatInventoryService;
+import com.moviebooking.util.TimingWheel;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class SeatHoldServiceImpl implements ISeatHoldService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SeatHoldServiceImpl.class);
+
+    private static final int WHEEL_SIZE = 64;
+
+    private final IShowRepository showRepository;
+    private final ICustomerRepository customerRepository;
+    private final ISeatInventoryService seatInventoryService;
+    private final long defaultHoldMinutes;
+    private final long maxHoldMinutes;
+    private final TimingWheel<String> expiryWheel;
+    private final ConcurrentMap<String, ActiveHold> holds = new ConcurrentHashMap<>();
+    private final List<IntConsumer> expiryListeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService ticker;
+
+    public SeatHoldServiceImpl(IShowRepository showRepository,
+            ICustomerRepository customerRepository,
+            ISeatInventoryService seatInventoryService,
+            @Value("${app.booking.hold-minutes:10}") long defaultHoldMinutes,
+            @Value("${app.booking.hold-max-minutes:30}") long maxHoldMinutes,
+            @Value("${app.booking.hold-tick-ms:1000}") long tickMs) {
+        this.showRepository = showRepository;
+        this.customerRepository = customerRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.defaultHoldMinutes = defaultHoldMinutes;
+        this.maxHoldMinutes = maxHoldMinutes;
+        this.expiryWheel = new TimingWheel<>(tickMs, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    @PostConstruct
+    public void startExpiryTicker() {
+        long tickMs = expiryWheel.getTickMs();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-hold-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                expireHolds(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to expire seat holds", e);
+            }
+        }, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopExpiryTicker() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @Override
+    public SeatHold createHold(int showId, SeatHoldRequest request) {
+        if (request == null || request.getSeatNumbers() == null) {
+            throw new IllegalArgumentException("At least one seat must be selected");
+        }
+
+        List<String> normalizedSeats = SeatLabels.normalize(request.getSeatNumbers());
+        if (normalizedSeats.isEmpty()) {
+            throw new IllegalArgumentException("At least one seat must be selected");
+        }
+
+        Set<String> uniqueSeats = new LinkedHashSet<>(normalizedSeats);
+        if (uniqueSeats.size() != normalizedSeats.size()) {
+            throw new IllegalArgumentException("Duplicate seats selected. Please review your selection.");
+        }
+
+        if (!customerRepository.existsById(request.getCustomerId())) {
+            throw new IllegalArgumentException("Customer not found with ID: " + request.getCustomerId());
+        }
+
+        Show show = showRepository.findById(showId)
+                .orElseThrow(() -> new IllegalArgumentException("Show not found with ID: " + showId));
+
+        long holdMinutes = request.getHoldMinutes() != null ? request.getHoldMinutes() : defaultHoldMinutes;
+        if (holdMinutes <= 0 || holdMinutes > maxHoldMinutes) {
+            throw new IllegalArgumentException("Hold duration must be between 1 and " + maxHoldMinutes + " minutes");
+        }
+
+        List<String> unavailableSeats = seatInventoryService.reserveSeats(show, uniqueSeats, SeatState.HELD);
+        if (!unavailableSeats.isEmpty()) {
+            throw new IllegalArgumentException("Selected seats are no longer available: "
+                    + unavailableSeats.stream().sorted().toList());
+        }
+
+        return register(showId, request.getCustomerId(), uniqueSeats, holdMinutes);
+    }
+
+    @Override
+    public Optional<SeatHold> holdBestAvailable(Show show, int customerId, int seatCount, SeatPreferences preferences) {
+        List<String> seats = seatInventoryService.reserveBestAvailable(show, seatCount, preferences, SeatState.HELD);
+        if (seats.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(register(show.getShowId(), customerId, seats, defaultHoldMinutes));
+    }
+
+    private SeatHold register(int showId, int customerId, Collection<String> seats, long holdMinutes) {
+        long expiresAtMillis = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(holdMinutes);
+        SeatHold hold = new SeatHold(
+                UUID.randomUUID().toString(),
+                showId,
+                customerId,
+                List.copyOf(seats),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()));
+
+        // Publish the hold before arming its timeout so an expiry can never miss it.
+        ActiveHold active = new ActiveHold(hold);
+        holds.put(hold.getHoldId(), active);
+        active.timeout = expiryWheel.schedule(hold.getHoldId(), expiresAtMillis);
+        return hold;
+    }
+
+    @Override
+    public boolean releaseHold(int showId, String holdId, int customerId) {
+        ActiveHold active = holds.get(holdId);
+        if (active == null || active.hold.getShowId() != showId) {
+            return false;
+        }
+        if (active.hold.getCustomerId() != customerId) {
+            throw new IllegalArgumentException("Seat hold " + holdId + " does not belong to this customer");
+        }
+        if (!holds.remove(holdId, active)) {
+            return false;
+        }
+        cancelTimeout(active);
+        seatInventoryService.markReleased(showId, active.hold.getSeatNumbers());
+        return true;
+    }
+
+    @Override
+    public boolean consumeHold(String holdId, int showId, int customerId, Collection<String> seatNumbers) {
+        ActiveHold active = holds.get(holdId);
+        if (active == null) {
+            return false;
+        }
+
+        SeatHold hold = active.hold;
+        if (hold.getShowId() != showId || hold.getCustomerId() != customerId
+                || !Set.copyOf(hold.getSeatNumbers()).equals(Set.copyOf(seatNumbers))) {
+            throw new IllegalArgumentException("Seat hold " + holdId + " does not match this booking");
+        }
+
+        if (!holds.remove(holdId, active)) {
+            return false;
+        }
+        cancelTimeout(active);
+        return true;
+    }
+
+    public int expireHolds(long nowMillis) {
+        int expired = 0;
+        Set<Integer> freedShows = new HashSet<>();
+        for (String holdId : expiryWheel.advance(nowMillis)) {
+            ActiveHold active = holds.remove(holdId);
+            if (active != null) {
+                seatInventoryService.markReleased(active.hold.getShowId(), active.hold.getSeatNumbers());
+                freedShows.add(active.hold.getShowId());
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            LOGGER.debug("Released {} expired seat holds", expired);
+        }
+        for (int showId : freedShows) {
+            expiryListeners.forEach(listener -> listener.accept(showId));
+        }
+        return expired;
+    }
+
+    @Override
+    public void onHoldsExpired(IntConsumer listener) {
+        expiryListeners.add(listener);
+    }
+
+    private void cancelTimeout(ActiveHold active) {
+        TimingWheel.Timeout<String> timeout = active.timeout;
+        if (timeout != null) {
+            expiryWheel.cancel(timeout);
+        }
+    }
+
+    private static final class ActiveHold {
+        private final SeatHold hold;
+        private volatile TimingWheel.Timeout<String> timeout;
+
+        private ActiveHold(SeatHold hold) {
+            this.hold = hold;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.moviebooking.service.impl;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.dto.SeatAvailability;
+import com.moviebooking.dto.SeatMapDelta;
+import com.moviebooking.dto.SeatPreferences;
+import com.moviebooking.entity.Screen;
+import com.moviebooking.entity.Show;
+import com.moviebooking.inventory.SeatLabels;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.inventory.SeatRanking;
+import com.moviebooking.inventory.SeatState;
+import com.moviebooking.repository.IScreenRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.repository.IShowSeatReservationRepository;
+import com.moviebooking.service.ISeatEventService;
+import com.moviebooking.service.ISeatInventoryService;
+
+@Service
+public class SeatInventoryServiceImpl implements ISeatInventoryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SeatInventoryServiceImpl.class);
+
+    private final IShowSeatReservationRepository seatReservationRepository;
+    private final IScreenRepository screenRepository;
+    private final IShowRepository showRepository;
+    private final ISeatEventService seatEventService;
+    private final ConcurrentMap<Integer, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    public SeatInventoryServiceImpl(IShowSeatReservationRepository seatReservationRepository, IScreenRepository screenRepository,
+            IShowRepository showRepository, ISeatEventService seatEventService) {
+        this.seatReservationRepository = seatReservationRepository;
+        this.screenRepository = screenRepository;
+        this.showRepository = showRepository;
+        this.seatEventService = seatEventService;
+    }
+
+    @Override
+    public SeatMap getSeatMap(Show show) {
+        return seatMaps.computeIfAbsent(show.getShowId(), showId -> loadSeatMap(show));
+    }
+
+    @Override
+    public SeatAvailability getAvailability(int showId) {
+        SeatMap seatMap = seatMaps.get(showId);
+        if (seatMap == null) {
+            Show show = showRepository.findById(showId)
+                    .orElseThrow(() -> new IllegalArgumentException("Show not found with ID: " + showId));
+            seatMap = getSeatMap(show);
+        }
+
+        SeatMap.Snapshot snapshot = seatMap.snapshot();
+        return new SeatAvailability(
+                showId,
+                seatMap.getRows(),
+                seatMap.getColumns(),
+                snapshot.getOccupiedCount(),
+                SeatAvailability.BITMAP_ENCODING,
+                Base64.getEncoder().encodeToString(snapshot.getBitmap()),
+                snapshot.tag());
+    }
+
+    @Override
+    public List<String> findUnavailableSeats(Show show, Collection<String> seatNumbers) {
+        SeatMap seatMap = getSeatMap(show);
+        return seatMap.findConflicts(seatMap.maskOf(seatNumbers));
+    }
+
+    @Override
+    public List<String> reserveSeats(Show show, Collection<String> seatNumbers, SeatState state) {
+        SeatMap seatMap = getSeatMap(show);
+        long[] mask = seatMap.maskOf(seatNumbers);
+        // Each change is published under the map's lock, so deltas are queued in version order.
+        synchronized (seatMap) {
+            String previousVersion = seatMap.tag();
+            List<String> conflicts = seatMap.tryOccupy(mask);
+            if (conflicts.isEmpty()) {
+                publish(show.getShowId(), seatMap, previousVersion, mask, state);
+            }
+            return conflicts;
+        }
+    }
+
+    @Override
+    public List<String> reserveBestAvailable(Show show, int seatCount, SeatPreferences preferences, SeatState state) {
+        SeatMap seatMap = getSeatMap(show);
+        SeatRanking ranking = rankingFor(seatMap, preferences);
+        long[] mask;
+        synchronized (seatMap) {
+            String previousVersion = seatMap.tag();
+            mask = seatMap.occupyBestAvailable(seatCount, ranking);
+            if (mask == null) {
+                return List.of();
+            }
+            publish(show.getShowId(), seatMap, previousVersion, mask, state);
+        }
+        return Arrays.stream(SeatMap.indexesOf(mask))
+                .mapToObj(index -> SeatLabels.toLabel(index, seatMap.getColumns()))
+                .toList();
+    }
+
+    @Override
+    public void markBooked(int showId, Collection<String> seatNumbers) {
+        SeatMap seatMap = seatMaps.get(showId);
+        if (seatMap != null) {
+            long[] mask = seatMap.maskOfKnownSeats(seatNumbers);
+            synchronized (seatMap) {
+                String previousVersion = seatMap.tag();
+                seatMap.occupy(mask);
+                if (seatMap.tag().equals(previousVersion) && SeatMap.indexesOf(mask).length > 0) {
+                    // Held seats being sold stay occupied, but watchers are still told they are now booked.
+                    seatMap.touch();
+                }
+                publish(showId, seatMap, previousVersion, mask, SeatState.BOOKED);
+            }
+        }
+    }
+
+    @Override
+    public void markReleased(int showId, Collection<String> seatNumbers) {
+        SeatMap seatMap = seatMaps.get(showId);
+        if (seatMap != null) {
+            long[] mask = seatMap.maskOfKnownSeats(seatNumbers);
+            synchronized (seatMap) {
+                String previousVersion = seatMap.tag();
+                seatMap.release(mask);
+                publish(showId, seatMap, previousVersion, mask, SeatState.RELEASED);
+            }
+        }
+    }
+
+    @Override
+    public void evict(int showId) {
+        seatMaps.remove(showId);
+    }
+
+    // Called under the seat map's lock. Changes that leave the version as it was, such as releasing free seats,
+    // send nothing.
+    private void publish(int showId, SeatMap seatMap, String previousVersion, long[] mask, SeatState state) {
+        String version = seatMap.tag();
+        if (version.equals(previousVersion) || !seatEventService.hasSubscribers(showId)) {
+            return;
+        }
+        int[] seats = SeatMap.indexesOf(mask);
+        if (seats.length > 0) {
+            seatEventService.publish(new SeatMapDelta(showId, state, seats, previousVersion, version));
+        }
+    }
+
+    private SeatRanking rankingFor(SeatMap seatMap, SeatPreferences preferences) {
+        String position = preferences != null && preferences.getRowPosition() != null
+                ? preferences.getRowPosition().trim().toUpperCase()
+                : "";
+        double idealRowFraction = switch (position) {
+            case SeatPreferences.FRONT -> 0.2;
+            case SeatPreferences.MIDDLE -> 0.5;
+            case SeatPreferences.BACK -> 0.85;
+            case "" -> 0.6;
+            default -> throw new IllegalArgumentException("Unknown row position: " + preferences.getRowPosition());
+        };
+
+        BitSet allowedRows = null;
+        if (preferences != null && preferences.getRows() != null && !preferences.getRows().isEmpty()) {
+            allowedRows = new BitSet(seatMap.getRows());
+            for (String label : preferences.getRows()) {
+                int row = SeatLabels.toRow(label, seatMap.getRows());
+                if (row < 0) {
+                    throw new IllegalArgumentException("Row " + label + " does not exist for this show");
+                }
+                allowedRows.set(row);
+            }
+        }
+        return new SeatRanking(idealRowFraction, allowedRows);
+    }
+
+    private SeatMap loadSeatMap(Show show) {
+        // Looked up by ID: show.getScreen() may be a lazy proxy of a session that has already closed.
+        Screen screen = screenRepository.findById(show.getScreenId()).orElse(null);
+        if (screen == null || screen.getRows() <= 0 || screen.getColumns() <= 0) {
+            throw new IllegalArgumentException("Seat layout is not configured for show ID: " + show.getShowId());
+        }
+
+        SeatMap seatMap = new SeatMap(screen.getRows(), screen.getColumns());
+        List<String> reservedSeats = seatReservationRepository.findSeatNumbersByShowId(show.getShowId());
+        seatMap.occupy(seatMap.maskOfKnownSeats(reservedSeats));
+        LOGGER.debug("Loaded seat map for show {} with {} of {} seats occupied",
+                show.getShowId(), seatMap.occupiedCount(), seatMap.capacity());
+        return seatMap;
+    }
+}
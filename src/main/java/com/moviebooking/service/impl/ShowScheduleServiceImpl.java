@@ -0,0 +1,167 @@
+package com.moviebooking.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.entity.Show;
+import com.moviebooking.exception.ShowConflictException;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.IShowScheduleService;
+import com.moviebooking.util.IntervalTree;
+
+/**
+ * Keeps an {@link IntervalTree} of show times per screen, loaded once the
+ * application is up and updated by {@link ShowServiceImpl} on every write, so
+ * overlap checks and "what is playing" lookups never scan the shows table.
+ *
+ * <p>Checking, saving and recording a show happen under one lock, so two
+ * shows cannot both claim the same free slot.
+ */
+@Service
+public class ShowScheduleServiceImpl implements IShowScheduleService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShowScheduleServiceImpl.class);
+
+    private final IShowRepository showRepository;
+    private final Duration turnaround;
+    private final Map<Integer, IntervalTree> screens = new HashMap<>();
+    private final Map<Integer, Integer> showScreens = new HashMap<>();
+    private boolean loaded;
+
+    @Autowired
+    public ShowScheduleServiceImpl(IShowRepository showRepository,
+            @Value("${app.schedule.turnaround-minutes:15}") long turnaroundMinutes) {
+        if (turnaroundMinutes < 0) {
+            throw new IllegalArgumentException("Turnaround must not be negative");
+        }
+        this.showRepository = showRepository;
+        this.turnaround = Duration.ofMinutes(turnaroundMinutes);
+    }
+
+    @Override
+    public synchronized Show schedule(Show show, UnaryOperator<Show> save) {
+        ensureLoaded();
+        checkFree(show);
+        Show saved = save.apply(show);
+        record(saved);
+        return saved;
+    }
+
+    @Override
+    public synchronized List<Show> scheduleAll(List<Show> shows, UnaryOperator<List<Show>> save) {
+        ensureLoaded();
+        // The new shows are not recorded until saved, so they are checked against each other by batch position.
+        Map<Integer, IntervalTree> batch = new HashMap<>();
+        for (int i = 0; i < shows.size(); i++) {
+            Show show = shows.get(i);
+            checkFree(show);
+            IntervalTree planned = batch.computeIfAbsent(show.getScreenId(), ignored -> new IntervalTree());
+            if (!planned.overlapping(seconds(show.getShowStartTime().minus(turnaround)),
+                    seconds(show.getShowEndTime().plus(turnaround))).isEmpty()) {
+                throw new ShowConflictException("Screen " + show.getScreenId() + " is given overlapping shows at "
+                        + show.getShowStartTime(), List.of());
+            }
+            planned.put(i, seconds(show.getShowStartTime()), seconds(show.getShowEndTime()));
+        }
+        List<Show> saved = save.apply(shows);
+        saved.forEach(this::record);
+        return saved;
+    }
+
+    @Override
+    public synchronized void unschedule(int showId) {
+        Integer screenId = showScreens.remove(showId);
+        if (screenId != null) {
+            screens.get(screenId).remove(showId);
+        }
+    }
+
+    @Override
+    public synchronized List<Integer> findShowIds(Integer screenId, LocalDateTime from, LocalDateTime to) {
+        ensureLoaded();
+        long start = seconds(from);
+        long end = seconds(to);
+        if (screenId != null) {
+            IntervalTree screen = screens.get(screenId);
+            return screen == null ? List.of() : screen.overlapping(start, end);
+        }
+        List<Integer> showIds = new ArrayList<>();
+        for (IntervalTree screen : screens.values()) {
+            showIds.addAll(screen.overlapping(start, end));
+        }
+        return showIds;
+    }
+
+    @Override
+    public Duration getTurnaround() {
+        return turnaround;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        screens.clear();
+        showScreens.clear();
+        List<Show> shows = showRepository.findAll();
+        for (Show show : shows) {
+            record(show);
+        }
+        loaded = true;
+        LOGGER.info("Loaded schedules for {} shows on {} screens", showScreens.size(), screens.size());
+    }
+
+    private void checkFree(Show show) {
+        LocalDateTime start = show.getShowStartTime();
+        LocalDateTime end = show.getShowEndTime();
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new IllegalArgumentException("Show must have a start time before its end time");
+        }
+        IntervalTree screen = screens.get(show.getScreenId());
+        if (screen == null) {
+            return;
+        }
+        List<Integer> conflicts = new ArrayList<>(
+                screen.overlapping(seconds(start.minus(turnaround)), seconds(end.plus(turnaround))));
+        conflicts.remove(Integer.valueOf(show.getShowId()));
+        if (!conflicts.isEmpty()) {
+            throw new ShowConflictException("Screen " + show.getScreenId() + " has another show within "
+                    + turnaround.toMinutes() + " minutes of " + start + " to " + end, conflicts);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    private void record(Show show) {
+        unschedule(show.getShowId());
+        // Rows written before shows were checked may not end after they start; they cannot block anything.
+        if (show.getShowStartTime() == null || show.getShowEndTime() == null
+                || !show.getShowStartTime().isBefore(show.getShowEndTime())) {
+            return;
+        }
+        screens.computeIfAbsent(show.getScreenId(), ignored -> new IntervalTree())
+                .put(show.getShowId(), seconds(show.getShowStartTime()), seconds(show.getShowEndTime()));
+        showScreens.put(show.getShowId(), show.getScreenId());
+    }
+
+    private static long seconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
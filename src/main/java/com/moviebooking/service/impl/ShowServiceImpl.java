@@ -1,30 +1,72 @@
 package com.moviebooking.service.impl;
 
+import com.moviebooking.dto.CursorPage;
+import com.moviebooking.entity.Screen;
 import com.moviebooking.entity.Show;
 import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.repository.ITheatreRepository;
+import com.moviebooking.service.ICatalogCacheService;
+import com.moviebooking.service.IPricingService;
+import com.moviebooking.service.ISeatInventoryService;
+import com.moviebooking.service.IShowScheduleService;
 import com.moviebooking.service.IShowService;
+import com.moviebooking.util.TransactionHooks;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class ShowServiceImpl implements IShowService {
 
+    private static final Duration MAX_SEARCH_WINDOW = Duration.ofDays(31);
+
     @Autowired
     private IShowRepository showRepository;
 
+    @Autowired
+    private ITheatreRepository theatreRepository;
+
+    @Autowired
+    private IPricingService pricingService;
+
+    @Autowired
+    private ICatalogCacheService catalogCache;
+
+    @Autowired
+    private IShowScheduleService showSchedule;
+
+    @Autowired
+    private ISeatInventoryService seatInventoryService;
+
     @Override
     public Show addShow(Show show) {
-        return showRepository.save(show);
+        Show saved = showSchedule.schedule(show, showRepository::save);
+        catalogCache.invalidateAll();
+        return saved;
     }
 
     @Override
     public Show updateShow(Show show) {
         Optional<Show> existingShow = showRepository.findById(show.getShowId());
         if (existingShow.isPresent()) {
-            return showRepository.save(show);
+            int previousScreenId = existingShow.get().getScreenId();
+            Show saved = showSchedule.schedule(show, showRepository::save);
+            if (saved.getScreenId() != previousScreenId) {
+                // The seat map was laid out for the old screen.
+                TransactionHooks.afterCommit(() -> seatInventoryService.evict(saved.getShowId()));
+            }
+            // Prices depend on the start time, so the cached table is rebuilt from the saved show.
+            pricingService.evict(show.getShowId());
+            catalogCache.invalidateAll();
+            return saved;
         } else {
             throw new RuntimeException("Show not found with ID: " + show.getShowId());
         }
@@ -35,6 +77,10 @@ public class ShowServiceImpl implements IShowService {
         Optional<Show> existingShow = showRepository.findById(show.getShowId());
         if (existingShow.isPresent()) {
             showRepository.delete(show);
+            showSchedule.unschedule(show.getShowId());
+            TransactionHooks.afterCommit(() -> seatInventoryService.evict(show.getShowId()));
+            pricingService.evict(show.getShowId());
+            catalogCache.invalidateAll();
             return show;
         } else {
             throw new RuntimeException("Show not found with ID: " + show.getShowId());
@@ -43,22 +89,97 @@ public class ShowServiceImpl implements IShowService {
 
     @Override
     public Show viewShow(Show show) {
-        return showRepository.findById(show.getShowId())
-            .orElseThrow(() -> new RuntimeException("Show not found with ID: " + show.getShowId()));
+        int showId = show.getShowId();
+        Show cached = catalogCache.get("show:" + showId,
+                () -> initialized(showRepository.findById(showId).orElse(null)));
+        if (cached == null) {
+            throw new RuntimeException("Show not found with ID: " + showId);
+        }
+        return cached;
     }
 
     @Override
     public List<Show> viewShowList(int theatreId) {
-        return showRepository.findByTheatreId(theatreId);
+        return catalogCache.get("shows:theatre:" + theatreId,
+                () -> initialized(showRepository.findByTheatreId(theatreId)));
     }
 
     @Override
     public List<Show> viewShowList(LocalDate date) {
-        return showRepository.findByShowDate(date);
+        return catalogCache.get("shows:date:" + date, () -> initialized(
+                showRepository.findStartingBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), null)));
     }
 
     @Override
     public List<Show> viewAllShows() {
-        return showRepository.findAll();
+        return catalogCache.get("shows", () -> initialized(showRepository.findAll()));
+    }
+
+    @Override
+    public CursorPage<Show> viewShowPage(int after, int limit) {
+        return CursorPage.of(
+                showRepository.findByShowIdGreaterThanOrderByShowIdAsc(after, PageRequest.of(0, limit + 1)),
+                limit, Show::getShowId);
+    }
+
+    @Override
+    public List<Show> searchShows(LocalDateTime from, LocalDateTime to, String city, Integer movieId) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("from and to are required and from must be before to");
+        }
+        if (Duration.between(from, to).compareTo(MAX_SEARCH_WINDOW) > 0) {
+            throw new IllegalArgumentException("Search window must be at most " + MAX_SEARCH_WINDOW.toDays() + " days");
+        }
+        String theatreCity = city == null || city.isBlank() ? null : city.trim();
+        // Searches are cached like the fixed listings; TinyLFU admission keeps one-off windows from evicting them.
+        return catalogCache.get("shows:search:" + from + ":" + to + ":" + theatreCity + ":" + movieId, () -> {
+            if (theatreCity == null) {
+                return initialized(showRepository.findStartingBetween(from, to, movieId));
+            }
+            // One (theatre_id, show_start_time) range scan per theatre in the city.
+            List<Integer> theatreIds = theatreRepository.findIdsByTheatreCity(theatreCity);
+            return theatreIds.isEmpty() ? List.<Show>of()
+                    : initialized(showRepository.findAtTheatresStartingBetween(theatreIds, from, to, movieId));
+        });
+    }
+
+    @Override
+    public List<Show> viewShowsPlaying(LocalDateTime from, LocalDateTime to, Integer screenId) {
+        if (from == null || (to != null && !from.isBefore(to))) {
+            throw new IllegalArgumentException("from is required and must be before to");
+        }
+        LocalDateTime end = to == null ? from.plusSeconds(1) : to;
+        if (Duration.between(from, end).compareTo(MAX_SEARCH_WINDOW) > 0) {
+            throw new IllegalArgumentException("Search window must be at most " + MAX_SEARCH_WINDOW.toDays() + " days");
+        }
+        return catalogCache.get("shows:playing:" + from + ":" + end + ":" + screenId, () -> {
+            List<Integer> showIds = showSchedule.findShowIds(screenId, from, end);
+            if (showIds.isEmpty()) {
+                return List.<Show>of();
+            }
+            List<Show> shows = new ArrayList<>(showRepository.findAllById(showIds));
+            shows.sort(Comparator.comparing(Show::getShowStartTime).thenComparingInt(Show::getShowId));
+            return initialized(shows);
+        });
+    }
+
+    private static List<Show> initialized(List<Show> shows) {
+        List<Show> copy = List.copyOf(shows);
+        copy.forEach(ShowServiceImpl::initialized);
+        return copy;
+    }
+
+    // Cached shows outlive their session, so the movie and screen they are serialized with are loaded up front.
+    private static Show initialized(Show show) {
+        if (show != null) {
+            Hibernate.initialize(show.getMovie());
+            Screen screen = show.getScreen();
+            if (screen != null) {
+                Hibernate.initialize(screen);
+                Hibernate.initialize(screen.getTheatre());
+                Hibernate.initialize(screen.getShowList());
+            }
+        }
+        return show;
     }
 }
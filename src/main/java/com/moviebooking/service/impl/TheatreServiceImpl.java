@@ -1,9 +1,20 @@
 package com.moviebooking.service.impl;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Theatre;
+import com.moviebooking.entity.Screen;
+import com.moviebooking.repository.IShowRepository;
 import com.moviebooking.repository.ITheatreRepository;
+import com.moviebooking.service.IAutocompleteService;
+import com.moviebooking.service.ICatalogCacheService;
+import com.moviebooking.service.IPricingService;
+import com.moviebooking.service.ISeatInventoryService;
+import com.moviebooking.service.IShowScheduleService;
 import com.moviebooking.service.ITheatreService;
+import com.moviebooking.util.TransactionHooks;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -14,19 +25,43 @@ public class TheatreServiceImpl implements ITheatreService {
     @Autowired
     private ITheatreRepository theatreRepository;
 
+    @Autowired
+    private ICatalogCacheService catalogCache;
+
+    @Autowired
+    private IAutocompleteService autocompleteService;
+
+    @Autowired
+    private IShowRepository showRepository;
+
+    @Autowired
+    private IShowScheduleService showSchedule;
+
+    @Autowired
+    private ISeatInventoryService seatInventoryService;
+
+    @Autowired
+    private IPricingService pricingService;
+
     @Override
     public Theatre addTheatre(Theatre theatre) {
         if (theatreRepository.existsByTheatreName(theatre.getTheatreName())) {
             throw new RuntimeException("Theatre with name " + theatre.getTheatreName() + " already exists");
         }
-        return theatreRepository.save(theatre);
+        Theatre saved = theatreRepository.save(theatre);
+        catalogCache.invalidateAll();
+        autocompleteService.putTheatre(saved);
+        return saved;
     }
 
     @Override
     public Theatre updateTheatre(Theatre theatre) {
         Optional<Theatre> existingTheatre = theatreRepository.findById(theatre.getTheatreId());
         if (existingTheatre.isPresent()) {
-            return theatreRepository.save(theatre);
+            Theatre saved = theatreRepository.save(theatre);
+            catalogCache.invalidateAll();
+            autocompleteService.putTheatre(saved);
+            return saved;
         } else {
             throw new RuntimeException("Theatre not found with ID: " + theatre.getTheatreId());
         }
@@ -36,7 +71,13 @@ public class TheatreServiceImpl implements ITheatreService {
     public Theatre removeTheatre(int theatreId) {
         Optional<Theatre> theatre = theatreRepository.findById(theatreId);
         if (theatre.isPresent()) {
+            // The delete cascades through the theatre's screens to their shows, which must leave the schedules too.
+            List<Integer> showIds = showRepository.findShowIdsByTheatreId(theatreId);
             theatreRepository.deleteById(theatreId);
+            showIds.forEach(showSchedule::unschedule);
+            TransactionHooks.afterCommit(() -> showIds.forEach(this::evictShowState));
+            catalogCache.invalidateAll();
+            autocompleteService.removeTheatre(theatreId);
             return theatre.get();
         } else {
             throw new RuntimeException("Theatre not found with ID: " + theatreId);
@@ -45,17 +86,50 @@ public class TheatreServiceImpl implements ITheatreService {
 
     @Override
     public Theatre viewTheatre(int theatreId) {
-        return theatreRepository.findById(theatreId)
-            .orElseThrow(() -> new RuntimeException("Theatre not found with ID: " + theatreId));
+        Theatre theatre = catalogCache.get("theatre:" + theatreId,
+                () -> initialized(theatreRepository.findById(theatreId).orElse(null)));
+        if (theatre == null) {
+            throw new RuntimeException("Theatre not found with ID: " + theatreId);
+        }
+        return theatre;
     }
 
     @Override
     public List<Theatre> viewAllTheatres() {
-        return theatreRepository.findAll();
+        return catalogCache.get("theatres", () -> initialized(theatreRepository.findAll()));
+    }
+
+    @Override
+    public CursorPage<Theatre> viewTheatrePage(int after, int limit) {
+        return CursorPage.of(
+                theatreRepository.findByTheatreIdGreaterThanOrderByTheatreIdAsc(after, PageRequest.of(0, limit + 1)),
+                limit, Theatre::getTheatreId);
     }
 
     @Override
     public List<Theatre> viewTheatresByCity(String city) {
-        return theatreRepository.findByTheatreCity(city);
+        return catalogCache.get("theatres:city:" + city, () -> initialized(theatreRepository.findByTheatreCity(city)));
+    }
+
+    private static List<Theatre> initialized(List<Theatre> theatres) {
+        List<Theatre> copy = List.copyOf(theatres);
+        copy.forEach(TheatreServiceImpl::initialized);
+        return copy;
+    }
+
+    // Cached theatres outlive their session, so the screens and shows they are serialized with are loaded up front.
+    private static Theatre initialized(Theatre theatre) {
+        if (theatre != null && theatre.getListOfScreens() != null) {
+            Hibernate.initialize(theatre.getListOfScreens());
+            for (Screen screen : theatre.getListOfScreens()) {
+                Hibernate.initialize(screen.getShowList());
+            }
+        }
+        return theatre;
+    }
+
+    private void evictShowState(int showId) {
+        seatInventoryService.evict(showId);
+        pricingService.evict(showId);
     }
 }
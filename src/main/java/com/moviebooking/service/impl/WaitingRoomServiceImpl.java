@@ -0,0 +1,251 @@
+package com.moviebooking.service.impl;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.dto.QueueTicket;
+import com.moviebooking.exception.WaitingRoomException;
+import com.moviebooking.service.IWaitingRoomService;
+import com.moviebooking.util.HmacSigner;
+
+/**
+ * Per-show waiting rooms for on-sales. Joining hands out the next sequence
+ * number in a signed token; a token bucket per show moves an "admitted up
+ * to" frontier forward at the configured rate, so a position is just the
+ * distance between a sequence number and that frontier. Nothing is stored per
+ * customer, and checking a token is an HMAC and a comparison, which lets
+ * requests that have not been admitted be turned away before they reach the
+ * booking service or the database. An admission lasts
+ * {@code app.waiting-room.admission-minutes}; after that the customer joins
+ * the queue again, so one admitted token cannot keep booking for the rest of
+ * the on-sale.
+ *
+ * <p>Rooms and the signing key live in memory, so a restart closes every room
+ * and invalidates outstanding tokens.
+ */
+@Service
+public class WaitingRoomServiceImpl implements IWaitingRoomService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WaitingRoomServiceImpl.class);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MAX_RETRY_AFTER_SECONDS = 30;
+
+    private static final Duration DEFAULT_ADMISSION = Duration.ofMinutes(15);
+
+    private final LongSupplier nanoClock;
+    private final long admissionNanos;
+    private final HmacSigner signer = new HmacSigner();
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentMap<Integer, Room> rooms = new ConcurrentHashMap<>();
+
+    @Autowired
+    public WaitingRoomServiceImpl(@Value("${app.waiting-room.shows:}") String openShows,
+            @Value("${app.waiting-room.admit-per-second:20}") double admitPerSecond,
+            @Value("${app.waiting-room.burst:50}") int burst,
+            @Value("${app.waiting-room.admission-minutes:15}") long admissionMinutes) {
+        this(System::nanoTime, Duration.ofMinutes(admissionMinutes));
+        for (String showId : openShows.split(",")) {
+            if (!showId.isBlank()) {
+                open(Integer.parseInt(showId.trim()), admitPerSecond, burst);
+            }
+        }
+    }
+
+    public WaitingRoomServiceImpl(LongSupplier nanoClock) {
+        this(nanoClock, DEFAULT_ADMISSION);
+    }
+
+    public WaitingRoomServiceImpl(LongSupplier nanoClock, Duration admission) {
+        if (admission.isNegative() || admission.isZero()) {
+            throw new IllegalArgumentException("Admission must last a positive time");
+        }
+        this.nanoClock = nanoClock;
+        this.admissionNanos = admission.toNanos();
+    }
+
+    @Override
+    public void open(int showId, double admitPerSecond, int burst) {
+        if (admitPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Admission rate must be positive and burst at least 1");
+        }
+        rooms.put(showId, new Room(random.nextLong() >>> 1, admitPerSecond, burst, admissionNanos,
+                nanoClock.getAsLong()));
+        LOGGER.info("Opened waiting room for show {} admitting {}/s with burst {}", showId, admitPerSecond, burst);
+    }
+
+    @Override
+    public boolean close(int showId) {
+        return rooms.remove(showId) != null;
+    }
+
+    @Override
+    public QueueTicket join(int showId, int customerId) {
+        Room room = rooms.get(showId);
+        if (room == null) {
+            return new QueueTicket(null, showId, 0, true, 0);
+        }
+        long sequence;
+        long admittedUpTo;
+        synchronized (room) {
+            sequence = room.issued++;
+            admittedUpTo = room.advance(nanoClock.getAsLong());
+        }
+        return ticket(showId, room, sign(showId, room.epoch, sequence, customerId), sequence, admittedUpTo);
+    }
+
+    @Override
+    public QueueTicket getTicket(int showId, String token) {
+        Room room = rooms.get(showId);
+        if (room == null) {
+            return new QueueTicket(token, showId, 0, true, 0);
+        }
+        ParsedToken parsed = verify(showId, room, token);
+        long admittedUpTo = room.admittedUpTo(nanoClock.getAsLong());
+        checkNotExpired(room, parsed);
+        return ticket(showId, room, token, parsed.sequence, admittedUpTo);
+    }
+
+    @Override
+    public void checkAdmitted(int showId, int customerId, String token) {
+        Room room = rooms.get(showId);
+        if (room == null) {
+            return;
+        }
+        if (token == null || token.isBlank()) {
+            throw new WaitingRoomException(WaitingRoomException.Reason.NOT_ADMITTED,
+                    "This show has a waiting room; join the queue first", -1, 1);
+        }
+        ParsedToken parsed = verify(showId, room, token);
+        if (parsed.customerId != customerId) {
+            throw new WaitingRoomException(WaitingRoomException.Reason.INVALID_TOKEN,
+                    "Queue token belongs to another customer", -1, 0);
+        }
+        long admittedUpTo = room.admittedUpTo(nanoClock.getAsLong());
+        if (parsed.sequence >= admittedUpTo) {
+            long position = parsed.sequence - admittedUpTo;
+            throw new WaitingRoomException(WaitingRoomException.Reason.NOT_ADMITTED,
+                    "Still in the queue for this show", position, retryAfter(room, position));
+        }
+        checkNotExpired(room, parsed);
+    }
+
+    private void checkNotExpired(Room room, ParsedToken parsed) {
+        if (parsed.sequence < room.expiredUpTo()) {
+            throw new WaitingRoomException(WaitingRoomException.Reason.ADMISSION_EXPIRED,
+                    "Queue admission has expired; join the queue again", -1, 0);
+        }
+    }
+
+    private QueueTicket ticket(int showId, Room room, String token, long sequence, long admittedUpTo) {
+        if (sequence < admittedUpTo) {
+            return new QueueTicket(token, showId, 0, true, 0);
+        }
+        long position = sequence - admittedUpTo;
+        return new QueueTicket(token, showId, position, false, retryAfter(room, position));
+    }
+
+    private long retryAfter(Room room, long position) {
+        double seconds = (position + 1) / room.admitPerSecond;
+        return Math.max(1, Math.min(MAX_RETRY_AFTER_SECONDS, (long) Math.ceil(seconds)));
+    }
+
+    private String sign(int showId, long epoch, long sequence, int customerId) {
+        String payload = Long.toHexString(epoch) + "-" + sequence + "-" + customerId;
+        return payload + "." + signer.sign(String.valueOf(showId), payload);
+    }
+
+    private ParsedToken verify(int showId, Room room, String token) {
+        int dot = token.lastIndexOf('.');
+        String[] parts = dot > 0 ? token.substring(0, dot).split("-") : new String[0];
+        if (parts.length == 3 && signer.verify(String.valueOf(showId), token.substring(0, dot), token.substring(dot + 1))) {
+            try {
+                if (Long.parseUnsignedLong(parts[0], 16) == room.epoch) {
+                    return new ParsedToken(Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+                }
+            } catch (NumberFormatException e) {
+                // Falls through to the rejection below.
+            }
+        }
+        throw new WaitingRoomException(WaitingRoomException.Reason.INVALID_TOKEN,
+                "Queue token is not valid for this show", -1, 0);
+    }
+
+    /**
+     * Token bucket whose tokens are spent admitting queued sequence numbers.
+     * An idle room fills to {@code burst}, so the first arrivals after a
+     * quiet spell go straight through. Sequence numbers are admitted in order,
+     * so admission times are kept per batch rather than per customer.
+     */
+    private static final class Room {
+        private final long epoch;
+        private final double admitPerSecond;
+        private final double tokensPerNano;
+        private final int burst;
+        private double tokens;
+        private long lastRefill;
+        private final long admissionNanos;
+        private long issued;
+        private long admitted;
+        // Frontier after each admitting step -> when it was reached; sequences below expiredUpTo have timed out.
+        private final TreeMap<Long, Long> admissions = new TreeMap<>();
+        private long expiredUpTo;
+
+        private Room(long epoch, double admitPerSecond, int burst, long admissionNanos, long now) {
+            this.epoch = epoch;
+            this.admitPerSecond = admitPerSecond;
+            this.tokensPerNano = admitPerSecond / NANOS_PER_SECOND;
+            this.burst = burst;
+            this.admissionNanos = admissionNanos;
+            this.tokens = burst;
+            this.lastRefill = now;
+        }
+
+        private synchronized long admittedUpTo(long now) {
+            return advance(now);
+        }
+
+        private synchronized long expiredUpTo() {
+            return expiredUpTo;
+        }
+
+        private long advance(long now) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            long admitting = Math.min(issued - admitted, (long) tokens);
+            admitted += admitting;
+            tokens -= admitting;
+            if (admitting > 0) {
+                admissions.put(admitted, now);
+            }
+            Map.Entry<Long, Long> oldest = admissions.firstEntry();
+            while (oldest != null && now - oldest.getValue() >= admissionNanos) {
+                expiredUpTo = oldest.getKey();
+                admissions.pollFirstEntry();
+                oldest = admissions.firstEntry();
+            }
+            return admitted;
+        }
+    }
+
+    private static final class ParsedToken {
+        private final long sequence;
+        private final int customerId;
+
+        private ParsedToken(long sequence, int customerId) {
+            this.sequence = sequence;
+            this.customerId = customerId;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.moviebooking.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.moviebooking.dto.SeatHold;
+import com.moviebooking.dto.SeatPreferences;
+import com.moviebooking.dto.WaitlistEntry;
+import com.moviebooking.dto.WaitlistRequest;
+import com.moviebooking.entity.Show;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.repository.ICustomerRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.ISeatHoldService;
+import com.moviebooking.service.ISeatInventoryService;
+import com.moviebooking.service.IWaitlistService;
+import com.moviebooking.util.FirstFitQueue;
+
+/**
+ * In-memory, per-show waitlists. Each show keeps its waiting customers in a
+ * {@link FirstFitQueue}, so finding the earliest customer whose seat count
+ * fits the seats now free is O(log n) however long the queue is. A customer
+ * whose preferences cannot be met from the free seats is skipped for that
+ * round but keeps their place. Promoted customers get an ordinary seat hold
+ * and book it with its hold ID.
+ */
+@Service
+public class WaitlistServiceImpl implements IWaitlistService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WaitlistServiceImpl.class);
+
+    // Caps the hold attempts per release when free seats keep failing to suit the customers at the front.
+    private static final int MAX_ATTEMPTS_PER_PROMOTION = 16;
+
+    private final IShowRepository showRepository;
+    private final ICustomerRepository customerRepository;
+    private final ISeatInventoryService seatInventoryService;
+    private final ISeatHoldService seatHoldService;
+    private final int maxWaitingPerShow;
+    private final ConcurrentMap<Integer, ShowWaitlist> waitlists = new ConcurrentHashMap<>();
+
+    public WaitlistServiceImpl(IShowRepository showRepository, ICustomerRepository customerRepository,
+            ISeatInventoryService seatInventoryService, ISeatHoldService seatHoldService,
+            @Value("${app.waitlist.max-per-show:5000}") int maxWaitingPerShow) {
+        this.showRepository = showRepository;
+        this.customerRepository = customerRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.seatHoldService = seatHoldService;
+        this.maxWaitingPerShow = maxWaitingPerShow;
+        // Seats from lapsed holds, including ones offered to this waitlist, go to the next waiting customer.
+        seatHoldService.onHoldsExpired(this::promote);
+    }
+
+    @Override
+    public WaitlistEntry join(int showId, WaitlistRequest request) {
+        if (request == null || request.getSeatCount() <= 0) {
+            throw new IllegalArgumentException("Seat count must be at least 1");
+        }
+        if (!customerRepository.existsById(request.getCustomerId())) {
+            throw new IllegalArgumentException("Customer not found with ID: " + request.getCustomerId());
+        }
+        Show show = showRepository.findById(showId)
+                .orElseThrow(() -> new IllegalArgumentException("Show not found with ID: " + showId));
+        if (request.getSeatCount() > seatInventoryService.getSeatMap(show).getColumns()) {
+            throw new IllegalArgumentException("Seat count cannot exceed the seats in a row");
+        }
+
+        ShowWaitlist waitlist = waitlists.computeIfAbsent(showId, id -> new ShowWaitlist());
+        Waiter waiter = new Waiter(UUID.randomUUID().toString(), request.getCustomerId(), request.getSeatCount(),
+                request.getSeatPreferences());
+        synchronized (waitlist) {
+            if (waitlist.queue.size() >= maxWaitingPerShow) {
+                throw new IllegalArgumentException("The waitlist for this show is full");
+            }
+            if (!waitlist.waitingCustomers.add(waiter.customerId)) {
+                throw new IllegalArgumentException("Customer is already on the waitlist for this show");
+            }
+            waitlist.waiting.put(waiter.entryId, waitlist.queue.add(waiter, waiter.seatCount));
+        }
+
+        // Seats may already be free, in which case the customer is promoted straight away.
+        promote(showId);
+        return getEntry(showId, waiter.entryId);
+    }
+
+    @Override
+    public WaitlistEntry getEntry(int showId, String entryId) {
+        ShowWaitlist waitlist = waitlists.get(showId);
+        if (waitlist != null) {
+            synchronized (waitlist) {
+                FirstFitQueue.Entry<Waiter> queued = waitlist.waiting.get(entryId);
+                if (queued != null) {
+                    Waiter waiter = queued.getValue();
+                    return new WaitlistEntry(entryId, showId, waiter.customerId, waiter.seatCount,
+                            WaitlistEntry.Status.WAITING, waitlist.queue.positionOf(queued), null);
+                }
+                waitlist.forgetExpiredPromotions();
+                Promotion promotion = waitlist.promoted.get(entryId);
+                if (promotion != null) {
+                    return new WaitlistEntry(entryId, showId, promotion.waiter.customerId, promotion.waiter.seatCount,
+                            WaitlistEntry.Status.PROMOTED, null, promotion.hold);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Waitlist entry not found: " + entryId);
+    }
+
+    @Override
+    public boolean leave(int showId, String entryId) {
+        ShowWaitlist waitlist = waitlists.get(showId);
+        if (waitlist == null) {
+            return false;
+        }
+        synchronized (waitlist) {
+            FirstFitQueue.Entry<Waiter> queued = waitlist.waiting.get(entryId);
+            if (queued == null) {
+                return false;
+            }
+            waitlist.dequeue(queued);
+            return true;
+        }
+    }
+
+    @Override
+    public List<SeatHold> promote(int showId) {
+        ShowWaitlist waitlist = waitlists.get(showId);
+        if (waitlist == null) {
+            return List.of();
+        }
+        try {
+            synchronized (waitlist) {
+                return promoteWaiting(showId, waitlist);
+            }
+        } catch (RuntimeException e) {
+            // Promotion rides along with cancellations, which must not fail because of it.
+            LOGGER.error("Failed to promote waitlist for show {}", showId, e);
+            return List.of();
+        }
+    }
+
+    private List<SeatHold> promoteWaiting(int showId, ShowWaitlist waitlist) {
+        waitlist.forgetExpiredPromotions();
+        if (waitlist.queue.isEmpty()) {
+            return List.of();
+        }
+        Show show = showRepository.findById(showId).orElse(null);
+        if (show == null) {
+            return List.of();
+        }
+        SeatMap seatMap = seatInventoryService.getSeatMap(show);
+        int freeSeats = seatMap.capacity() - seatMap.occupiedCount();
+
+        List<SeatHold> holds = new ArrayList<>();
+        FirstFitQueue.Entry<Waiter> skippedUpTo = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_PROMOTION && freeSeats > 0; attempt++) {
+            FirstFitQueue.Entry<Waiter> candidate = waitlist.queue.firstFitting(freeSeats, skippedUpTo);
+            if (candidate == null) {
+                break;
+            }
+            Waiter waiter = candidate.getValue();
+            Optional<SeatHold> hold;
+            try {
+                hold = seatHoldService.holdBestAvailable(show, waiter.customerId, waiter.seatCount, waiter.preferences);
+            } catch (IllegalArgumentException e) {
+                // Preferences that no longer match the layout can never be served.
+                LOGGER.warn("Dropping waitlist entry {} for show {}: {}", waiter.entryId, showId, e.getMessage());
+                waitlist.dequeue(candidate);
+                continue;
+            }
+            if (hold.isEmpty()) {
+                skippedUpTo = candidate;
+                continue;
+            }
+
+            waitlist.dequeue(candidate);
+            waitlist.promoted.put(waiter.entryId, new Promotion(waiter, hold.get()));
+            holds.add(hold.get());
+            freeSeats -= waiter.seatCount;
+        }
+        if (!holds.isEmpty()) {
+            LOGGER.debug("Promoted {} waitlisted customers for show {}", holds.size(), showId);
+        }
+        return holds;
+    }
+
+    private static final class ShowWaitlist {
+        private final FirstFitQueue<Waiter> queue = new FirstFitQueue<>();
+        private final Map<String, FirstFitQueue.Entry<Waiter>> waiting = new HashMap<>();
+        private final Set<Integer> waitingCustomers = new HashSet<>();
+        // Holds share one duration, so insertion order is expiry order.
+        private final LinkedHashMap<String, Promotion> promoted = new LinkedHashMap<>();
+
+        private void dequeue(FirstFitQueue.Entry<Waiter> queued) {
+            queue.remove(queued);
+            waiting.remove(queued.getValue().entryId);
+            waitingCustomers.remove(queued.getValue().customerId);
+        }
+
+        private void forgetExpiredPromotions() {
+            LocalDateTime now = LocalDateTime.now();
+            Iterator<Promotion> iterator = promoted.values().iterator();
+            while (iterator.hasNext() && iterator.next().hold.getExpiresAt().isBefore(now)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final String entryId;
+        private final int customerId;
+        private final int seatCount;
+        private final SeatPreferences preferences;
+
+        private Waiter(String entryId, int customerId, int seatCount, SeatPreferences preferences) {
+            this.entryId = entryId;
+            this.customerId = customerId;
+            this.seatCount = seatCount;
+            this.preferences = preferences;
+        }
+    }
+
+    private static final class Promotion {
+        private final Waiter waiter;
+        private final SeatHold hold;
+
+        private Promotion(Waiter waiter, SeatHold hold) {
+            this.waiter = waiter;
+            this.hold = hold;
+        }
+    }
+}
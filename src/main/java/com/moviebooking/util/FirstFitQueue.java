@@ -0,0 +1,174 @@
+package com.moviebooking.util;
+
+import java.util.Arrays;
+
+/**
+ * FIFO queue of sized entries that can find the oldest entry no larger than
+ * a given capacity in O(log n). Entries occupy consecutive slots in arrival
+ * order, and a segment tree over the slots keeps the smallest size and the
+ * number of live entries below every node; removing an entry blanks its slot.
+ * Slots are compacted when the array fills up, which costs O(n) but happens
+ * at most once per n appends.
+ *
+ * <p>Not thread-safe; callers guard each queue themselves.
+ */
+public class FirstFitQueue<T> {
+
+    private static final int EMPTY = Integer.MAX_VALUE;
+
+    private Entry<T>[] slots;
+    private int[] minSize;
+    private int[] liveCount;
+    private int leaves;
+    private int tail;
+    private int size;
+
+    public FirstFitQueue() {
+        allocate(16);
+    }
+
+    public Entry<T> add(T value, int entrySize) {
+        if (entrySize <= 0 || entrySize == EMPTY) {
+            throw new IllegalArgumentException("Entry size must be positive");
+        }
+        if (tail == leaves) {
+            // Compact in place when at least half the slots are dead, otherwise grow.
+            rebuild(size * 2 <= leaves ? leaves : leaves * 2);
+        }
+        Entry<T> entry = new Entry<>(value, entrySize);
+        entry.slot = tail++;
+        slots[entry.slot] = entry;
+        update(entry.slot, entrySize, 1);
+        size++;
+        return entry;
+    }
+
+    public boolean remove(Entry<T> entry) {
+        if (entry.slot < 0 || slots[entry.slot] != entry) {
+            return false;
+        }
+        slots[entry.slot] = null;
+        update(entry.slot, EMPTY, 0);
+        entry.slot = -1;
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the oldest entry whose size is at most {@code capacity} and
+     * that arrived no earlier than {@code after}, or {@code null}.
+     * Pass {@code null} as {@code after} to search from the head.
+     */
+    public Entry<T> firstFitting(int capacity, Entry<T> after) {
+        int from = after == null ? 0 : after.slot + 1;
+        if (after != null && after.slot < 0) {
+            throw new IllegalArgumentException("Entry is no longer queued");
+        }
+        int slot = firstAtMost(1, 0, leaves, from, capacity);
+        return slot < 0 ? null : slots[slot];
+    }
+
+    /**
+     * Number of live entries ahead of this one, or {@code -1} once it has
+     * left the queue.
+     */
+    public int positionOf(Entry<T> entry) {
+        if (entry.slot < 0) {
+            return -1;
+        }
+        int ahead = 0;
+        int node = 1;
+        int low = 0;
+        int high = leaves;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (entry.slot < mid) {
+                node = 2 * node;
+                high = mid;
+            } else {
+                ahead += liveCount[2 * node];
+                node = 2 * node + 1;
+                low = mid;
+            }
+        }
+        return ahead;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int firstAtMost(int node, int low, int high, int from, int capacity) {
+        if (high <= from || minSize[node] > capacity) {
+            return -1;
+        }
+        if (high - low == 1) {
+            return low;
+        }
+        int mid = (low + high) >>> 1;
+        int left = firstAtMost(2 * node, low, mid, from, capacity);
+        return left >= 0 ? left : firstAtMost(2 * node + 1, mid, high, from, capacity);
+    }
+
+    private void update(int slot, int entrySize, int live) {
+        int node = leaves + slot;
+        minSize[node] = entrySize;
+        liveCount[node] = live;
+        for (node >>>= 1; node > 0; node >>>= 1) {
+            minSize[node] = Math.min(minSize[2 * node], minSize[2 * node + 1]);
+            liveCount[node] = liveCount[2 * node] + liveCount[2 * node + 1];
+        }
+    }
+
+    private void rebuild(int newLeaves) {
+        Entry<T>[] previous = slots;
+        int previousTail = tail;
+        allocate(newLeaves);
+        for (int i = 0; i < previousTail; i++) {
+            Entry<T> entry = previous[i];
+            if (entry != null) {
+                entry.slot = tail++;
+                slots[entry.slot] = entry;
+                minSize[leaves + entry.slot] = entry.size;
+                liveCount[leaves + entry.slot] = 1;
+            }
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            minSize[node] = Math.min(minSize[2 * node], minSize[2 * node + 1]);
+            liveCount[node] = liveCount[2 * node] + liveCount[2 * node + 1];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int newLeaves) {
+        leaves = newLeaves;
+        slots = (Entry<T>[]) new Entry[newLeaves];
+        minSize = new int[2 * newLeaves];
+        liveCount = new int[2 * newLeaves];
+        Arrays.fill(minSize, EMPTY);
+        tail = 0;
+    }
+
+    public static final class Entry<T> {
+        private final T value;
+        private final int size;
+        private int slot = -1;
+
+        private Entry(T value, int size) {
+            this.value = value;
+            this.size = size;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+}
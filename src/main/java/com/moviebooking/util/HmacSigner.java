@@ -0,0 +1,56 @@
+package com.moviebooking.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Signs short tokens that the server hands out and later takes back, so they
+ * can be checked without storing them. Each signer has its own random key,
+ * which means tokens do not survive a restart.
+ */
+public class HmacSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    // 22 base64 characters carry 132 bits of the MAC, plenty for tokens that live minutes.
+    private static final int SIGNATURE_LENGTH = 22;
+
+    private final ThreadLocal<Mac> macs;
+
+    public HmacSigner() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec signingKey = new SecretKeySpec(key, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(signingKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    /**
+     * Signs {@code payload}, binding it to {@code context}: data the holder
+     * must present alongside the token but that is not carried inside it.
+     */
+    public String sign(String context, String payload) {
+        Mac mac = macs.get();
+        mac.update(context.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, SIGNATURE_LENGTH);
+    }
+
+    public boolean verify(String context, String payload, String signature) {
+        return MessageDigest.isEqual(sign(context, payload).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,180 @@
+package com.moviebooking.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Half-open intervals {@code [start, end)} identified by an int ID, kept in a
+ * treap ordered by start. Every node also records the latest end in its
+ * subtree, so an overlap query skips any subtree that ends before the window
+ * and everything that starts after it: adding, removing and finding the
+ * {@code k} intervals that overlap a window take {@code O(log n + k)}
+ * expected time.
+ *
+ * <p>Not thread-safe.
+ */
+public class IntervalTree {
+
+    private final Map<Integer, Node> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom(0x5eed);
+    private Node root;
+
+    /**
+     * Adds an interval, replacing any interval already stored under
+     * {@code id}.
+     */
+    public void put(int id, long start, long end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval must end after it starts");
+        }
+        remove(id);
+        Node node = new Node(id, start, end, random.nextInt());
+        nodes.put(id, node);
+        root = insert(root, node);
+    }
+
+    public boolean remove(int id) {
+        Node node = nodes.remove(id);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node);
+        return true;
+    }
+
+    /**
+     * IDs of the intervals that overlap {@code [start, end)}, in order of
+     * start.
+     */
+    public List<Integer> overlapping(long start, long end) {
+        List<Integer> ids = new ArrayList<>();
+        collect(root, start, end, ids);
+        return ids;
+    }
+
+    /** IDs of the intervals that contain {@code point}, in order of start. */
+    public List<Integer> containing(long point) {
+        return overlapping(point, point + 1);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private static void collect(Node node, long start, long end, List<Integer> ids) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, ids);
+        if (node.start < end) {
+            if (node.end > start) {
+                ids.add(node.id);
+            }
+            collect(node.right, start, end, ids);
+        }
+    }
+
+    private static Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.priority > tree.priority) {
+            Node[] parts = split(tree, node);
+            node.left = parts[0];
+            node.right = parts[1];
+            return update(node);
+        }
+        if (node.compareTo(tree) < 0) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+        return update(tree);
+    }
+
+    private static Node delete(Node tree, Node node) {
+        int order = node.compareTo(tree);
+        if (order == 0) {
+            return merge(tree.left, tree.right);
+        }
+        if (order < 0) {
+            tree.left = delete(tree.left, node);
+        } else {
+            tree.right = delete(tree.right, node);
+        }
+        return update(tree);
+    }
+
+    // Splits tree into the nodes ordered before key and the rest.
+    private static Node[] split(Node tree, Node key) {
+        if (tree == null) {
+            return new Node[2];
+        }
+        if (tree.compareTo(key) < 0) {
+            Node[] parts = split(tree.right, key);
+            tree.right = parts[0];
+            parts[0] = update(tree);
+            return parts;
+        }
+        Node[] parts = split(tree.left, key);
+        tree.left = parts[1];
+        parts[1] = update(tree);
+        return parts;
+    }
+
+    // Joins two treaps where every node of left is ordered before every node of right.
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+        return node;
+    }
+
+    private static final class Node implements Comparable<Node> {
+        private final int id;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(int id, long start, long end, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        // Ties on start are broken by ID so that every node has a distinct position.
+        @Override
+        public int compareTo(Node other) {
+            int order = Long.compare(start, other.start);
+            return order != 0 ? order : Integer.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.moviebooking.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Runs commands one at a time, in submission order, on a single dedicated
+ * thread. Submissions go through a preallocated ring of slots in the style of
+ * Vyukov's bounded queue: each slot carries a sequence number that tells a
+ * producer when the slot is free and the consumer when it has been published,
+ * so producers only contend on one compare-and-set and nothing is allocated
+ * per command beyond its future.
+ *
+ * <p>A full ring rejects the command instead of blocking the caller. The
+ * consumer spins briefly when idle and then parks until a producer wakes it.
+ */
+public class SingleWriterSequencer implements AutoCloseable {
+
+    private static final int IDLE_SPINS = 256;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final Thread consumer;
+    private volatile boolean running = true;
+    private volatile boolean parked;
+
+    public SingleWriterSequencer(String name, int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Sequencer capacity must be a power of two of at least 2");
+        }
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.mask = capacity - 1;
+        this.consumer = new Thread(this::consume, name);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> command) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Sequencer is shut down"));
+        }
+
+        long position = tail.get();
+        Slot slot;
+        while (true) {
+            slot = slots[(int) (position & mask)];
+            long lag = slot.sequence - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (lag < 0) {
+                // The consumer has not yet freed this slot from the previous lap.
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Sequencer queue is full"));
+            } else {
+                position = tail.get();
+            }
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        slot.command = command;
+        slot.future = future;
+        slot.sequence = position + 1;
+        if (parked) {
+            LockSupport.unpark(consumer);
+        }
+        return future;
+    }
+
+    /**
+     * Stops accepting commands, lets the consumer finish the ones already
+     * published and fails any that slipped in after it stopped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Slot slot : slots) {
+            if (slot.future != null) {
+                slot.future.completeExceptionally(new RejectedExecutionException("Sequencer is shut down"));
+            }
+        }
+    }
+
+    private void consume() {
+        long head = 0;
+        int idle = 0;
+        while (true) {
+            Slot slot = slots[(int) (head & mask)];
+            if (slot.sequence != head + 1) {
+                if (!running) {
+                    return;
+                }
+                if (++idle < IDLE_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    parked = true;
+                    if (slot.sequence != head + 1 && running) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                    idle = 0;
+                }
+                continue;
+            }
+
+            idle = 0;
+            Supplier<?> command = slot.command;
+            @SuppressWarnings("unchecked")
+            CompletableFuture<Object> future = (CompletableFuture<Object>) slot.future;
+            slot.command = null;
+            slot.future = null;
+            // Hand the slot back before running the command so producers can refill it meanwhile.
+            slot.sequence = head + slots.length;
+            head++;
+            try {
+                future.complete(command.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Slot {
+        private volatile long sequence;
+        private Supplier<?> command;
+        private CompletableFuture<?> future;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
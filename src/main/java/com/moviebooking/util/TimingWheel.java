@@ -0,0 +1,203 @@
+package com.moviebooking.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel in the style of Kafka's purgatory timer. Every
+ * level has {@code wheelSize} buckets; a level's bucket spans the whole of the
+ * level below it, so a handful of levels cover hours at sub-second ticks.
+ * Scheduling and cancelling are O(1) and a tick touches at most one bucket per
+ * level, however many timeouts are pending.
+ *
+ * <p>Deadlines are rounded up to the next tick, so a value is never reported
+ * before its deadline and at most one tick after it. The wheel is driven
+ * externally through {@link #advance(long)}.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Bucket<T>[]> levels = new ArrayList<>();
+    private final List<Timeout<T>> due = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Timing wheel needs a positive tick and at least two buckets");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMs / tickMs;
+    }
+
+    public synchronized Timeout<T> schedule(T value, long deadlineMs) {
+        Timeout<T> timeout = new Timeout<>(value, Math.floorDiv(deadlineMs + tickMs - 1, tickMs));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.cancelled || timeout.fired) {
+            return false;
+        }
+        timeout.cancelled = true;
+        if (timeout.bucket != null) {
+            timeout.bucket.remove(timeout);
+        } else {
+            due.remove(timeout);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the clock to {@code nowMs} and returns every value whose deadline
+     * has passed. Higher levels are flushed first so their timeouts cascade
+     * into the finer buckets that fire on this same tick.
+     */
+    public synchronized List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        drainDue(expired);
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.size() - 1; level >= 0; level--) {
+                long levelSpan = spanOf(level);
+                if (currentTick % levelSpan == 0) {
+                    Bucket<T> bucket = levels.get(level)[(int) ((currentTick / levelSpan) % wheelSize)];
+                    if (bucket.expirationTick == currentTick) {
+                        for (Timeout<T> timeout : bucket.drain()) {
+                            place(timeout);
+                        }
+                    }
+                }
+            }
+            drainDue(expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    private void place(Timeout<T> timeout) {
+        if (timeout.deadlineTick <= currentTick) {
+            timeout.bucket = null;
+            due.add(timeout);
+            return;
+        }
+        int level = 0;
+        long span = 1;
+        while (true) {
+            long levelStart = currentTick - currentTick % span;
+            if (timeout.deadlineTick < levelStart + span * wheelSize) {
+                long virtualId = timeout.deadlineTick / span;
+                bucketsAt(level)[(int) (virtualId % wheelSize)].add(timeout, virtualId * span);
+                return;
+            }
+            level++;
+            span *= wheelSize;
+        }
+    }
+
+    private void drainDue(List<T> expired) {
+        for (Timeout<T> timeout : due) {
+            timeout.fired = true;
+            expired.add(timeout.value);
+        }
+        size -= due.size();
+        due.clear();
+    }
+
+    private long spanOf(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span *= wheelSize;
+        }
+        return span;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Bucket<T>[] bucketsAt(int level) {
+        while (levels.size() <= level) {
+            Bucket<T>[] buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level);
+    }
+
+    public static final class Timeout<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private boolean cancelled;
+        private boolean fired;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private long expirationTick = -1;
+
+        void add(Timeout<T> timeout, long expirationTick) {
+            this.expirationTick = expirationTick;
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        List<Timeout<T>> drain() {
+            List<Timeout<T>> drained = new ArrayList<>();
+            for (Timeout<T> timeout = head; timeout != null; ) {
+                Timeout<T> next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.bucket = null;
+                drained.add(timeout);
+                timeout = next;
+            }
+            head = null;
+            expirationTick = -1;
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.moviebooking.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded cache with a per-entry time to live and TinyLFU admission.
+ * Entries are kept in LRU order; when the cache is full a new key only
+ * displaces the least recently used entry if a count-min sketch of recent
+ * lookups says the new key is requested more often. One-off keys (a scan
+ * over dates or search terms, say) therefore cannot flush out the entries
+ * that serve most of the traffic.
+ *
+ * <p>Values are loaded outside the lock, so concurrent misses on one key may
+ * each call the loader. {@link #invalidateAll()} also discards values whose
+ * load started before it, so a slow load cannot put stale data back.
+ */
+public class TinyLfuCache<K, V> {
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejections;
+
+    public TinyLfuCache(int maximumSize, long ttlNanos, LongSupplier nanoClock) {
+        if (maximumSize < 1 || ttlNanos <= 0) {
+            throw new IllegalArgumentException("Cache size and time to live must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Returns the cached value for {@code key}, or loads, caches and returns
+     * it. Null values are returned but never cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            sketch.increment(key.hashCode());
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(nanoClock.getAsLong())) {
+                hits++;
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    admit(key, value, nanoClock.getAsLong());
+                }
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        generation++;
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        generation++;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /** Loaded values that were not cached because the key was colder than the eviction candidate. */
+    public synchronized long getRejectionCount() {
+        return rejections;
+    }
+
+    private void admit(K key, V value, long now) {
+        Entry<V> entry = new Entry<>(value, now + ttlNanos);
+        if (entries.size() < maximumSize || entries.containsKey(key)) {
+            entries.put(key, entry);
+            return;
+        }
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        Map.Entry<K, Entry<V>> victim = eldest.next();
+        if (victim.getValue().isExpired(now)
+                || sketch.frequency(key.hashCode()) > sketch.frequency(victim.getKey().hashCode())) {
+            eldest.remove();
+            evictions++;
+            entries.put(key, entry);
+        } else {
+            rejections++;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Count-min sketch with four rows of 4-bit counters. Once it has counted
+     * ten lookups per slot, every counter is halved so that the sketch
+     * follows recent popularity instead of all-time totals.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb5e3c3d7, 0x8f1bbcdc, 0xca62c1d6};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maximumSize) {
+            int width = Integer.highestOneBit(Math.max(16, maximumSize) * 2 - 1);
+            this.counters = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        private void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < counters.length; row++) {
+                int index = indexOf(hash, row);
+                if (counters[row][index] < MAX_COUNT) {
+                    counters[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                halve();
+            }
+        }
+
+        private int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < counters.length; row++) {
+                frequency = Math.min(frequency, counters[row][indexOf(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ (hash >>> 16)) * SEEDS[row];
+            return (h ^ (h >>> 15)) & mask;
+        }
+
+        private void halve() {
+            for (byte[] row : counters) {
+                for (int index = 0; index < row.length; index++) {
+                    row[index] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.moviebooking.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.moviebooking.inventory.SeatLabels;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.util.SingleWriterSequencer;
+
+/**
+ * Flash-sale comparison of the plain transactional booking path against the
+ * per-show sequencer. Client threads hammer a few shows with two-seat
+ * requests; every accepted request is "persisted" by holding a shared write
+ * lock for a fixed time, which is how SQLite serialises writers. In the plain
+ * path every client thread reserves and persists itself; in the sequenced
+ * path the clients only submit and wait, and one writer per partition does
+ * the work.
+ *
+ * <p>Not part of the test suite. Run after {@code mvn test-compile} with
+ * <pre>
+ * java -cp target/classes:target/test-classes com.moviebooking.benchmark.BookingSequencerBenchmark [clients] [shows] [persistMicros]
+ * </pre>
+ */
+public final class BookingSequencerBenchmark {
+
+    private static final int ROWS = 40;
+    private static final int COLUMNS = 60;
+    private static final int REQUESTS_PER_CLIENT = 2_000;
+    private static final int PARTITIONS = 4;
+
+    private final int shows;
+    private final long persistNanos;
+    private final ReentrantLock databaseWriteLock = new ReentrantLock();
+    private SeatMap[] seatMaps;
+
+    private BookingSequencerBenchmark(int shows, long persistMicros) {
+        this.shows = shows;
+        this.persistNanos = persistMicros * 1_000;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int shows = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        long persistMicros = args.length > 2 ? Long.parseLong(args[2]) : 20;
+        BookingSequencerBenchmark benchmark = new BookingSequencerBenchmark(shows, persistMicros);
+
+        System.out.printf("%d clients, %d shows, %d us per write%n", clients, shows, persistMicros);
+        for (int round = 0; round < 2; round++) {
+            // The first round warms up the JIT and is not reported.
+            Result plain = benchmark.run(clients, false);
+            Result sequenced = benchmark.run(clients, true);
+            if (round > 0) {
+                plain.print("plain");
+                sequenced.print("sequenced");
+            }
+        }
+    }
+
+    private Result run(int clients, boolean sequenced) throws InterruptedException {
+        seatMaps = new SeatMap[shows];
+        for (int show = 0; show < shows; show++) {
+            seatMaps[show] = new SeatMap(ROWS, COLUMNS);
+        }
+        SingleWriterSequencer[] partitions = new SingleWriterSequencer[sequenced ? PARTITIONS : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new SingleWriterSequencer("bench-sequencer-" + i, 1024);
+        }
+
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        long[][] latencies = new long[clients][REQUESTS_PER_CLIENT];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int client = 0; client < clients; client++) {
+            long[] clientLatencies = latencies[client];
+            Thread thread = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                awaitQuietly(start);
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    int show = random.nextInt(shows);
+                    int seat = random.nextInt(ROWS * COLUMNS - 1);
+                    List<String> seats = List.of(SeatLabels.toLabel(seat, COLUMNS), SeatLabels.toLabel(seat + 1, COLUMNS));
+                    long began = System.nanoTime();
+                    boolean booked = sequenced
+                            ? partitions[show % partitions.length].submit(() -> book(show, seats)).join()
+                            : book(show, seats);
+                    clientLatencies[i] = System.nanoTime() - began;
+                    (booked ? sold : refused).incrementAndGet();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - began;
+        for (SingleWriterSequencer partition : partitions) {
+            partition.close();
+        }
+        return new Result(elapsed, sold.get(), refused.get(), latencies);
+    }
+
+    /**
+     * One booking: reserve the seats in memory and persist them. The seats are
+     * released again afterwards so the sale never sells out mid-run.
+     */
+    private boolean book(int show, List<String> seats) {
+        SeatMap seatMap = seatMaps[show];
+        long[] mask = seatMap.maskOf(seats);
+        if (!seatMap.tryOccupy(mask).isEmpty()) {
+            return false;
+        }
+        databaseWriteLock.lock();
+        try {
+            long until = System.nanoTime() + persistNanos;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            databaseWriteLock.unlock();
+        }
+        seatMap.release(mask);
+        return true;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Result {
+        private final long elapsedNanos;
+        private final int sold;
+        private final int refused;
+        private final long[] latencies;
+
+        private Result(long elapsedNanos, int sold, int refused, long[][] perClient) {
+            this.elapsedNanos = elapsedNanos;
+            this.sold = sold;
+            this.refused = refused;
+            this.latencies = Arrays.stream(perClient).flatMapToLong(Arrays::stream).sorted().toArray();
+        }
+
+        private void print(String label) {
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf("%-10s %9.0f req/s  sold %6d  refused %6d  p50 %7.1f us  p99 %8.1f us%n",
+                    label, latencies.length / seconds, sold, refused,
+                    percentile(0.50) / 1e3, percentile(0.99) / 1e3);
+        }
+
+        private long percentile(double fraction) {
+            return latencies[Math.min(latencies.length - 1, (int) (latencies.length * fraction))];
+        }
+    }
+}
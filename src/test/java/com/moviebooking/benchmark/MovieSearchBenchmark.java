@@ -0,0 +1,115 @@
+package com.moviebooking.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.moviebooking.entity.Movie;
+import com.moviebooking.search.MovieSearchIndex;
+
+/**
+ * Search-as-you-type latency of {@link MovieSearchIndex} over a synthetic
+ * catalogue. Titles and descriptions draw words with Zipf-distributed
+ * frequencies from a vocabulary that starts with stop words, spreads the
+ * readable words used by the queries over the next few hundred ranks and
+ * fills the rest with generated words, so a few words are in most
+ * descriptions and most are rare. Each
+ * query is replayed one keystroke at a time, the way the search box sends
+ * it, including a misspelt word.
+ *
+ * <p>Not part of the test suite. Run after {@code mvn test-compile} with
+ * <pre>
+ * java -cp target/classes:target/test-classes com.moviebooking.benchmark.MovieSearchBenchmark [movies]
+ * </pre>
+ */
+public final class MovieSearchBenchmark {
+
+    private static final String[] STOP_WORDS = {"the", "a", "of", "and", "to", "in", "his", "her", "with", "for"};
+    private static final String[] WORDS = {"dark", "knight", "star", "wars", "love", "actually", "return", "king",
+            "lost", "city", "night", "morning", "river", "mountain", "storm", "shadow", "empire", "ocean", "dream",
+            "ghost", "blade", "runner", "silent", "planet", "frozen", "garden", "secret", "winter", "summer", "island",
+            "machine", "dragon", "kingdom", "journey", "legend", "mirror", "paper", "castle", "thunder", "velvet"};
+    private static final int VOCABULARY = 20_000;
+    private static final String[] GENRES = {"Action", "Drama", "Comedy", "Horror", "Romance", "Sci-Fi", "Thriller"};
+    private static final String[] LANGUAGES = {"English", "Hindi", "Tamil", "Telugu", "French"};
+    private static final String[] QUERIES = {"dark knight", "return of the king", "silent planet", "frozen kingdom",
+            "thundr", "ocean dream"};
+
+    private MovieSearchBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int movies = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        Random random = new Random(42);
+        String[] vocabulary = vocabulary(random);
+        double[] cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+        List<Movie> catalogue = new ArrayList<>(movies);
+        for (int id = 1; id <= movies; id++) {
+            Movie movie = new Movie(words(random, vocabulary, cumulative, 2 + random.nextInt(3)) + " " + id,
+                    GENRES[random.nextInt(GENRES.length)], "2h", LANGUAGES[random.nextInt(LANGUAGES.length)],
+                    words(random, vocabulary, cumulative, 12));
+            movie.setMovieId(id);
+            catalogue.add(movie);
+        }
+
+        MovieSearchIndex index = new MovieSearchIndex();
+        long buildStart = System.nanoTime();
+        index.rebuild(catalogue);
+        System.out.printf("%d movies indexed in %d ms%n", movies, (System.nanoTime() - buildStart) / 1_000_000);
+
+        for (int round = 0; round < 2; round++) {
+            // The first round warms up the JIT and is not reported.
+            List<Long> latencies = new ArrayList<>();
+            for (int repeat = 0; repeat < 50; repeat++) {
+                for (String query : QUERIES) {
+                    for (int typed = 1; typed <= query.length(); typed++) {
+                        long start = System.nanoTime();
+                        index.search(query.substring(0, typed), 10);
+                        latencies.add(System.nanoTime() - start);
+                    }
+                }
+            }
+            if (round > 0) {
+                long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+                System.out.printf("%d keystrokes  p50 %7.1f us  p99 %8.1f us  max %8.1f us%n", sorted.length,
+                        sorted[sorted.length / 2] / 1e3, sorted[(int) (sorted.length * 0.99)] / 1e3,
+                        sorted[sorted.length - 1] / 1e3);
+            }
+        }
+        System.out.println("top hits for \"dark kni\": " + Arrays.toString(
+                index.search("dark kni", 3).stream().map(hit -> hit.getMovieName()).toArray()));
+    }
+
+    private static String[] vocabulary(Random random) {
+        String[] vocabulary = new String[VOCABULARY];
+        System.arraycopy(STOP_WORDS, 0, vocabulary, 0, STOP_WORDS.length);
+        for (int i = 0; i < WORDS.length; i++) {
+            vocabulary[STOP_WORDS.length + 10 * i] = WORDS[i];
+        }
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            if (vocabulary[rank] == null) {
+                char[] word = new char[4 + random.nextInt(6)];
+                for (int i = 0; i < word.length; i++) {
+                    word[i] = (char) ('a' + random.nextInt(26));
+                }
+                vocabulary[rank] = new String(word);
+            }
+        }
+        return vocabulary;
+    }
+
+    private static String words(Random random, String[] vocabulary, double[] cumulative, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+            text.append(i == 0 ? "" : " ").append(vocabulary[rank < 0 ? -rank - 1 : rank]);
+        }
+        return text.toString();
+    }
+}
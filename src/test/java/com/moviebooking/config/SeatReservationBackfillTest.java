@@ -0,0 +1,66 @@
+package com.moviebooking.config;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moviebooking.entity.ShowSeatReservation;
+import com.moviebooking.repository.IBookingRepository;
+import com.moviebooking.repository.IShowSeatReservationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SeatReservationBackfillTest {
+
+    @Mock
+    private IBookingRepository bookingRepository;
+
+    @Mock
+    private IShowSeatReservationRepository seatReservationRepository;
+
+    @Captor
+    private ArgumentCaptor<List<ShowSeatReservation>> reservations;
+
+    @InjectMocks
+    private SeatReservationBackfill backfill;
+
+    @Test
+    void backfill_CopiesLegacySeatsAndKeepsTheEarliestOwner() {
+        when(seatReservationRepository.count()).thenReturn(0L);
+        when(bookingRepository.findLegacySeatAssignments()).thenReturn(List.of(
+                new Object[] { 1, 7, "a2", 10, 15 },
+                new Object[] { 1, 7, "B1", 10, 15 },
+                new Object[] { 2, 7, "A2", 10, 15 },
+                new Object[] { 3, 7, "Z9", 10, 15 },
+                new Object[] { 3, 8, "A2", 10, 15 }));
+
+        backfill.backfill();
+
+        verify(seatReservationRepository).saveAll(reservations.capture());
+        List<ShowSeatReservation> saved = reservations.getValue();
+        assertEquals(3, saved.size());
+        assertEquals(List.of(1, 15, 1), saved.stream().map(ShowSeatReservation::getSeatIndex).toList());
+        assertEquals(List.of(1, 1, 3), saved.stream().map(ShowSeatReservation::getBookingId).toList());
+        assertEquals("A2", saved.get(0).getSeatNumber());
+    }
+
+    @Test
+    void backfill_SkipsWhenReservationsAlreadyExist() {
+        when(seatReservationRepository.count()).thenReturn(12L);
+
+        backfill.backfill();
+
+        verify(bookingRepository, never()).findLegacySeatAssignments();
+        verify(seatReservationRepository, never()).saveAll(any());
+    }
+}
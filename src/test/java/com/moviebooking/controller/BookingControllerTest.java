@@ -1,12 +1,22 @@
 package com.moviebooking.controller;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,21 +24,36 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.moviebooking.config.JwtTokenProvider;
 import com.moviebooking.dto.BookingRequest;
+import com.moviebooking.dto.CursorPage;
+import com.moviebooking.dto.ExportFormat;
+import com.moviebooking.dto.IdempotentResponse;
 import com.moviebooking.dto.MovieBookingSummary;
 import com.moviebooking.dto.TicketView;
 import com.moviebooking.entity.Ticket;
 import com.moviebooking.entity.TicketBooking;
+import com.moviebooking.exception.IdempotencyKeyException;
+import com.moviebooking.exception.WaitingRoomException;
 import com.moviebooking.repository.ICustomerRepository;
 import com.moviebooking.repository.IUserRepository;
+import com.moviebooking.service.IBookingExportService;
+import com.moviebooking.service.IBookingSequencer;
 import com.moviebooking.service.IBookingService;
+import com.moviebooking.service.IIdempotencyService;
+import com.moviebooking.service.IWaitingRoomService;
 
 @WebMvcTest(BookingController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -42,6 +67,18 @@ class BookingControllerTest {
     @MockBean
     private IBookingService bookingService;
 
+    @MockBean
+    private IIdempotencyService idempotencyService;
+
+    @MockBean
+    private IBookingSequencer bookingSequencer;
+
+    @MockBean
+    private IWaitingRoomService waitingRoomService;
+
+    @MockBean
+    private IBookingExportService bookingExportService;
+
     @MockBean
     private IUserRepository userRepository;
 
@@ -146,6 +183,145 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.error").value("At least one seat must be selected"));
     }
 
+    @Test
+    @DisplayName("POST /api/bookings replays the stored response for a repeated Idempotency-Key")
+    void addBooking_replaysIdempotentRequest() throws Exception {
+        BookingRequest request = new BookingRequest();
+        request.setShowId(12);
+        request.setCustomerId(5);
+        request.setSeatNumbers(List.of("A1"));
+        request.setTotalCost(400.0);
+
+        when(idempotencyService.claim(eq("retry-1"), any(BookingRequest.class)))
+                .thenReturn(Optional.of(new IdempotentResponse(201, "{\"bookingId\":10}")));
+
+        mockMvc.perform(post("/api/bookings")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.bookingId").value(10));
+
+        verify(bookingService, never()).addBooking(any(BookingRequest.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/bookings stores the response under a new Idempotency-Key")
+    void addBooking_recordsIdempotentResponse() throws Exception {
+        BookingRequest request = new BookingRequest();
+        request.setShowId(12);
+        request.setCustomerId(5);
+        request.setSeatNumbers(List.of("A1"));
+        request.setTotalCost(400.0);
+
+        TicketBooking booking = new TicketBooking();
+        booking.setBookingId(11);
+
+        when(idempotencyService.claim(eq("retry-2"), any(BookingRequest.class))).thenReturn(Optional.empty());
+        when(bookingService.addBooking(any(BookingRequest.class))).thenReturn(booking);
+
+        mockMvc.perform(post("/api/bookings")
+                .header("Idempotency-Key", "retry-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bookingId").value(11));
+
+        verify(idempotencyService).complete(eq("retry-2"), any(BookingRequest.class), eq(201), eq(booking));
+    }
+
+    @Test
+    @DisplayName("POST /api/bookings rejects an Idempotency-Key reused for another request")
+    void addBooking_rejectsReusedIdempotencyKey() throws Exception {
+        BookingRequest request = new BookingRequest();
+        request.setShowId(12);
+        request.setCustomerId(5);
+        request.setSeatNumbers(List.of("A2"));
+        request.setTotalCost(400.0);
+
+        when(idempotencyService.claim(eq("retry-1"), any(BookingRequest.class)))
+                .thenThrow(new IdempotencyKeyException(IdempotencyKeyException.Reason.REUSED,
+                        "Idempotency-Key was already used for a different request"));
+
+        mockMvc.perform(post("/api/bookings")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("Idempotency-Key was already used for a different request"));
+    }
+
+    @Test
+    @DisplayName("POST /api/bookings waits for the show's sequencer when enabled")
+    void addBooking_usesSequencerWhenEnabled() throws Exception {
+        BookingRequest request = new BookingRequest();
+        request.setShowId(12);
+        request.setCustomerId(5);
+        request.setSeatNumbers(List.of("A2"));
+        request.setTotalCost(400.0);
+
+        TicketBooking booking = new TicketBooking();
+        booking.setBookingId(31);
+        booking.setShowId(12);
+
+        when(bookingSequencer.isEnabled()).thenReturn(true);
+        when(bookingSequencer.addBooking(any(BookingRequest.class))).thenReturn(CompletableFuture.completedFuture(booking));
+
+        mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bookingId").value(31));
+
+        verify(bookingService, never()).addBooking(any(BookingRequest.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/bookings returns 503 when the show's sequencer is full")
+    void addBooking_returnsServiceUnavailableWhenSequencerIsFull() throws Exception {
+        BookingRequest request = new BookingRequest();
+        request.setShowId(12);
+        request.setCustomerId(5);
+        request.setSeatNumbers(List.of("A2"));
+        request.setTotalCost(400.0);
+
+        when(bookingSequencer.isEnabled()).thenReturn(true);
+        when(bookingSequencer.addBooking(any(BookingRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("Sequencer queue is full")));
+
+        mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("POST /api/bookings returns 429 before booking when the customer is still queued")
+    void addBooking_returnsTooManyRequestsWhenNotAdmitted() throws Exception {
+        BookingRequest request = new BookingRequest();
+        request.setShowId(12);
+        request.setCustomerId(5);
+        request.setSeatNumbers(List.of("A2"));
+        request.setTotalCost(400.0);
+
+        doThrow(new WaitingRoomException(WaitingRoomException.Reason.NOT_ADMITTED, "Still in the queue for this show", 42, 3))
+                .when(waitingRoomService).checkAdmitted(12, 5, "queue-token");
+
+        mockMvc.perform(post("/api/bookings")
+                .header("X-Queue-Token", "queue-token")
+                .header("Idempotency-Key", "booking-pi_123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.position").value(42));
+
+        verify(idempotencyService, never()).claim(any(), any());
+        verify(bookingService, never()).addBooking(any());
+    }
+
     @Test
     @DisplayName("GET /api/bookings/summary/movies returns aggregated metrics")
     void summarizeBookingsByMovie_returnsOk() throws Exception {
@@ -211,4 +387,86 @@ class BookingControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.error").value("Customer not found with ID: 999"));
     }
+
+    @Test
+    @DisplayName("DELETE /api/bookings/{id} cancels without a response body")
+    void cancelBooking_returnsNoContent() throws Exception {
+        when(bookingService.cancelBooking(31)).thenReturn(true);
+
+        mockMvc.perform(delete("/api/bookings/31"))
+                .andExpect(status().isNoContent());
+
+        verify(bookingService).cancelBooking(31);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/bookings/{id} returns 404 for unknown bookings")
+    void cancelBooking_handlesMissingBooking() throws Exception {
+        when(bookingService.cancelBooking(404))
+                .thenThrow(new IllegalArgumentException("Booking not found with ID: 404"));
+
+        mockMvc.perform(delete("/api/bookings/404"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Booking not found with ID: 404"));
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings pages by cursor when after or limit is given")
+    void showAllBookings_returnsCursorPage() throws Exception {
+        TicketBooking booking = new TicketBooking();
+        booking.setBookingId(51);
+        when(bookingService.showBookingPage(50, 1)).thenReturn(new CursorPage<>(List.of(booking), 51));
+
+        mockMvc.perform(get("/api/bookings").param("after", "50").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].bookingId").value(51))
+                .andExpect(jsonPath("$.nextCursor").value(51));
+
+        verify(bookingService, never()).showAllBookings();
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings rejects a page limit out of range")
+    void showAllBookings_rejectsOversizedLimit() throws Exception {
+        mockMvc.perform(get("/api/bookings").param("limit", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("limit must be between 1 and 200"));
+
+        verify(bookingService, never()).showBookingPage(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/export streams rows with the filters applied")
+    void exportBookings_streamsCsv() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write("booking_id\n7\n".getBytes());
+            return 1L;
+        }).when(bookingExportService).exportBookings(eq(LocalDate.of(2025, 10, 1)), eq(LocalDate.of(2025, 10, 31)),
+                eq(3), eq(ExportFormat.CSV), any());
+
+        MvcResult result = mockMvc.perform(get("/api/bookings/export")
+                .param("format", "csv")
+                .param("from", "2025-10-01")
+                .param("to", "2025-10-31")
+                .param("theatreId", "3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"bookings.csv\""))
+                .andExpect(content().string("booking_id\n7\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/export rejects unknown formats and reversed ranges")
+    void exportBookings_rejectsBadParameters() throws Exception {
+        mockMvc.perform(get("/api/bookings/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Export format must be jsonl or csv"));
+        mockMvc.perform(get("/api/bookings/export").param("from", "2025-10-31").param("to", "2025-10-01"))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingExportService, never()).exportBookings(any(), any(), any(), any(), any());
+    }
 }
@@ -0,0 +1,139 @@
+package com.moviebooking.controller;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.moviebooking.entity.Customer;
+import com.moviebooking.entity.Show;
+import com.moviebooking.entity.Ticket;
+import com.moviebooking.entity.TicketBooking;
+import com.moviebooking.repository.IBookingRepository;
+import com.moviebooking.repository.ICustomerRepository;
+import com.moviebooking.repository.IShowRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Booking list endpoints run a bounded number of statements")
+class BookingQueryCountIntegrationTest {
+
+    private static final String SQLITE_DB_ID = UUID.randomUUID().toString().replace("-", "");
+    private static final LocalDate BOOKING_DATE = LocalDate.of(2030, 1, 15);
+    private static final int BOOKINGS = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IBookingRepository bookingRepository;
+
+    @Autowired
+    private IShowRepository showRepository;
+
+    @Autowired
+    private ICustomerRepository customerRepository;
+
+    private Show show;
+    private Statistics statistics;
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:file:" + SQLITE_DB_ID + "?mode=memory&cache=shared&journal_mode=WAL&busy_timeout=5000");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "2");
+        registry.add("spring.datasource.hikari.minimum-idle", () -> "1");
+        // Test-only JWT secret – not used in production
+        registry.add("app.jwt.secret", () -> "6e7672643439746573746f6e6c796b65796e6f7470726f64646f6e6f74757365");
+    }
+
+    @BeforeEach
+    void setUp() {
+        show = showRepository.findAll().get(0);
+        if (bookingRepository.count() == 0) {
+            Customer customer = customerRepository.findAll().get(0);
+            for (int i = 1; i <= BOOKINGS; i++) {
+                TicketBooking booking = new TicketBooking();
+                booking.setShowId(show.getShowId());
+                booking.setBookingDate(BOOKING_DATE);
+                booking.setTransactionId(9000 + i);
+                booking.setTransactionMode("CARD");
+                booking.setTransactionStatus("CONFIRMED");
+                booking.setTotalCost(500);
+                booking.setCustomer(customer);
+                booking.setTicket(new Ticket(2, new ArrayList<>(List.of("A" + i, "B" + i)), 7000 + i, true));
+                bookingRepository.save(booking);
+            }
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/show/{id} loads ticket views in one statement")
+    void bookingsByShow() throws Exception {
+        mockMvc.perform(get("/api/bookings/show/{id}", show.getShowId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(BOOKINGS))
+                .andExpect(jsonPath("$[0].seatNumbers.length()").value(2))
+                .andExpect(jsonPath("$[0].showName").value(show.getShowName()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings/movie/{id} and /date/{date} load ticket views in one statement each")
+    void bookingsByMovieAndDate() throws Exception {
+        mockMvc.perform(get("/api/bookings/movie/{id}", show.getMovieId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(BOOKINGS))
+                .andExpect(jsonPath("$[0].movieName").isNotEmpty());
+        mockMvc.perform(get("/api/bookings/date/{date}", BOOKING_DATE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(BOOKINGS))
+                .andExpect(jsonPath("$[0].theatreName").isNotEmpty());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/bookings serializes every booking from one statement, and a page from two")
+    void allBookingsAndPages() throws Exception {
+        mockMvc.perform(get("/api/bookings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(BOOKINGS))
+                .andExpect(jsonPath("$[0].ticket.seatNumber.length()").value(2))
+                .andExpect(jsonPath("$[0].customer.customerId").isNumber());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        mockMvc.perform(get("/api/bookings").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[2].ticket.seatNumber.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").isNumber());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
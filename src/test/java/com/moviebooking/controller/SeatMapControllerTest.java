@@ -0,0 +1,94 @@
+package com.moviebooking.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.moviebooking.config.JwtTokenProvider;
+import com.moviebooking.dto.SeatAvailability;
+import com.moviebooking.repository.ICustomerRepository;
+import com.moviebooking.repository.IUserRepository;
+import com.moviebooking.service.ISeatEventService;
+import com.moviebooking.service.ISeatInventoryService;
+
+@WebMvcTest(SeatMapController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("SeatMapController")
+@SuppressWarnings("unused")
+class SeatMapControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ISeatInventoryService seatInventoryService;
+
+    @MockBean
+    private ISeatEventService seatEventService;
+
+    @MockBean
+    private IUserRepository userRepository;
+
+    @MockBean
+    private ICustomerRepository customerRepository;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @DisplayName("GET /api/shows/{id}/seats returns bitmap with ETag")
+    void getSeatAvailability_returnsBitmap() throws Exception {
+        when(seatInventoryService.getAvailability(7)).thenReturn(availability());
+
+        mockMvc.perform(get("/api/shows/{id}/seats", 7)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7-ab-3\""))
+                .andExpect(jsonPath("$.encoding").value("bitmap-base64"))
+                .andExpect(jsonPath("$.occupancy").value("BQE="));
+    }
+
+    @Test
+    @DisplayName("GET /api/shows/{id}/seats returns 304 when ETag matches")
+    void getSeatAvailability_returnsNotModified() throws Exception {
+        when(seatInventoryService.getAvailability(7)).thenReturn(availability());
+
+        mockMvc.perform(get("/api/shows/{id}/seats", 7)
+                .header("If-None-Match", "\"7-ab-3\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /api/shows/{id}/seats returns 404 for unknown show")
+    void getSeatAvailability_handlesMissingShow() throws Exception {
+        when(seatInventoryService.getAvailability(99)).thenThrow(new IllegalArgumentException("Show not found with ID: 99"));
+
+        mockMvc.perform(get("/api/shows/{id}/seats", 99))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Show not found with ID: 99"));
+    }
+
+    @Test
+    @DisplayName("GET /api/shows/{id}/seats/stream returns 404 for unknown show")
+    void streamSeatChanges_handlesMissingShow() throws Exception {
+        when(seatInventoryService.getAvailability(99)).thenThrow(new IllegalArgumentException("Show not found with ID: 99"));
+
+        mockMvc.perform(get("/api/shows/{id}/seats/stream", 99))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Show not found with ID: 99"));
+    }
+
+    private SeatAvailability availability() {
+        return new SeatAvailability(7, 2, 8, 3, SeatAvailability.BITMAP_ENCODING, "BQE=", "ab-3");
+    }
+}
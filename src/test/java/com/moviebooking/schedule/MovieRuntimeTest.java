@@ -0,0 +1,27 @@
+package com.moviebooking.schedule;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class MovieRuntimeTest {
+
+    @Test
+    void parse_ReadsHoursAndMinutes() {
+        assertEquals(Duration.ofMinutes(148), MovieRuntime.parse("2h 28m"));
+        assertEquals(Duration.ofMinutes(181), MovieRuntime.parse("3h 1m"));
+        assertEquals(Duration.ofHours(2), MovieRuntime.parse("2h"));
+        assertEquals(Duration.ofMinutes(95), MovieRuntime.parse(" 95 min "));
+        assertEquals(Duration.ofMinutes(90), MovieRuntime.parse("1H30M"));
+    }
+
+    @Test
+    void parse_RejectsTextThatIsNotARuntime() {
+        assertThrows(IllegalArgumentException.class, () -> MovieRuntime.parse("two hours"));
+        assertThrows(IllegalArgumentException.class, () -> MovieRuntime.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> MovieRuntime.parse("0h 0m"));
+        assertThrows(IllegalArgumentException.class, () -> MovieRuntime.parse(null));
+    }
+}
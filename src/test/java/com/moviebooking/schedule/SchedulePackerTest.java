@@ -0,0 +1,133 @@
+package com.moviebooking.schedule;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class SchedulePackerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
+
+    private final SchedulePacker packer = new SchedulePacker(Duration.ofMinutes(15), Duration.ofMinutes(5));
+
+    @Test
+    void pack_PlacesShowsBackToBackWithTurnaroundOnRoundedStarts() {
+        SchedulePacker.Plan plan = packer.pack(List.of(1), List.of(day(0)),
+                List.of(new SchedulePacker.Target(7, Duration.ofMinutes(148), 3)), Map.of());
+
+        assertEquals(List.of(at(0, 10, 0), at(0, 12, 45), at(0, 15, 30)), starts(plan.getSlots()));
+        assertEquals(at(0, 12, 28), plan.getSlots().get(0).getEnd());
+        assertTrue(plan.getUnplaced().isEmpty());
+    }
+
+    @Test
+    void pack_WorksAroundShowsAlreadyOnTheScreen() {
+        Map<Integer, List<SchedulePacker.Interval>> busy = Map.of(1,
+                List.of(new SchedulePacker.Interval(at(0, 11, 0), at(0, 13, 0))));
+
+        SchedulePacker.Plan plan = packer.pack(List.of(1), List.of(day(0)),
+                List.of(new SchedulePacker.Target(7, Duration.ofMinutes(90), 2)), busy);
+
+        assertEquals(List.of(at(0, 13, 15), at(0, 15, 0)), starts(plan.getSlots()));
+    }
+
+    @Test
+    void pack_KeepsTheTurnaroundAfterAShowEndingMidMinute() {
+        SchedulePacker minutePacker = new SchedulePacker(Duration.ofMinutes(15), Duration.ofMinutes(1));
+        Map<Integer, List<SchedulePacker.Interval>> busy = Map.of(1,
+                List.of(new SchedulePacker.Interval(at(0, 11, 0), at(0, 13, 0).plusSeconds(30))));
+
+        SchedulePacker.Plan plan = minutePacker.pack(List.of(1), List.of(day(0)),
+                List.of(new SchedulePacker.Target(7, Duration.ofMinutes(90), 1)), busy);
+
+        assertEquals(List.of(at(0, 13, 16)), starts(plan.getSlots()));
+    }
+
+    @Test
+    void pack_SpreadsTargetsOverDaysAndReportsWhatDidNotFit() {
+        // Two 3-hour shows fit in the 10:00-17:00 day on one screen; the second day gets the rest.
+        List<SchedulePacker.Interval> days = List.of(
+                new SchedulePacker.Interval(at(0, 10, 0), at(0, 17, 0)),
+                new SchedulePacker.Interval(at(1, 10, 0), at(1, 17, 0)));
+
+        SchedulePacker.Plan plan = packer.pack(List.of(1), days,
+                List.of(new SchedulePacker.Target(7, Duration.ofHours(3), 5)), Map.of());
+
+        assertEquals(List.of(at(0, 10, 0), at(0, 13, 15), at(1, 10, 0), at(1, 13, 15)), starts(plan.getSlots()));
+        assertEquals(Map.of(7, 1), plan.getUnplaced());
+    }
+
+    @Test
+    void pack_FillsTheEndOfTheDayWithShorterMovies() {
+        SchedulePacker.Plan plan = packer.pack(List.of(1),
+                List.of(new SchedulePacker.Interval(at(0, 10, 0), at(0, 16, 0))),
+                List.of(new SchedulePacker.Target(1, Duration.ofHours(3), 2),
+                        new SchedulePacker.Target(2, Duration.ofMinutes(90), 1)), Map.of());
+
+        // 10:00-13:00, 13:15-14:45; the second 3-hour show does not fit before 16:00.
+        assertEquals(List.of(at(0, 10, 0), at(0, 13, 15)), starts(plan.getSlots()));
+        assertEquals(Map.of(1, 1), plan.getUnplaced());
+    }
+
+    @Test
+    void pack_PlansAFullWeekWithoutOverlaps() {
+        List<Integer> screens = new ArrayList<>();
+        for (int screen = 1; screen <= 20; screen++) {
+            screens.add(screen);
+        }
+        List<SchedulePacker.Interval> days = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            days.add(day(day));
+        }
+        List<SchedulePacker.Target> targets = new ArrayList<>();
+        for (int movie = 1; movie <= 12; movie++) {
+            targets.add(new SchedulePacker.Target(movie, Duration.ofMinutes(95 + 7 * movie), 70));
+        }
+
+        SchedulePacker.Plan plan = packer.pack(screens, days, targets, Map.of());
+
+        Map<Integer, List<SchedulePacker.Slot>> byScreen = new HashMap<>();
+        for (SchedulePacker.Slot slot : plan.getSlots()) {
+            byScreen.computeIfAbsent(slot.getScreenId(), ignored -> new ArrayList<>()).add(slot);
+            int day = (int) (slot.getStart().toLocalDate().toEpochDay() - MONDAY.toEpochDay());
+            assertFalse(slot.getStart().isBefore(day(day).getStart()));
+            assertFalse(slot.getEnd().isAfter(day(day).getEnd()));
+            assertEquals(0, slot.getStart().getMinute() % 5);
+        }
+        for (List<SchedulePacker.Slot> slots : byScreen.values()) {
+            slots.sort(Comparator.comparing(SchedulePacker.Slot::getStart));
+            for (int i = 1; i < slots.size(); i++) {
+                assertFalse(slots.get(i).getStart().isBefore(slots.get(i - 1).getEnd().plusMinutes(15)));
+            }
+        }
+        assertEquals(20, byScreen.size());
+        assertEquals(12 * 70, plan.getSlots().size() + plan.getUnplaced().values().stream().mapToInt(i -> i).sum());
+    }
+
+    // 10:00 to midnight.
+    private static SchedulePacker.Interval day(int day) {
+        return new SchedulePacker.Interval(at(day, 10, 0), MONDAY.plusDays(day + 1L).atStartOfDay());
+    }
+
+    private static LocalDateTime at(int day, int hour, int minute) {
+        return MONDAY.plusDays(day).atTime(hour, minute);
+    }
+
+    private static List<LocalDateTime> starts(List<SchedulePacker.Slot> slots) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        for (SchedulePacker.Slot slot : slots) {
+            starts.add(slot.getStart());
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,63 @@
+package com.moviebooking.search;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class CompletionTrieTest {
+
+    private final CompletionTrie<String> trie = new CompletionTrie<>();
+
+    @Test
+    void complete_ReturnsHeaviestValuesUnderThePrefix() {
+        trie.put("interstellar", "Interstellar", 40);
+        trie.put("inception", "Inception", 90);
+        trie.put("inside out", "Inside Out", 10);
+        trie.put("jaws", "Jaws", 100);
+
+        assertEquals(List.of("Inception", "Interstellar", "Inside Out"), trie.complete("in", 10));
+        assertEquals(List.of("Inception", "Interstellar"), trie.complete("in", 2));
+        assertEquals(List.of("Inside Out"), trie.complete("insi", 10));
+        assertTrue(trie.complete("inx", 10).isEmpty());
+    }
+
+    @Test
+    void complete_ListsAValueStoredUnderSeveralKeysOnce() {
+        trie.put("the dark knight", "The Dark Knight", 5);
+        trie.put("dark knight", "The Dark Knight", 5);
+        trie.put("knight", "The Dark Knight", 5);
+        trie.put("dark waters", "Dark Waters", 3);
+
+        assertEquals(List.of("The Dark Knight", "Dark Waters"), trie.complete("d", 10));
+        assertEquals(List.of("The Dark Knight"), trie.complete("kn", 10));
+        assertEquals(List.of("The Dark Knight"), trie.complete("", 1));
+    }
+
+    @Test
+    void put_ReplacesTheWeightOfAnExistingValue() {
+        trie.put("avatar", "Avatar", 1);
+        trie.put("avengers", "Avengers", 5);
+        trie.put("avatar", "Avatar", 9);
+
+        assertEquals(List.of("Avatar", "Avengers"), trie.complete("av", 10));
+    }
+
+    @Test
+    void remove_DropsTheValueAndLowersTheSubtreeWeight() {
+        trie.put("star wars", "Star Wars", 50);
+        trie.put("stardust", "Stardust", 2);
+        trie.put("station", "Station", 3);
+
+        assertTrue(trie.remove("star wars", "Star Wars"));
+        assertFalse(trie.remove("star wars", "Star Wars"));
+        assertFalse(trie.remove("sta", "Station"));
+
+        assertEquals(List.of("Station", "Stardust"), trie.complete("sta", 10));
+        assertEquals(List.of("Stardust"), trie.complete("star", 10));
+        assertTrue(trie.remove("stardust", "Stardust"));
+        assertEquals(List.of("Station"), trie.complete("st", 10));
+    }
+}
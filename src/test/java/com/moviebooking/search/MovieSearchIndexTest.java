@@ -0,0 +1,94 @@
+package com.moviebooking.search;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.moviebooking.dto.MovieSearchHit;
+import com.moviebooking.entity.Movie;
+
+class MovieSearchIndexTest {
+
+    private final MovieSearchIndex index = new MovieSearchIndex();
+
+    @Test
+    void search_RanksNameMatchesAboveDescriptionMatches() {
+        index.put(movie(1, "Space Cowboys", "Western", "Veteran pilots return to orbit"));
+        index.put(movie(2, "Interstellar", "Sci-Fi", "A journey through space and time"));
+        index.put(movie(3, "Notting Hill", "Romance", "A bookshop in London"));
+
+        assertEquals(List.of(1, 2), ids(index.search("space", 10)));
+    }
+
+    @Test
+    void search_MatchesTheLastWordAsAPrefix() {
+        index.put(movie(1, "The Dark Knight", "Action", "Batman faces the Joker"));
+        index.put(movie(2, "Dark Waters", "Drama", "A lawyer takes on a chemical company"));
+
+        assertEquals(List.of(1), ids(index.search("dark kni", 10)));
+        assertEquals(List.of(1, 2), ids(index.search("da", 10)));
+        assertTrue(index.search("kni dark", 10).isEmpty());
+    }
+
+    @Test
+    void search_ToleratesTyposAndAccents() {
+        index.put(movie(1, "Interstellar", "Sci-Fi", "Explorers travel through a wormhole"));
+        index.put(movie(2, "Am\u00e9lie", "Romance", "A shy waitress in Paris"));
+
+        assertEquals(List.of(1), ids(index.search("intersteller", 10)));
+        assertEquals(List.of(1), ids(index.search("wromhole", 10)));
+        assertEquals(List.of(2), ids(index.search("AMELIE", 10)));
+    }
+
+    @Test
+    void search_ToleratesASwapInAShortWord() {
+        index.put(movie(1, "Form", "Drama", "A letter lost in the post"));
+        index.put(movie(2, "Fargo", "Crime", "Snow and ransom"));
+
+        assertEquals(List.of(1), ids(index.search("from", 10)));
+    }
+
+    @Test
+    void put_ReplacesAndRemoveDropsAMovie() {
+        index.put(movie(1, "Joker", "Drama", "Origin story"));
+        index.put(movie(1, "Joker: Folie a Deux", "Musical", "Sequel"));
+
+        assertTrue(index.search("origin", 10).isEmpty());
+        assertEquals(List.of(1), ids(index.search("musical", 10)));
+
+        index.remove(1);
+        assertTrue(index.search("joker", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void search_ReturnsTheTopResultsInScoreOrder() {
+        for (int id = 1; id <= 20; id++) {
+            index.put(movie(id, "Movie " + id, "Drama", id % 2 == 0 ? "drama drama" : "comedy"));
+        }
+
+        List<MovieSearchHit> hits = index.search("drama", 3);
+
+        assertEquals(List.of(2, 4, 6), ids(hits));
+        assertTrue(hits.get(0).getScore() >= hits.get(2).getScore());
+    }
+
+    @Test
+    void editDistance_CountsSwapsAsOneEdit() {
+        assertEquals(1, MovieSearchIndex.editDistance("wromhole", "wormhole", 2));
+        assertEquals(1, MovieSearchIndex.editDistance("intersteller", "interstellar", 2));
+        assertEquals(2, MovieSearchIndex.editDistance("abc", "xyz", 1));
+    }
+
+    private static Movie movie(int id, String name, String genre, String description) {
+        Movie movie = new Movie(name, genre, "2h", "English", description);
+        movie.setMovieId(id);
+        return movie;
+    }
+
+    private static List<Integer> ids(List<MovieSearchHit> hits) {
+        return hits.stream().map(MovieSearchHit::getMovieId).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.moviebooking.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.moviebooking.dto.BookingExportRow;
+import com.moviebooking.dto.ExportFormat;
+import com.moviebooking.repository.IBookingRepository;
+import com.moviebooking.service.impl.BookingExportServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class BookingExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 10, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 10, 31);
+
+    @Mock
+    private IBookingRepository bookingRepository;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private BookingExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new BookingExportServiceImpl(bookingRepository, new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        Stream<BookingExportRow> rows = Stream.of(
+                new BookingExportRow(1, FROM, 10, 3, 5, 42, 9001L, "CARD", "CONFIRMED", 700.0, 2, "pi_1"),
+                new BookingExportRow(2, TO, 11, 3, null, null, 9002L, "UPI, wallet", "say \"hi\"", 250.0, null, null))
+                .onClose(() -> closed.set(true));
+        when(bookingRepository.streamExportRows(FROM, TO, 3)).thenReturn(rows);
+    }
+
+    @Test
+    void exportBookings_WritesCsvWithHeaderAndQuotesAwkwardValues() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exportService.exportBookings(FROM, TO, 3, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("booking_id,booking_date,show_id,theatre_id"));
+        assertEquals("1,2025-10-01,10,3,5,42,9001,CARD,CONFIRMED,700.0,2,pi_1", lines[1]);
+        assertEquals("2,2025-10-31,11,3,,,9002,\"UPI, wallet\",\"say \"\"hi\"\"\",250.0,,", lines[2]);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportBookings_WritesOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportBookings(FROM, TO, 3, ExportFormat.JSONL, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"bookingId\":1,\"bookingDate\":\"2025-10-01\""));
+        assertTrue(lines[1].contains("\"transactionStatus\":\"say \\\"hi\\\"\""));
+        assertTrue(closed.get());
+    }
+}
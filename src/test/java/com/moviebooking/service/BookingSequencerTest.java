@@ -0,0 +1,156 @@
+package com.moviebooking.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moviebooking.dto.BookingRequest;
+import com.moviebooking.entity.TicketBooking;
+import com.moviebooking.repository.IBookingRepository;
+import com.moviebooking.service.impl.BookingSequencerImpl;
+
+@ExtendWith(MockitoExtension.class)
+class BookingSequencerTest {
+
+    @Mock
+    private IBookingService bookingService;
+
+    @Mock
+    private IBookingRepository bookingRepository;
+
+    private BookingSequencerImpl bookingSequencer;
+
+    @AfterEach
+    void tearDown() {
+        if (bookingSequencer != null) {
+            bookingSequencer.shutdown();
+        }
+    }
+
+    @Test
+    void addBooking_AppliesCommandsForAShowOnOneThreadInOrder() {
+        bookingSequencer = new BookingSequencerImpl(bookingService, bookingRepository, true, 4, 64);
+        List<Integer> applied = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        when(bookingService.addBooking(any(BookingRequest.class))).thenAnswer(invocation -> {
+            BookingRequest request = invocation.getArgument(0);
+            applied.add(request.getCustomerId());
+            threads.add(Thread.currentThread().getName());
+            return booking(request.getCustomerId(), request.getShowId());
+        });
+
+        List<CompletableFuture<TicketBooking>> pending = new ArrayList<>();
+        for (int customerId = 1; customerId <= 20; customerId++) {
+            pending.add(bookingSequencer.addBooking(request(7, customerId)));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(20, applied.size());
+        for (int i = 0; i < applied.size(); i++) {
+            assertEquals(i + 1, applied.get(i));
+        }
+        assertEquals(1, threads.stream().distinct().count());
+        assertTrue(threads.get(0).startsWith("booking-sequencer-"));
+        assertEquals(20, pending.get(19).join().getBookingId());
+    }
+
+    @Test
+    void addBooking_SurfacesServiceFailuresThroughTheFuture() {
+        bookingSequencer = new BookingSequencerImpl(bookingService, bookingRepository, true, 2, 8);
+        when(bookingService.addBooking(any(BookingRequest.class)))
+                .thenThrow(new IllegalArgumentException("Selected seats are no longer available: [A1]"));
+
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> bookingSequencer.addBooking(request(7, 1)).join());
+
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+    }
+
+    @Test
+    void addBooking_RejectsCommandsWhenTheRingIsFull() throws InterruptedException {
+        bookingSequencer = new BookingSequencerImpl(bookingService, bookingRepository, true, 1, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookingService.addBooking(any(BookingRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return booking(1, 7);
+        });
+
+        CompletableFuture<TicketBooking> running = bookingSequencer.addBooking(request(7, 1));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        bookingSequencer.addBooking(request(7, 2));
+        bookingSequencer.addBooking(request(7, 3));
+        CompletableFuture<TicketBooking> rejected = bookingSequencer.addBooking(request(7, 4));
+
+        CompletionException failure = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        release.countDown();
+        assertEquals(1, running.join().getBookingId());
+    }
+
+    @Test
+    void cancelBooking_RoutesByTheStoredShow() {
+        bookingSequencer = new BookingSequencerImpl(bookingService, bookingRepository, true, 4, 8);
+        when(bookingRepository.findShowIdByBookingId(9)).thenReturn(Optional.of(7));
+        when(bookingService.cancelBooking(9)).thenReturn(true);
+
+        assertTrue(bookingSequencer.cancelBooking(9).join());
+    }
+
+    @Test
+    void cancelBooking_FailsForUnknownBookingWithoutQueueing() {
+        bookingSequencer = new BookingSequencerImpl(bookingService, bookingRepository, true, 4, 8);
+        when(bookingRepository.findShowIdByBookingId(404)).thenReturn(Optional.empty());
+
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> bookingSequencer.cancelBooking(404).join());
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+        verify(bookingService, never()).cancelBooking(anyInt());
+    }
+
+    @Test
+    void isEnabled_FalseByDefault() {
+        bookingSequencer = new BookingSequencerImpl(bookingService, bookingRepository, false, 4, 8);
+
+        assertFalse(bookingSequencer.isEnabled());
+    }
+
+    private BookingRequest request(int showId, int customerId) {
+        BookingRequest request = new BookingRequest();
+        request.setShowId(showId);
+        request.setCustomerId(customerId);
+        request.setSeatNumbers(List.of("A" + customerId));
+        request.setTotalCost(150.0);
+        return request;
+    }
+
+    private TicketBooking booking(int bookingId, int showId) {
+        TicketBooking booking = new TicketBooking();
+        booking.setBookingId(bookingId);
+        booking.setShowId(showId);
+        return booking;
+    }
+}
@@ -1,37 +1,71 @@
 package com.moviebooking.service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.moviebooking.dto.BookingRequest;
 import com.moviebooking.dto.MovieBookingSummary;
+import com.moviebooking.dto.SeatPreferences;
 import com.moviebooking.dto.TicketView;
 import com.moviebooking.entity.Customer;
 import com.moviebooking.entity.Movie;
 import com.moviebooking.entity.Screen;
 import com.moviebooking.entity.Show;
+import com.moviebooking.entity.ShowSeatReservation;
 import com.moviebooking.entity.Theatre;
+import com.moviebooking.entity.Ticket;
 import com.moviebooking.entity.TicketBooking;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.inventory.SeatState;
 import com.moviebooking.repository.IBookingRepository;
 import com.moviebooking.repository.ICustomerRepository;
 import com.moviebooking.repository.IMovieRepository;
 import com.moviebooking.repository.IScreenRepository;
 import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.repository.IShowSeatReservationRepository;
 import com.moviebooking.repository.ITheatreRepository;
 import com.moviebooking.service.impl.BookingServiceImpl;
+import com.moviebooking.service.impl.PricingServiceImpl;
+import com.moviebooking.service.impl.SeatInventoryServiceImpl;
+import com.moviebooking.util.SnowflakeIdGenerator;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceTest {
@@ -54,9 +88,36 @@ class BookingServiceTest {
     @Mock
     private IScreenRepository screenRepository;
 
+    @Mock
+    private IShowSeatReservationRepository seatReservationRepository;
+
+    @Captor
+    private ArgumentCaptor<List<ShowSeatReservation>> reservations;
+
+    @Mock
+    private ISeatEventService seatEventService;
+
+    @Mock
+    private IWaitlistService waitlistService;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
+    private SeatInventoryServiceImpl seatInventoryService;
+
+    private PricingServiceImpl pricingService;
+
+    @BeforeEach
+    void setUp() {
+        seatInventoryService = new SeatInventoryServiceImpl(seatReservationRepository, screenRepository, showRepository,
+                seatEventService);
+        ReflectionTestUtils.setField(bookingService, "seatInventoryService", seatInventoryService);
+        ReflectionTestUtils.setField(bookingService, "idGenerator", new SnowflakeIdGenerator(1));
+        pricingService = new PricingServiceImpl(showRepository, seatInventoryService, "A:400,B:300", 250, 2.0, 30, 15,
+                Clock.systemDefaultZone());
+        ReflectionTestUtils.setField(bookingService, "pricingService", pricingService);
+    }
+
     @Test
     void testCalculateTotalCost_Success() {
         // Given
@@ -99,12 +160,288 @@ class BookingServiceTest {
 
         when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
         when(showRepository.findById(2)).thenReturn(Optional.of(show));
-        when(bookingRepository.findReservedSeatNumbersByShow(2)).thenReturn(List.of("A2"));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 10, 15)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("A2"));
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> bookingService.addBooking(request));
         assertEquals("Selected seats are no longer available: [A2]", exception.getMessage());
     }
 
+    @Test
+    void addBooking_NeverSellsTheSameSeatTwiceUnderContention() throws Exception {
+        int requests = 4000;
+        Customer customer = new Customer();
+        customer.setCustomerId(1);
+
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        show.setTheatreId(1);
+
+        when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 10, 15)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Map<String, AtomicInteger> soldSeats = new ConcurrentHashMap<>();
+        Set<Long> issuedIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    char row = (char) ('A' + random.nextInt(10));
+                    int column = 1 + random.nextInt(14);
+                    BookingRequest request = new BookingRequest();
+                    request.setCustomerId(1);
+                    request.setShowId(2);
+                    request.setSeatNumbers(List.of(row + String.valueOf(column), row + String.valueOf(column + 1)));
+                    request.setTotalCost(500.0);
+                    start.await();
+                    try {
+                        TicketBooking booking = bookingService.addBooking(request);
+                        booking.getTicket().getSeatNumber().forEach(seat
+                                -> soldSeats.computeIfAbsent(seat, key -> new AtomicInteger()).incrementAndGet());
+                        issuedIds.add(booking.getTicket().getBookingRef());
+                        issuedIds.add(booking.getTransactionId());
+                        booked.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        soldSeats.forEach((seat, count) -> assertEquals(1, count.get(), "Seat " + seat + " was sold more than once"));
+        assertEquals(soldSeats.size(), seatInventoryService.getSeatMap(show).occupiedCount());
+        assertEquals(requests, rejected.get() + soldSeats.size() / 2);
+        assertEquals(2 * booked.get(), issuedIds.size(), "Booking references and transaction IDs must never repeat");
+    }
+
+    @Test
+    void addBooking_AllocatesBestAvailableSeatsWhenOnlyCountGiven() {
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatCount(3);
+        SeatPreferences preferences = new SeatPreferences();
+        preferences.setRows(List.of("B"));
+        request.setSeatPreferences(preferences);
+        request.setTotalCost(450.0);
+
+        Customer customer = new Customer();
+        customer.setCustomerId(1);
+
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        show.setTheatreId(1);
+
+        when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 9)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("B4", "B5"));
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TicketBooking booking = bookingService.addBooking(request);
+
+        assertEquals(List.of("B6", "B7", "B8"), booking.getTicket().getSeatNumber());
+        assertEquals(3, booking.getTicket().getNoOfSeats());
+    }
+
+    @Test
+    void addBooking_PersistsOneReservationPerSeat() {
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatNumbers(List.of("a1", "B3"));
+        request.setTotalCost(300.0);
+
+        Customer customer = new Customer();
+        customer.setCustomerId(1);
+
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        show.setTheatreId(1);
+
+        when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> {
+            TicketBooking saved = invocation.getArgument(0);
+            saved.setBookingId(42);
+            return saved;
+        });
+
+        bookingService.addBooking(request);
+
+        verify(seatReservationRepository).saveAllAndFlush(reservations.capture());
+        assertEquals(List.of(0, 10), reservations.getValue().stream().map(ShowSeatReservation::getSeatIndex).toList());
+        assertEquals(List.of("A1", "B3"), reservations.getValue().stream().map(ShowSeatReservation::getSeatNumber).toList());
+        assertTrue(reservations.getValue().stream().allMatch(reservation -> reservation.getBookingId() == 42
+                && reservation.getShowId() == 2 && reservation.getStatus() == SeatState.BOOKED));
+    }
+
+    @Test
+    void addBooking_ReleasesSeatsWhenReservationRowsClash() {
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatNumbers(List.of("A1"));
+        request.setTotalCost(150.0);
+
+        Customer customer = new Customer();
+        customer.setCustomerId(1);
+
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        show.setTheatreId(1);
+
+        when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seatReservationRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_show_seat_reservations_show_seat"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThrows(IllegalArgumentException.class, () -> bookingService.addBooking(request));
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(seatInventoryService.findUnavailableSeats(show, List.of("A1")).isEmpty());
+    }
+
+    @Test
+    void addBooking_ReleasesSeatsWhenTheCommitFails() {
+        Show show = stubBookableShow();
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatNumbers(List.of("A1", "B3"));
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingService.addBooking(request);
+            assertEquals(2, seatInventoryService.findUnavailableSeats(show, List.of("A1", "B3")).size());
+
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(seatInventoryService.findUnavailableSeats(show, List.of("A1", "B3")).isEmpty());
+    }
+
+    @Test
+    void addBooking_KeepsSeatsWhenTheCommitSucceeds() {
+        Show show = stubBookableShow();
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatNumbers(List.of("A1"));
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingService.addBooking(request);
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of("A1"), seatInventoryService.findUnavailableSeats(show, List.of("A1")));
+    }
+
+    @Test
+    void addBooking_ChargesTheQuotedPriceRatherThanTheClientTotal() {
+        Show show = stubBookableShow();
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatNumbers(List.of("A1", "B3"));
+        request.setTotalCost(1.0);
+        request.setQuoteId(pricingService.quote(2, List.of("b3", "a1")).getQuoteId());
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TicketBooking booking = bookingService.addBooking(request);
+
+        assertEquals(700.0, booking.getTotalCost());
+        assertFalse(seatInventoryService.findUnavailableSeats(show, List.of("A1", "B3")).isEmpty());
+    }
+
+    @Test
+    void addBooking_ChargesTheCurrentPriceWithoutAQuote() {
+        stubBookableShow();
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatNumbers(List.of("C1"));
+        request.setTotalCost(5000.0);
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(250.0, bookingService.addBooking(request).getTotalCost());
+    }
+
+    @Test
+    void addBooking_RejectsAQuoteForOtherSeatsBeforeReservingThem() {
+        Show show = stubBookableShow();
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatNumbers(List.of("A1", "A2"));
+        request.setQuoteId(pricingService.quote(2, List.of("C1", "C2")).getQuoteId());
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.addBooking(request));
+        assertTrue(seatInventoryService.findUnavailableSeats(show, List.of("A1", "A2")).isEmpty());
+        verify(bookingRepository, never()).save(any(TicketBooking.class));
+    }
+
+    @Test
+    void addBooking_ThrowsWhenNoBlockOfSeatsIsFree() {
+        BookingRequest request = new BookingRequest();
+        request.setCustomerId(1);
+        request.setShowId(2);
+        request.setSeatCount(4);
+        request.setTotalCost(600.0);
+
+        Customer customer = new Customer();
+        customer.setCustomerId(1);
+
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        show.setTheatreId(1);
+
+        when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 2, 5)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("A3", "B2"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> bookingService.addBooking(request));
+        assertEquals("Not enough seats available together for this show", exception.getMessage());
+    }
+
     @Test
     void addBooking_ThrowsWhenDuplicateSeatsProvided() {
         BookingRequest request = new BookingRequest();
@@ -191,15 +528,18 @@ class BookingServiceTest {
         screen.setScreenName("Screen 3");
         screen.setTheatreId(theatreId);
 
+        show.setMovie(movie);
+        show.setTheatre(theatre);
+        show.setScreen(screen);
+        booking.setShow(show);
+
         when(customerRepository.existsById(customerId)).thenReturn(true);
-        when(bookingRepository.findByCustomerCustomerId(customerId)).thenReturn(List.of(booking));
-        when(showRepository.findById(showId)).thenReturn(Optional.of(show));
-        when(movieRepository.findById(movieId)).thenReturn(Optional.of(movie));
-        when(theatreRepository.findById(theatreId)).thenReturn(Optional.of(theatre));
-        when(screenRepository.findById(screenId)).thenReturn(Optional.of(screen));
+        when(bookingRepository.findTicketHistoryByCustomerId(customerId)).thenReturn(List.of(booking));
 
         List<TicketView> result = bookingService.findBookingsForCustomer(customerId);
 
+        verifyNoInteractions(showRepository, movieRepository, theatreRepository, screenRepository);
+
         assertEquals(1, result.size());
         TicketView view = result.get(0);
         assertEquals(booking.getBookingId(), view.getBookingId());
@@ -207,6 +547,172 @@ class BookingServiceTest {
         assertEquals(show.getShowStartTime(), view.getShowStartTime());
         assertEquals(movie.getMovieName(), view.getMovieName());
         assertEquals(theatre.getTheatreName(), view.getTheatreName());
+        assertEquals(screen.getScreenName(), view.getScreenName());
         assertTrue(view.getSeatNumbers().contains("A1"));
     }
+
+    @Test
+    void findBookingByReference_ThrowsForUnknownReference() {
+        when(bookingRepository.findByTicketBookingRef(42L)).thenReturn(List.of());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> bookingService.findBookingByReference(42L));
+        assertEquals("Booking not found with reference: 42", exception.getMessage());
+    }
+
+    @Test
+    void findBookingByReference_RefusesToPickBetweenDuplicateLegacyReferences() {
+        TicketBooking first = new TicketBooking();
+        first.setBookingId(3);
+        TicketBooking second = new TicketBooking();
+        second.setBookingId(9);
+        when(bookingRepository.findByTicketBookingRef(512345L)).thenReturn(List.of(first, second));
+
+        assertThrows(IllegalStateException.class, () -> bookingService.findBookingByReference(512345L));
+    }
+
+    @Test
+    void cancelBooking_UpdatesStatusInPlaceAndFreesSeats() {
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 10, 15)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("A1", "A2", "B5"));
+        SeatMap seatMap = seatInventoryService.getSeatMap(show);
+
+        when(bookingRepository.markCancelled(8)).thenReturn(1);
+        when(seatReservationRepository.findByBookingId(8)).thenReturn(List.of(
+                new ShowSeatReservation(2, 0, "A1", 8, SeatState.BOOKED),
+                new ShowSeatReservation(2, 1, "A2", 8, SeatState.BOOKED)));
+
+        assertTrue(bookingService.cancelBooking(8));
+
+        assertEquals(1, seatMap.occupiedCount());
+        verify(seatReservationRepository).deleteByBookingId(8);
+        verify(waitlistService).promote(2);
+        verify(bookingRepository, never()).findById(anyInt());
+        verify(bookingRepository, never()).save(any(TicketBooking.class));
+    }
+
+    @Test
+    void updateBooking_FreesGivenUpSeatsAfterCommitAndReturnsNewOnesOnRollback() {
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+        when(bookingRepository.findById(8)).thenReturn(Optional.of(bookingOf(8, "A1", "A2")));
+        when(bookingRepository.save(any(TicketBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        seatInventoryService.reserveSeats(show, List.of("A1", "A2"), SeatState.BOOKED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingService.updateBooking(bookingOf(8, "A2", "A3"));
+
+            // The new seat is claimed at once, the given-up one stays sold until commit
+            assertEquals(List.of("A1", "A2", "A3"),
+                    seatInventoryService.findUnavailableSeats(show, List.of("A1", "A2", "A3")));
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of("A2", "A3"), seatInventoryService.findUnavailableSeats(show, List.of("A1", "A2", "A3")));
+
+        when(bookingRepository.findById(8)).thenReturn(Optional.of(bookingOf(8, "A2", "A3")));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingService.updateBooking(bookingOf(8, "A3", "A4"));
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of("A2", "A3"), seatInventoryService.findUnavailableSeats(show, List.of("A2", "A3", "A4")));
+    }
+
+    @Test
+    void cancelBooking_FreesSeatsOnlyAfterCommit() {
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 10, 15)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("A1", "A2"));
+        SeatMap seatMap = seatInventoryService.getSeatMap(show);
+
+        when(bookingRepository.markCancelled(8)).thenReturn(1);
+        when(seatReservationRepository.findByBookingId(8)).thenReturn(List.of(
+                new ShowSeatReservation(2, 0, "A1", 8, SeatState.BOOKED),
+                new ShowSeatReservation(2, 1, "A2", 8, SeatState.BOOKED)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(bookingService.cancelBooking(8));
+
+            // Before commit the seats stay sold and nobody on the waitlist is offered them
+            assertEquals(2, seatMap.occupiedCount());
+            verify(waitlistService, never()).promote(anyInt());
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, seatMap.occupiedCount());
+        verify(waitlistService).promote(2);
+    }
+
+    @Test
+    void cancelBooking_ReturnsFalseWhenAlreadyCancelled() {
+        when(bookingRepository.markCancelled(8)).thenReturn(0);
+        when(bookingRepository.existsById(8)).thenReturn(true);
+
+        assertFalse(bookingService.cancelBooking(8));
+        verify(seatReservationRepository, never()).deleteByBookingId(anyInt());
+    }
+
+    @Test
+    void cancelBooking_ThrowsForUnknownBooking() {
+        when(bookingRepository.markCancelled(404)).thenReturn(0);
+        when(bookingRepository.existsById(404)).thenReturn(false);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> bookingService.cancelBooking(404));
+        assertEquals("Booking not found with ID: 404", exception.getMessage());
+    }
+
+    private static TicketBooking bookingOf(int bookingId, String... seats) {
+        Ticket ticket = new Ticket();
+        ticket.setSeatNumber(new ArrayList<>(List.of(seats)));
+        TicketBooking booking = new TicketBooking();
+        booking.setBookingId(bookingId);
+        booking.setShowId(2);
+        booking.setTransactionStatus("CONFIRMED");
+        booking.setTicket(ticket);
+        return booking;
+    }
+
+    private static void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        });
+    }
+
+    private Show stubBookableShow() {
+        Customer customer = new Customer();
+        customer.setCustomerId(1);
+
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        show.setTheatreId(1);
+
+        when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+        return show;
+    }
 }
@@ -0,0 +1,169 @@
+package com.moviebooking.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviebooking.dto.BookingRequest;
+import com.moviebooking.dto.IdempotentResponse;
+import com.moviebooking.entity.IdempotencyRecord;
+import com.moviebooking.exception.IdempotencyKeyException;
+import com.moviebooking.repository.IIdempotencyRecordRepository;
+import com.moviebooking.service.impl.IdempotencyServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IIdempotencyRecordRepository recordRepository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-10-01T10:00:00Z"));
+
+    private IdempotencyServiceImpl idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(recordRepository, new ObjectMapper().findAndRegisterModules(),
+                clock, Duration.ofHours(24), 2);
+    }
+
+    @Test
+    void claim_ReplaysCompletedRequestFromMemory() {
+        BookingRequest request = request("A1");
+        when(recordRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        assertTrue(idempotencyService.claim("key-1", request).isEmpty());
+        idempotencyService.complete("key-1", request, 201, List.of("booked"));
+
+        Optional<IdempotentResponse> replay = idempotencyService.claim("key-1", request("A1"));
+        assertTrue(replay.isPresent());
+        assertEquals(201, replay.get().getStatus());
+        assertEquals("[\"booked\"]", replay.get().getBody());
+        verify(recordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void claim_RejectsConcurrentRequestWithSameKey() {
+        when(recordRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        idempotencyService.claim("key-1", request("A1"));
+
+        IdempotencyKeyException exception = assertThrows(IdempotencyKeyException.class,
+                () -> idempotencyService.claim("key-1", request("A1")));
+        assertEquals(IdempotencyKeyException.Reason.IN_PROGRESS, exception.getReason());
+
+        idempotencyService.release("key-1");
+        assertTrue(idempotencyService.claim("key-1", request("A1")).isEmpty());
+    }
+
+    @Test
+    void claim_RejectsKeyReusedForDifferentRequest() {
+        when(recordRepository.findById("key-1")).thenReturn(Optional.empty());
+        idempotencyService.claim("key-1", request("A1"));
+        idempotencyService.complete("key-1", request("A1"), 201, "ok");
+
+        IdempotencyKeyException exception = assertThrows(IdempotencyKeyException.class,
+                () -> idempotencyService.claim("key-1", request("A2")));
+        assertEquals(IdempotencyKeyException.Reason.REUSED, exception.getReason());
+    }
+
+    @Test
+    void claim_FallsBackToDatabaseAfterEviction() {
+        when(recordRepository.findById(any(String.class))).thenReturn(Optional.empty());
+        for (String key : List.of("key-1", "key-2", "key-3")) {
+            idempotencyService.claim(key, request("A1"));
+            idempotencyService.complete(key, request("A1"), 201, key);
+            clock.advance(Duration.ofMinutes(1));
+        }
+
+        // key-1 was pushed out of the two-entry memory store, so the replay has to come from the table.
+        IdempotencyRecord stored = new IdempotencyRecord("key-1", hashOf(request("A1")), 201, "\"key-1\"",
+                clock.instant().minus(Duration.ofMinutes(3)), clock.instant().plus(Duration.ofHours(23)));
+        when(recordRepository.findById("key-1")).thenReturn(Optional.of(stored));
+
+        Optional<IdempotentResponse> replay = idempotencyService.claim("key-1", request("A1"));
+        assertTrue(replay.isPresent());
+        assertEquals("\"key-1\"", replay.get().getBody());
+    }
+
+    @Test
+    void claim_IgnoresExpiredEntries() {
+        when(recordRepository.findById("key-1")).thenReturn(Optional.empty());
+        idempotencyService.claim("key-1", request("A1"));
+        idempotencyService.complete("key-1", request("A1"), 201, "ok");
+
+        clock.advance(Duration.ofHours(25));
+
+        assertFalse(idempotencyService.claim("key-1", request("A1")).isPresent());
+    }
+
+    @Test
+    void claim_RejectsBlankKeyWithoutTouchingStorage() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.claim(" ", request("A1")));
+        verify(recordRepository, never()).findById(any(String.class));
+    }
+
+    private BookingRequest request(String seat) {
+        BookingRequest request = new BookingRequest();
+        request.setShowId(2);
+        request.setCustomerId(1);
+        request.setSeatNumbers(List.of(seat));
+        request.setTotalCost(150.0);
+        return request;
+    }
+
+    private String hashOf(BookingRequest request) {
+        try {
+            byte[] json = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(request);
+            return java.util.HexFormat.of().formatHex(java.security.MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
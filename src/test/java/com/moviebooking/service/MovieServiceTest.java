@@ -1,7 +1,10 @@
 package com.moviebooking.service;
 
+import com.moviebooking.dto.CursorPage;
 import com.moviebooking.entity.Movie;
 import com.moviebooking.repository.IMovieRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.impl.CatalogCacheServiceImpl;
 import com.moviebooking.service.impl.MovieServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +12,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +29,28 @@ public class MovieServiceTest {
     @Mock
     private IMovieRepository movieRepository;
 
+    @Mock
+    private IMovieSearchService movieSearchService;
+
+    @Mock
+    private IAutocompleteService autocompleteService;
+
+    @Mock
+    private IShowRepository showRepository;
+
+    @Mock
+    private IShowScheduleService showSchedule;
+
+    @Mock
+    private ISeatInventoryService seatInventoryService;
+
+    @Mock
+    private IPricingService pricingService;
+
+    @Spy
+    private ICatalogCacheService catalogCache =
+            new CatalogCacheServiceImpl(100, 60, TransactionOperations.withoutTransaction());
+
     @InjectMocks
     private MovieServiceImpl movieService;
 
@@ -49,6 +77,7 @@ public class MovieServiceTest {
         assertEquals(testMovie.getMovieName(), result.getMovieName());
         assertEquals(testMovie.getMovieGenre(), result.getMovieGenre());
         verify(movieRepository).save(testMovie);
+        verify(movieSearchService).index(testMovie);
     }
 
     @Test
@@ -94,6 +123,26 @@ public class MovieServiceTest {
         assertNotNull(result);
         assertEquals(testMovie.getMovieId(), result.getMovieId());
         verify(movieRepository).deleteById(1);
+        verify(movieSearchService).remove(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the movie's cascaded shows from the screen schedules")
+    void testRemoveMovie_UnschedulesItsShows() {
+        // Given
+        when(movieRepository.findById(1)).thenReturn(Optional.of(testMovie));
+        when(showRepository.findShowIdsByMovieId(1)).thenReturn(List.of(7, 9));
+
+        // When
+        movieService.removeMovie(1);
+
+        // Then
+        verify(showSchedule).unschedule(7);
+        verify(showSchedule).unschedule(9);
+        verify(seatInventoryService).evict(7);
+        verify(pricingService).evict(7);
+        verify(seatInventoryService).evict(9);
+        verify(pricingService).evict(9);
     }
 
     @Test
@@ -125,4 +174,74 @@ public class MovieServiceTest {
         assertEquals(1, result.size());
         assertEquals(testMovie.getMovieName(), result.get(0).getMovieName());
     }
+
+    @Test
+    @DisplayName("Should page movies after a cursor and point at the next page")
+    void testViewMoviePage_ReturnsNextCursor() {
+        // Given
+        Movie second = new Movie("Dune", "Sci-Fi", "2h 46m", "English", "Desert planet");
+        second.setMovieId(2);
+        Movie third = new Movie("Joker", "Drama", "2h 2m", "English", "Origin story");
+        third.setMovieId(3);
+        when(movieRepository.findByMovieIdGreaterThanOrderByMovieIdAsc(0, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(testMovie, second, third));
+        when(movieRepository.findByMovieIdGreaterThanOrderByMovieIdAsc(2, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(third));
+
+        // When
+        CursorPage<Movie> first = movieService.viewMoviePage(0, 2);
+        CursorPage<Movie> last = movieService.viewMoviePage(first.getNextCursor(), 2);
+
+        // Then
+        assertEquals(Arrays.asList(testMovie, second), first.getItems());
+        assertEquals(2, first.getNextCursor());
+        assertEquals(Arrays.asList(third), last.getItems());
+        assertNull(last.getNextCursor());
+        verify(movieRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the catalog cache until a movie changes")
+    void testViewMovieList_CachedUntilUpdate() {
+        // Given
+        when(movieRepository.findAll()).thenReturn(Arrays.asList(testMovie));
+        when(movieRepository.findById(1)).thenReturn(Optional.of(testMovie));
+        when(movieRepository.save(testMovie)).thenReturn(testMovie);
+
+        // When
+        movieService.viewMovieList();
+        movieService.viewMovieList();
+        movieService.viewMovie(1);
+        movieService.viewMovie(1);
+        movieService.updateMovie(testMovie);
+        List<Movie> result = movieService.viewMovieList();
+
+        // Then
+        assertEquals(1, result.size());
+        verify(movieRepository, times(2)).findAll();
+        verify(movieRepository, times(2)).findById(1);
+        assertEquals(2, catalogCache.getStats().getHits());
+        assertEquals(3, catalogCache.getStats().getMisses());
+    }
+
+    @Test
+    @DisplayName("Should list only movies showing at a theatre or on a date")
+    void testViewMovieList_FiltersByTheatreAndDate() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 10, 1);
+        when(movieRepository.findShowingAtTheatre(3)).thenReturn(Arrays.asList(testMovie));
+        when(movieRepository.findShowingBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .thenReturn(Arrays.asList());
+
+        // When
+        List<Movie> atTheatre = movieService.viewMovieList(3);
+        movieService.viewMovieList(3);
+        List<Movie> onDate = movieService.viewMovieList(date);
+
+        // Then
+        assertEquals(Arrays.asList(testMovie), atTheatre);
+        assertTrue(onDate.isEmpty());
+        verify(movieRepository, times(1)).findShowingAtTheatre(3);
+        verify(movieRepository, never()).findAll();
+    }
 }
@@ -0,0 +1,198 @@
+package com.moviebooking.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moviebooking.dto.PriceQuote;
+import com.moviebooking.entity.Show;
+import com.moviebooking.inventory.SeatLabels;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.impl.PricingServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class PricingServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-01T10:00:00Z");
+
+    @Mock
+    private IShowRepository showRepository;
+
+    @Mock
+    private ISeatInventoryService seatInventoryService;
+
+    private final MutableClock clock = new MutableClock();
+    private final SeatMap seatMap = new SeatMap(4, 8);
+    private Show show;
+    private PricingServiceImpl pricingService;
+
+    @BeforeEach
+    void setUp() {
+        show = new Show();
+        show.setShowId(7);
+        show.setShowStartTime(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plusDays(2));
+        pricingService = new PricingServiceImpl(showRepository, seatInventoryService, "A:400,B:300", 250, 2.0, 30, 15,
+                clock);
+        when(seatInventoryService.getSeatMap(show)).thenReturn(seatMap);
+    }
+
+    @Test
+    void priceSeats_UsesRowBasePricesForAQuietShow() {
+        assertEquals(400 + 300 + 250 + 250, pricingService.priceSeats(show, List.of("A1", "b2", "C3", "D4")));
+    }
+
+    @Test
+    void priceSeats_RisesWithOccupancyAboveHalf() {
+        occupy(24);
+
+        assertEquals(500, pricingService.priceSeats(show, List.of("A1")));
+        assertEquals(315, pricingService.priceSeats(show, List.of("D1")));
+    }
+
+    @Test
+    void priceSeats_RisesWithRecentSalesAndKeepsTheCachedTableUntilRefresh() {
+        assertEquals(400, pricingService.priceSeats(show, List.of("A1")));
+
+        occupy(8);
+        assertEquals(400, pricingService.priceSeats(show, List.of("A1")));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(500, pricingService.priceSeats(show, List.of("A1")));
+
+        clock.advance(Duration.ofHours(12));
+        assertEquals(400, pricingService.priceSeats(show, List.of("A1")));
+    }
+
+    @Test
+    void priceSeats_DependsOnTimeToShowtime() {
+        show.setShowStartTime(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plusHours(1));
+        assertEquals(440, pricingService.priceSeats(show, List.of("A1")));
+
+        pricingService.evict(7);
+        show.setShowStartTime(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plusDays(10));
+        assertEquals(360, pricingService.priceSeats(show, List.of("A1")));
+    }
+
+    @Test
+    void quote_LoadsTheShowOnceAndRedeemsForTheSameSeats() {
+        when(showRepository.findById(7)).thenReturn(Optional.of(show));
+
+        PriceQuote quote = pricingService.quote(7, List.of("A1", "B2"));
+        pricingService.quote(7, List.of("C1"));
+
+        assertEquals(700, quote.getTotalCost());
+        assertEquals(Map.of("A1", 400.0, "B2", 300.0), quote.getSeatPrices());
+        verify(showRepository, times(1)).findById(7);
+
+        occupy(30);
+        clock.advance(Duration.ofMinutes(10));
+        assertEquals(700, pricingService.redeemQuote(quote.getQuoteId(), show, List.of("b2", "a1")));
+    }
+
+    @Test
+    void redeemQuote_RejectsOtherSeatsOtherShowsAndExpiredQuotes() {
+        when(showRepository.findById(7)).thenReturn(Optional.of(show));
+        String quoteId = pricingService.quote(7, List.of("A1", "B2")).getQuoteId();
+        Show otherShow = new Show();
+        otherShow.setShowId(8);
+
+        assertThrows(IllegalArgumentException.class, () -> pricingService.redeemQuote(quoteId, show, List.of("A1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> pricingService.redeemQuote(quoteId.replace("70000-", "10000-"), show, List.of("A1", "B2")));
+        assertThrows(IllegalArgumentException.class,
+                () -> pricingService.redeemQuote(quoteId, otherShow, List.of("A1", "B2")));
+
+        clock.advance(Duration.ofMinutes(16));
+        assertThrows(IllegalArgumentException.class,
+                () -> pricingService.redeemQuote(quoteId, show, List.of("A1", "B2")));
+    }
+
+    @Test
+    void redeemQuote_PaysForOneBookingOnly() {
+        when(showRepository.findById(7)).thenReturn(Optional.of(show));
+        String quoteId = pricingService.quote(7, List.of("A1", "B2")).getQuoteId();
+
+        assertEquals(700, pricingService.redeemQuote(quoteId, show, List.of("A1", "B2")));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pricingService.redeemQuote(quoteId, show, List.of("A1", "B2")));
+        assertEquals("Price quote has already been used, please request a new one", exception.getMessage());
+    }
+
+    @Test
+    void redeemQuote_HandsTheQuoteBackWhenTheBookingRollsBack() {
+        when(showRepository.findById(7)).thenReturn(Optional.of(show));
+        String quoteId = pricingService.quote(7, List.of("A1")).getQuoteId();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pricingService.redeemQuote(quoteId, show, List.of("A1"));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization
+                    -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(400, pricingService.redeemQuote(quoteId, show, List.of("A1")));
+    }
+
+    @Test
+    void quote_RejectsSeatsOutsideTheLayout() {
+        when(showRepository.findById(7)).thenReturn(Optional.of(show));
+
+        assertThrows(IllegalArgumentException.class, () -> pricingService.quote(7, List.of("E1")));
+        assertThrows(IllegalArgumentException.class, () -> pricingService.quote(7, List.of()));
+    }
+
+    private void occupy(int seats) {
+        List<String> labels = new ArrayList<>();
+        for (int index = 0; index < seats; index++) {
+            labels.add(SeatLabels.toLabel(index, seatMap.getColumns()));
+        }
+        seatMap.occupy(seatMap.maskOf(labels));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = NOW;
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.SchedulePlan;
+import com.moviebooking.dto.ScheduleRequest;
+import com.moviebooking.dto.ShowTarget;
+import com.moviebooking.entity.Movie;
+import com.moviebooking.entity.Screen;
+import com.moviebooking.entity.Show;
+import com.moviebooking.repository.IMovieRepository;
+import com.moviebooking.repository.IScreenRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.impl.SchedulePlannerServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Schedule Planner Service Tests")
+public class SchedulePlannerServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
+
+    @Mock
+    private IScreenRepository screenRepository;
+
+    @Mock
+    private IMovieRepository movieRepository;
+
+    @Mock
+    private IShowRepository showRepository;
+
+    @Mock
+    private IShowScheduleService showSchedule;
+
+    @Mock
+    private ICatalogCacheService catalogCache;
+
+    @InjectMocks
+    private SchedulePlannerServiceImpl schedulePlanner;
+
+    private ScheduleRequest request;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Screen screen = new Screen();
+        screen.setScreenId(4);
+        Movie movie = new Movie("Inception", "Sci-Fi", "2h 28m", "English", "Dreams within dreams");
+        movie.setMovieId(2);
+        when(screenRepository.findByTheatreId(1)).thenReturn(Arrays.asList(screen));
+        when(movieRepository.findAllById(any())).thenReturn(Arrays.asList(movie));
+        when(showSchedule.getTurnaround()).thenReturn(Duration.ofMinutes(15));
+        when(showSchedule.findShowIds(eq(4), any(), any())).thenReturn(List.of());
+
+        ShowTarget target = new ShowTarget();
+        target.setMovieId(2);
+        target.setShows(4);
+        request = new ScheduleRequest();
+        request.setTheatreId(1);
+        request.setStartDate(MONDAY);
+        request.setDays(2);
+        request.setTargets(Arrays.asList(target));
+    }
+
+    @Test
+    @DisplayName("Should plan shows from the movie runtime without saving on a dry run")
+    void testPlan_DryRunDoesNotSave() {
+        // When
+        SchedulePlan plan = schedulePlanner.plan(request, true);
+
+        // Then
+        assertFalse(plan.isSaved());
+        assertEquals(4, plan.getShows().size());
+        Show first = plan.getShows().get(0);
+        assertEquals(MONDAY.atTime(10, 0), first.getShowStartTime());
+        assertEquals(MONDAY.atTime(12, 28), first.getShowEndTime());
+        assertEquals("Morning Show", first.getShowName());
+        assertEquals(Integer.valueOf(2), first.getMovieId());
+        assertEquals(4, first.getScreenId());
+        verify(showSchedule, never()).scheduleAll(any(), any());
+        verify(catalogCache, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should save the plan in one batch and clear the catalog cache")
+    void testPlan_SavesInOneBatch() {
+        // Given
+        when(showSchedule.scheduleAll(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        SchedulePlan plan = schedulePlanner.plan(request, false);
+
+        // Then
+        assertTrue(plan.isSaved());
+        assertEquals(4, plan.getShows().size());
+        verify(showSchedule, times(1)).scheduleAll(any(), any());
+        verify(catalogCache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown screens and out-of-range days")
+    void testPlan_RejectsInvalidRequests() {
+        request.setScreenIds(Arrays.asList(9));
+        assertThrows(IllegalArgumentException.class, () -> schedulePlanner.plan(request, true));
+
+        request.setScreenIds(null);
+        request.setDays(15);
+        assertThrows(IllegalArgumentException.class, () -> schedulePlanner.plan(request, true));
+    }
+}
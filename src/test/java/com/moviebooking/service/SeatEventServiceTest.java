@@ -0,0 +1,141 @@
+package com.moviebooking.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.moviebooking.dto.SeatMapDelta;
+import com.moviebooking.inventory.SeatState;
+import com.moviebooking.service.impl.SeatEventServiceImpl;
+
+class SeatEventServiceTest {
+
+    private final Deque<Runnable> dispatched = new ArrayDeque<>();
+
+    private SeatEventServiceImpl seatEventService;
+
+    @BeforeEach
+    void setUp() {
+        seatEventService = new SeatEventServiceImpl(dispatched::add, 60_000, 2);
+    }
+
+    @Test
+    void subscribe_TracksSubscribersPerShow() {
+        assertFalse(seatEventService.hasSubscribers(5));
+
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        seatEventService.subscribe(5, emitter);
+
+        assertTrue(seatEventService.hasSubscribers(5));
+        assertFalse(seatEventService.hasSubscribers(6));
+        assertEquals(List.of(":subscribed\n"), emitter.texts);
+    }
+
+    @Test
+    void publish_CoalescesConsecutiveDeltasOfTheSameState() {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        seatEventService.subscribe(5, emitter);
+
+        seatEventService.publish(new SeatMapDelta(5, SeatState.HELD, new int[] { 1 }, "ab-0", "ab-1"));
+        seatEventService.publish(new SeatMapDelta(5, SeatState.HELD, new int[] { 2, 1 }, "ab-1", "ab-2"));
+        seatEventService.publish(new SeatMapDelta(5, SeatState.RELEASED, new int[] { 3 }, "ab-2", "ab-3"));
+        assertEquals(1, dispatched.size());
+        drain();
+
+        assertEquals(2, emitter.deltas.size());
+        assertEquals(SeatState.HELD, emitter.deltas.get(0).getState());
+        assertArrayEquals(new int[] { 1, 2 }, emitter.deltas.get(0).getSeats());
+        assertEquals("ab-0", emitter.deltas.get(0).getPreviousVersion());
+        assertEquals("ab-2", emitter.deltas.get(0).getVersion());
+        assertEquals(SeatState.RELEASED, emitter.deltas.get(1).getState());
+        assertTrue(emitter.texts.get(1).contains("event:seats"));
+        assertTrue(emitter.texts.get(1).contains("id:ab-2"));
+    }
+
+    @Test
+    void publish_AsksSlowSubscribersToResync() {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        seatEventService.subscribe(5, emitter);
+
+        seatEventService.publish(new SeatMapDelta(5, SeatState.HELD, new int[] { 1 }, "ab-0", "ab-1"));
+        seatEventService.publish(new SeatMapDelta(5, SeatState.RELEASED, new int[] { 1 }, "ab-1", "ab-2"));
+        seatEventService.publish(new SeatMapDelta(5, SeatState.BOOKED, new int[] { 2 }, "ab-2", "ab-3"));
+        drain();
+
+        assertTrue(emitter.deltas.isEmpty());
+        assertEquals(2, emitter.texts.size());
+        assertTrue(emitter.texts.get(1).contains("event:resync"));
+
+        seatEventService.publish(new SeatMapDelta(5, SeatState.BOOKED, new int[] { 4 }, "ab-3", "ab-4"));
+        drain();
+
+        assertEquals(1, emitter.deltas.size());
+        assertArrayEquals(new int[] { 4 }, emitter.deltas.get(0).getSeats());
+    }
+
+    @Test
+    void publish_DropsSubscribersThatCannotBeWritten() {
+        seatEventService.subscribe(5, new RecordingEmitter(true));
+
+        seatEventService.publish(new SeatMapDelta(5, SeatState.BOOKED, new int[] { 7 }, "ab-0", "ab-1"));
+        drain();
+
+        assertFalse(seatEventService.hasSubscribers(5));
+    }
+
+    @Test
+    void publish_IgnoresShowsWithoutSubscribers() {
+        seatEventService.subscribe(5, new RecordingEmitter(false));
+
+        seatEventService.publish(new SeatMapDelta(9, SeatState.BOOKED, new int[] { 7 }, "ab-0", "ab-1"));
+
+        assertTrue(dispatched.isEmpty());
+    }
+
+    private void drain() {
+        while (!dispatched.isEmpty()) {
+            dispatched.poll().run();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final boolean failDeltas;
+        private final List<String> texts = new ArrayList<>();
+        private final List<SeatMapDelta> deltas = new ArrayList<>();
+
+        private RecordingEmitter(boolean failDeltas) {
+            this.failDeltas = failDeltas;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            SeatMapDelta delta = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof SeatMapDelta seatMapDelta) {
+                    delta = seatMapDelta;
+                } else {
+                    text.append(part.getData());
+                }
+            }
+            if (delta != null && failDeltas) {
+                throw new IOException("Broken pipe");
+            }
+            texts.add(text.toString());
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        }
+    }
+}
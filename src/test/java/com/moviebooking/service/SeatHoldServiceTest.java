@@ -0,0 +1,131 @@
+package com.moviebooking.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moviebooking.dto.SeatHold;
+import com.moviebooking.dto.SeatHoldRequest;
+import com.moviebooking.entity.Screen;
+import com.moviebooking.entity.Show;
+import com.moviebooking.repository.ICustomerRepository;
+import com.moviebooking.repository.IScreenRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.repository.IShowSeatReservationRepository;
+import com.moviebooking.service.impl.SeatHoldServiceImpl;
+import com.moviebooking.service.impl.SeatInventoryServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldServiceTest {
+
+    @Mock
+    private IShowSeatReservationRepository seatReservationRepository;
+
+    @Mock
+    private IScreenRepository screenRepository;
+
+    @Mock
+    private IShowRepository showRepository;
+
+    @Mock
+    private ICustomerRepository customerRepository;
+
+    @Mock
+    private ISeatEventService seatEventService;
+
+    private SeatInventoryServiceImpl seatInventoryService;
+
+    private SeatHoldServiceImpl seatHoldService;
+
+    private Show show;
+
+    @BeforeEach
+    void setUp() {
+        seatInventoryService = new SeatInventoryServiceImpl(seatReservationRepository, screenRepository, showRepository,
+                seatEventService);
+        seatHoldService = new SeatHoldServiceImpl(showRepository, customerRepository, seatInventoryService, 10, 30, 1000);
+
+        show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(customerRepository.existsById(5)).thenReturn(true);
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 10, 15)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+    }
+
+    @Test
+    void createHold_BlocksSeatsForOtherCustomers() {
+        SeatHold hold = seatHoldService.createHold(2, holdRequest("a1", "A2"));
+
+        assertEquals(List.of("A1", "A2"), hold.getSeatNumbers());
+        assertEquals(List.of("A2"), seatInventoryService.findUnavailableSeats(show, List.of("A2", "A3")));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> seatHoldService.createHold(2, holdRequest("A2", "A3")));
+        assertEquals("Selected seats are no longer available: [A2]", exception.getMessage());
+    }
+
+    @Test
+    void expireHolds_ReleasesSeatsAfterDeadline() {
+        seatHoldService.createHold(2, holdRequest("A1"));
+
+        assertEquals(0, seatHoldService.expireHolds(System.currentTimeMillis() + 60_000));
+        assertEquals(1, seatHoldService.expireHolds(System.currentTimeMillis() + 11 * 60_000));
+        assertTrue(seatInventoryService.findUnavailableSeats(show, List.of("A1")).isEmpty());
+    }
+
+    @Test
+    void consumeHold_KeepsSeatsReservedPastExpiry() {
+        SeatHold hold = seatHoldService.createHold(2, holdRequest("A1", "A2"));
+
+        assertTrue(seatHoldService.consumeHold(hold.getHoldId(), 2, 5, List.of("A2", "A1")));
+        assertFalse(seatHoldService.consumeHold(hold.getHoldId(), 2, 5, List.of("A2", "A1")));
+        assertEquals(0, seatHoldService.expireHolds(System.currentTimeMillis() + 11 * 60_000));
+        assertEquals(List.of("A1", "A2"), seatInventoryService.findUnavailableSeats(show, List.of("A1", "A2")));
+    }
+
+    @Test
+    void consumeHold_RejectsMismatchedSeats() {
+        SeatHold hold = seatHoldService.createHold(2, holdRequest("A1"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> seatHoldService.consumeHold(hold.getHoldId(), 2, 5, List.of("A3")));
+    }
+
+    @Test
+    void releaseHold_FreesSeatsImmediately() {
+        SeatHold hold = seatHoldService.createHold(2, holdRequest("B4"));
+
+        assertTrue(seatHoldService.releaseHold(2, hold.getHoldId(), 5));
+        assertFalse(seatHoldService.releaseHold(2, hold.getHoldId(), 5));
+        assertTrue(seatInventoryService.findUnavailableSeats(show, List.of("B4")).isEmpty());
+    }
+
+    @Test
+    void releaseHold_RejectsAnotherCustomer() {
+        SeatHold hold = seatHoldService.createHold(2, holdRequest("B4"));
+
+        assertThrows(IllegalArgumentException.class, () -> seatHoldService.releaseHold(2, hold.getHoldId(), 6));
+        assertEquals(List.of("B4"), seatInventoryService.findUnavailableSeats(show, List.of("B4")));
+        assertTrue(seatHoldService.releaseHold(2, hold.getHoldId(), 5));
+    }
+
+    private SeatHoldRequest holdRequest(String... seats) {
+        SeatHoldRequest request = new SeatHoldRequest();
+        request.setCustomerId(5);
+        request.setSeatNumbers(List.of(seats));
+        return request;
+    }
+}
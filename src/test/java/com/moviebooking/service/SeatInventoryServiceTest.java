@@ -0,0 +1,241 @@
+package com.moviebooking.service;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moviebooking.dto.SeatAvailability;
+import com.moviebooking.dto.SeatMapDelta;
+import com.moviebooking.dto.SeatPreferences;
+import com.moviebooking.entity.Screen;
+import com.moviebooking.entity.Show;
+import com.moviebooking.inventory.SeatLabels;
+import com.moviebooking.inventory.SeatMap;
+import com.moviebooking.inventory.SeatState;
+import com.moviebooking.repository.IScreenRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.repository.IShowSeatReservationRepository;
+import com.moviebooking.service.impl.SeatInventoryServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryServiceTest {
+
+    @Mock
+    private IShowSeatReservationRepository seatReservationRepository;
+
+    @Mock
+    private IScreenRepository screenRepository;
+
+    @Mock
+    private IShowRepository showRepository;
+
+    @Mock
+    private ISeatEventService seatEventService;
+
+    private SeatInventoryServiceImpl seatInventoryService;
+
+    private Show show;
+
+    @BeforeEach
+    void setUp() {
+        seatInventoryService = new SeatInventoryServiceImpl(seatReservationRepository, screenRepository, showRepository,
+                seatEventService);
+
+        show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        show.setTheatreId(1);
+        show.setShowName("Morning Show");
+        show.setShowStartTime(LocalDateTime.now());
+        show.setShowEndTime(LocalDateTime.now().plusHours(3));
+    }
+
+    @Test
+    void getSeatMap_LoadsReservedSeatsOnce() {
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 10, 15)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("A2", " b3 ", "Z99"));
+
+        SeatMap first = seatInventoryService.getSeatMap(show);
+        SeatMap second = seatInventoryService.getSeatMap(show);
+
+        assertEquals(first, second);
+        assertEquals(2, first.occupiedCount());
+        assertEquals(150, first.capacity());
+        verify(seatReservationRepository, times(1)).findSeatNumbersByShowId(2);
+    }
+
+    @Test
+    void evict_ReloadsTheSeatMapFromTheCurrentLayout() {
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 10, 15)),
+                Optional.of(new Screen(1, "Screen 1", 12, 20)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("A2"));
+
+        SeatMap before = seatInventoryService.getSeatMap(show);
+        seatInventoryService.evict(2);
+        SeatMap after = seatInventoryService.getSeatMap(show);
+
+        assertNotEquals(before, after);
+        assertEquals(240, after.capacity());
+        assertEquals(1, after.occupiedCount());
+    }
+
+    @Test
+    void findUnavailableSeats_ReflectsBookingsAndReleases() {
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 10, 15)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("A2"));
+
+        assertEquals(List.of("A2"), seatInventoryService.findUnavailableSeats(show, List.of("A1", "A2")));
+
+        seatInventoryService.markBooked(2, List.of("A1"));
+        assertEquals(List.of("A1", "A2"), seatInventoryService.findUnavailableSeats(show, List.of("A1", "A2")));
+
+        seatInventoryService.markReleased(2, List.of("A2"));
+        assertEquals(List.of("A1"), seatInventoryService.findUnavailableSeats(show, List.of("A1", "A2")));
+    }
+
+    @Test
+    void findUnavailableSeats_RejectsSeatsOutsideLayout() {
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> seatInventoryService.findUnavailableSeats(show, List.of("E1")));
+        assertEquals("Seat E1 does not exist for this show", exception.getMessage());
+    }
+
+    @Test
+    void getSeatMap_ThrowsWhenScreenMissing() {
+        when(screenRepository.findById(1)).thenReturn(Optional.empty());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> seatInventoryService.getSeatMap(show));
+        assertEquals("Seat layout is not configured for show ID: 2", exception.getMessage());
+    }
+
+    @Test
+    void getAvailability_EncodesOccupancyAsBitmap() {
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("A1", "A3", "B1"));
+
+        SeatAvailability availability = seatInventoryService.getAvailability(2);
+
+        assertEquals(4, availability.getRows());
+        assertEquals(8, availability.getColumns());
+        assertEquals(3, availability.getOccupiedCount());
+        byte[] bitmap = Base64.getDecoder().decode(availability.getOccupancy());
+        assertEquals(4, bitmap.length);
+        assertEquals(0b0000_0101, bitmap[0]);
+        assertEquals(0b0000_0001, bitmap[1]);
+
+        assertEquals(availability.getVersion(), seatInventoryService.getAvailability(2).getVersion());
+        seatInventoryService.markReleased(2, List.of("A3"));
+        assertNotEquals(availability.getVersion(), seatInventoryService.getAvailability(2).getVersion());
+    }
+
+    @Test
+    void getAvailability_ThrowsWhenShowMissing() {
+        when(showRepository.findById(99)).thenReturn(Optional.empty());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> seatInventoryService.getAvailability(99));
+        assertEquals("Show not found with ID: 99", exception.getMessage());
+    }
+
+    @Test
+    void reserveSeats_PublishesDeltasOnlyWhenWatched() {
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+
+        seatInventoryService.reserveSeats(show, List.of("A1"), SeatState.HELD);
+        verify(seatEventService, never()).publish(any());
+
+        when(seatEventService.hasSubscribers(2)).thenReturn(true);
+        seatInventoryService.reserveSeats(show, List.of("B2", "A2"), SeatState.BOOKED);
+        seatInventoryService.reserveSeats(show, List.of("A2"), SeatState.BOOKED);
+        seatInventoryService.markReleased(2, List.of("A1"));
+
+        ArgumentCaptor<SeatMapDelta> deltas = ArgumentCaptor.forClass(SeatMapDelta.class);
+        verify(seatEventService, times(2)).publish(deltas.capture());
+        assertEquals(SeatState.BOOKED, deltas.getAllValues().get(0).getState());
+        assertArrayEquals(new int[] { 1, 9 }, deltas.getAllValues().get(0).getSeats());
+        assertEquals(SeatState.RELEASED, deltas.getAllValues().get(1).getState());
+        assertArrayEquals(new int[] { 0 }, deltas.getAllValues().get(1).getSeats());
+        assertEquals(seatInventoryService.getSeatMap(show).tag(), deltas.getAllValues().get(1).getVersion());
+        assertEquals(deltas.getAllValues().get(0).getVersion(), deltas.getAllValues().get(1).getPreviousVersion());
+    }
+
+    @Test
+    void markBooked_PublishesHeldSeatsBecomingBooked() {
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+        when(seatEventService.hasSubscribers(2)).thenReturn(true);
+
+        seatInventoryService.reserveSeats(show, List.of("A1", "A2"), SeatState.HELD);
+        seatInventoryService.markBooked(2, List.of("A1", "A2"));
+
+        ArgumentCaptor<SeatMapDelta> deltas = ArgumentCaptor.forClass(SeatMapDelta.class);
+        verify(seatEventService, times(2)).publish(deltas.capture());
+        SeatMapDelta booked = deltas.getAllValues().get(1);
+        assertEquals(SeatState.BOOKED, booked.getState());
+        assertArrayEquals(new int[] { 0, 1 }, booked.getSeats());
+        assertEquals(deltas.getAllValues().get(0).getVersion(), booked.getPreviousVersion());
+        assertNotEquals(booked.getPreviousVersion(), booked.getVersion());
+        assertEquals(2, seatInventoryService.getSeatMap(show).occupiedCount());
+    }
+
+    @Test
+    void reserveBestAvailable_PrefersRequestedRowPositionAndCentre() {
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "IMAX", 40, 60)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of("AH30"));
+
+        SeatPreferences preferences = new SeatPreferences();
+        preferences.setRowPosition("back");
+
+        List<String> seats = seatInventoryService.reserveBestAvailable(show, 4, preferences, SeatState.BOOKED);
+
+        // The centre of the preferred row is taken, so the next row back beats sliding off-centre.
+        assertEquals(List.of("AI29", "AI30", "AI31", "AI32"), seats);
+        assertEquals(List.of("AI29"), seatInventoryService.findUnavailableSeats(show, List.of("AI29", "AI33")));
+    }
+
+    @Test
+    void reserveBestAvailable_RejectsUnknownRowPosition() {
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 4, 8)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2)).thenReturn(List.of());
+
+        SeatPreferences preferences = new SeatPreferences();
+        preferences.setRowPosition("balcony");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> seatInventoryService.reserveBestAvailable(show, 2, preferences, SeatState.BOOKED));
+        assertEquals("Unknown row position: balcony", exception.getMessage());
+    }
+
+    @Test
+    void seatLabels_RoundTripBeyondTwentySixRows() {
+        int index = SeatLabels.toIndex("AB12", 40, 60);
+        assertEquals((27 * 60) + 11, index);
+        assertEquals("AB12", SeatLabels.toLabel(index, 60));
+        assertEquals(-1, SeatLabels.toIndex("A0", 40, 60));
+        assertEquals(-1, SeatLabels.toIndex("12", 40, 60));
+        assertEquals(0, SeatLabels.toIndex("a1", 1, 1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.moviebooking.service;
+
+import com.moviebooking.entity.Show;
+import com.moviebooking.exception.ShowConflictException;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.service.impl.ShowScheduleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Show Schedule Service Tests")
+public class ShowScheduleServiceTest {
+
+    private static final LocalDateTime EVENING = LocalDateTime.of(2025, 10, 1, 18, 0);
+
+    @Mock
+    private IShowRepository showRepository;
+
+    private ShowScheduleServiceImpl showSchedule;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // Given an 18:00-21:00 show on screen 1 and a 15-minute turnaround
+        when(showRepository.findAll()).thenReturn(Arrays.asList(show(1, 1, EVENING, EVENING.plusHours(3))));
+        showSchedule = new ShowScheduleServiceImpl(showRepository, 15);
+    }
+
+    @Test
+    @DisplayName("Should reject a show that starts inside another show's turnaround")
+    void testSchedule_RejectsOverlapIncludingTurnaround() {
+        // When
+        ShowConflictException conflict = assertThrows(ShowConflictException.class,
+                () -> showSchedule.schedule(show(2, 1, EVENING.plusHours(3).plusMinutes(10), EVENING.plusHours(5)),
+                        saved -> saved));
+
+        // Then
+        assertEquals(List.of(1), conflict.getConflictingShowIds());
+        assertThrows(IllegalArgumentException.class,
+                () -> showSchedule.schedule(show(3, 1, EVENING, EVENING), saved -> saved));
+    }
+
+    @Test
+    @DisplayName("Should accept shows after the turnaround or on another screen")
+    void testSchedule_AcceptsFreeSlots() {
+        // When
+        showSchedule.schedule(show(2, 1, EVENING.plusHours(3).plusMinutes(15), EVENING.plusHours(5)), saved -> saved);
+        showSchedule.schedule(show(3, 2, EVENING, EVENING.plusHours(2)), saved -> saved);
+
+        // Then
+        assertEquals(List.of(1, 2), showSchedule.findShowIds(1, EVENING, EVENING.plusHours(6)));
+        assertEquals(List.of(3),
+                showSchedule.findShowIds(2, EVENING.plusHours(1), EVENING.plusHours(1).plusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("Should let a show move within its own slot and free the slot it leaves")
+    void testSchedule_UpdatesReplaceTheOldSlot() {
+        // When
+        showSchedule.schedule(show(1, 1, EVENING.plusMinutes(30), EVENING.plusHours(3)), saved -> saved);
+        showSchedule.schedule(show(1, 2, EVENING, EVENING.plusHours(3)), saved -> saved);
+        showSchedule.schedule(show(2, 1, EVENING, EVENING.plusHours(2)), saved -> saved);
+
+        // Then
+        assertEquals(List.of(2), showSchedule.findShowIds(1, EVENING, EVENING.plusHours(6)));
+        assertEquals(List.of(1), showSchedule.findShowIds(2, EVENING, EVENING.plusHours(6)));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch whose shows overlap each other before saving any of it")
+    void testScheduleAll_RejectsOverlapsWithinTheBatch() {
+        // Given
+        List<Show> batch = Arrays.asList(show(0, 2, EVENING, EVENING.plusHours(2)),
+                show(0, 2, EVENING.plusHours(2).plusMinutes(5), EVENING.plusHours(4)));
+
+        // When / Then
+        assertThrows(ShowConflictException.class, () -> showSchedule.scheduleAll(batch, saved -> {
+            fail("Nothing should be saved");
+            return saved;
+        }));
+        assertTrue(showSchedule.findShowIds(2, EVENING, EVENING.plusHours(6)).isEmpty());
+    }
+
+    private static Show show(int showId, int screenId, LocalDateTime start, LocalDateTime end) {
+        Show show = new Show(start, end, "Show " + showId, screenId, 1);
+        show.setShowId(showId);
+        return show;
+    }
+}
@@ -0,0 +1,157 @@
+package com.moviebooking.service;
+
+import com.moviebooking.entity.Show;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.repository.ITheatreRepository;
+import com.moviebooking.service.impl.CatalogCacheServiceImpl;
+import com.moviebooking.service.impl.ShowServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.support.TransactionOperations;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Show Service Tests")
+public class ShowServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 10, 1, 18, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 10, 1, 21, 0);
+
+    @Mock
+    private IShowRepository showRepository;
+
+    @Mock
+    private ITheatreRepository theatreRepository;
+
+    @Mock
+    private IPricingService pricingService;
+
+    @Mock
+    private IShowScheduleService showSchedule;
+
+    @Mock
+    private ISeatInventoryService seatInventoryService;
+
+    @Spy
+    private ICatalogCacheService catalogCache =
+            new CatalogCacheServiceImpl(100, 60, TransactionOperations.withoutTransaction());
+
+    @InjectMocks
+    private ShowServiceImpl showService;
+
+    private Show testShow;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        testShow = new Show(FROM.plusMinutes(30), FROM.plusHours(3), "Evening", 1, 3);
+        testShow.setShowId(7);
+    }
+
+    @Test
+    @DisplayName("Should look up shows on a date as a half-open range")
+    void testViewShowList_ByDateUsesHalfOpenRange() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 10, 1);
+        when(showRepository.findStartingBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), null))
+                .thenReturn(Arrays.asList(testShow));
+
+        // When
+        List<Show> result = showService.viewShowList(date);
+
+        // Then
+        assertEquals(Arrays.asList(testShow), result);
+    }
+
+    @Test
+    @DisplayName("Should search shows in a city through its theatre IDs")
+    void testSearchShows_ByCity() {
+        // Given
+        when(theatreRepository.findIdsByTheatreCity("Pune")).thenReturn(Arrays.asList(3, 4));
+        when(showRepository.findAtTheatresStartingBetween(Arrays.asList(3, 4), FROM, TO, 5))
+                .thenReturn(Arrays.asList(testShow));
+
+        // When
+        List<Show> result = showService.searchShows(FROM, TO, " Pune ", 5);
+        List<Show> nowhere = showService.searchShows(FROM, TO, "Atlantis", null);
+
+        // Then
+        assertEquals(Arrays.asList(testShow), result);
+        assertTrue(nowhere.isEmpty());
+        verify(showRepository, never()).findStartingBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject empty or over-long search windows")
+    void testSearchShows_RejectsBadWindows() {
+        assertThrows(IllegalArgumentException.class, () -> showService.searchShows(TO, FROM, null, null));
+        assertThrows(IllegalArgumentException.class, () -> showService.searchShows(FROM, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> showService.searchShows(FROM, FROM.plusDays(32), null, null));
+    }
+
+    @Test
+    @DisplayName("Should list the shows playing in a window in start order")
+    void testViewShowsPlaying_OrdersByStartTime() {
+        // Given
+        Show earlier = new Show(FROM.minusHours(1), FROM.plusHours(1), "Matinee", 1, 3);
+        earlier.setShowId(4);
+        when(showSchedule.findShowIds(1, FROM, FROM.plusSeconds(1))).thenReturn(Arrays.asList(7, 4));
+        when(showRepository.findAllById(Arrays.asList(7, 4))).thenReturn(Arrays.asList(testShow, earlier));
+
+        // When
+        List<Show> result = showService.viewShowsPlaying(FROM, null, 1);
+
+        // Then
+        assertEquals(Arrays.asList(earlier, testShow), result);
+        assertThrows(IllegalArgumentException.class, () -> showService.viewShowsPlaying(TO, FROM, null));
+    }
+
+    @Test
+    @DisplayName("Should add shows through the schedule and drop removed shows from it")
+    void testAddAndRemoveShow_KeepScheduleInSync() {
+        // Given
+        when(showSchedule.schedule(eq(testShow), any())).thenReturn(testShow);
+        when(showRepository.findById(7)).thenReturn(Optional.of(testShow));
+
+        // When
+        Show added = showService.addShow(testShow);
+        showService.removeShow(testShow);
+
+        // Then
+        assertEquals(testShow, added);
+        verify(showSchedule).unschedule(7);
+        verify(showRepository).delete(testShow);
+        verify(seatInventoryService).evict(7);
+    }
+
+    @Test
+    @DisplayName("Should drop the seat map only when a show moves to another screen")
+    void testUpdateShow_EvictsSeatMapOnScreenChange() {
+        // Given
+        Show moved = new Show(FROM.plusMinutes(30), FROM.plusHours(3), "Evening", 2, 3);
+        moved.setShowId(7);
+        when(showRepository.findById(7)).thenReturn(Optional.of(testShow));
+        when(showSchedule.schedule(eq(testShow), any())).thenReturn(testShow);
+        when(showSchedule.schedule(eq(moved), any())).thenReturn(moved);
+
+        // When
+        showService.updateShow(testShow);
+        verify(seatInventoryService, never()).evict(anyInt());
+        showService.updateShow(moved);
+
+        // Then
+        verify(seatInventoryService).evict(7);
+    }
+}
@@ -1,7 +1,9 @@
 package com.moviebooking.service;
 
 import com.moviebooking.entity.Theatre;
+import com.moviebooking.repository.IShowRepository;
 import com.moviebooking.repository.ITheatreRepository;
+import com.moviebooking.service.impl.CatalogCacheServiceImpl;
 import com.moviebooking.service.impl.TheatreServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +11,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.support.TransactionOperations;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +26,25 @@ public class TheatreServiceTest {
     @Mock
     private ITheatreRepository theatreRepository;
 
+    @Mock
+    private IAutocompleteService autocompleteService;
+
+    @Mock
+    private IShowRepository showRepository;
+
+    @Mock
+    private IShowScheduleService showSchedule;
+
+    @Mock
+    private ISeatInventoryService seatInventoryService;
+
+    @Mock
+    private IPricingService pricingService;
+
+    @Spy
+    private ICatalogCacheService catalogCache =
+            new CatalogCacheServiceImpl(100, 60, TransactionOperations.withoutTransaction());
+
     @InjectMocks
     private TheatreServiceImpl theatreService;
 
@@ -63,6 +86,25 @@ public class TheatreServiceTest {
         assertTrue(exception.getMessage().contains("already exists"));
     }
 
+    @Test
+    @DisplayName("Should drop the shows on the theatre's screens from the schedules")
+    void testRemoveTheatre_UnschedulesItsShows() {
+        // Given
+        when(theatreRepository.findById(1)).thenReturn(Optional.of(testTheatre));
+        when(showRepository.findShowIdsByTheatreId(1)).thenReturn(List.of(3));
+
+        // When
+        Theatre result = theatreService.removeTheatre(1);
+
+        // Then
+        assertEquals(testTheatre.getTheatreId(), result.getTheatreId());
+        verify(theatreRepository).deleteById(1);
+        verify(showSchedule).unschedule(3);
+        verify(seatInventoryService).evict(3);
+        verify(pricingService).evict(3);
+        verify(autocompleteService).removeTheatre(1);
+    }
+
     @Test
     @DisplayName("Should view theatres by city successfully")
     void testViewTheatresByCity_Success() {
@@ -0,0 +1,135 @@
+package com.moviebooking.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.moviebooking.dto.QueueTicket;
+import com.moviebooking.exception.WaitingRoomException;
+import com.moviebooking.service.impl.WaitingRoomServiceImpl;
+
+class WaitingRoomServiceTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private WaitingRoomServiceImpl waitingRoomService;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoomService = new WaitingRoomServiceImpl(clock::get);
+    }
+
+    @Test
+    void join_AdmitsEveryoneWhenNoRoomIsOpen() {
+        QueueTicket ticket = waitingRoomService.join(7, 1);
+
+        assertTrue(ticket.isAdmitted());
+        assertNull(ticket.getToken());
+        assertDoesNotThrow(() -> waitingRoomService.checkAdmitted(7, 1, null));
+    }
+
+    @Test
+    void join_AdmitsTheBurstThenQueuesAtTheConfiguredRate() {
+        waitingRoomService.open(7, 2, 3);
+
+        QueueTicket[] tickets = new QueueTicket[8];
+        for (int i = 0; i < tickets.length; i++) {
+            tickets[i] = waitingRoomService.join(7, 100 + i);
+        }
+
+        assertTrue(tickets[2].isAdmitted());
+        assertFalse(tickets[3].isAdmitted());
+        assertEquals(0, tickets[3].getPosition());
+        assertEquals(4, tickets[7].getPosition());
+        assertEquals(3, tickets[7].getRetryAfterSeconds());
+
+        clock.addAndGet(SECOND);
+        QueueTicket later = waitingRoomService.getTicket(7, tickets[7].getToken());
+        assertEquals(2, later.getPosition());
+        assertTrue(waitingRoomService.getTicket(7, tickets[4].getToken()).isAdmitted());
+        assertFalse(waitingRoomService.getTicket(7, tickets[5].getToken()).isAdmitted());
+    }
+
+    @Test
+    void checkAdmitted_RejectsQueuedCustomersWithTheirPosition() {
+        waitingRoomService.open(7, 1, 1);
+        QueueTicket first = waitingRoomService.join(7, 1);
+        QueueTicket second = waitingRoomService.join(7, 2);
+
+        assertDoesNotThrow(() -> waitingRoomService.checkAdmitted(7, 1, first.getToken()));
+        WaitingRoomException e = assertThrows(WaitingRoomException.class,
+                () -> waitingRoomService.checkAdmitted(7, 2, second.getToken()));
+        assertEquals(WaitingRoomException.Reason.NOT_ADMITTED, e.getReason());
+        assertEquals(0, e.getPosition());
+        assertEquals(1, e.getRetryAfterSeconds());
+
+        clock.addAndGet(SECOND);
+        assertDoesNotThrow(() -> waitingRoomService.checkAdmitted(7, 2, second.getToken()));
+    }
+
+    @Test
+    void checkAdmitted_RejectsMissingForgedAndBorrowedTokens() {
+        waitingRoomService.open(7, 5, 5);
+        String token = waitingRoomService.join(7, 1).getToken();
+        String forged = token.replace("-0-1.", "-0-2.");
+
+        assertEquals(WaitingRoomException.Reason.NOT_ADMITTED, assertThrows(WaitingRoomException.class,
+                () -> waitingRoomService.checkAdmitted(7, 1, null)).getReason());
+        assertEquals(WaitingRoomException.Reason.INVALID_TOKEN, assertThrows(WaitingRoomException.class,
+                () -> waitingRoomService.checkAdmitted(7, 2, token)).getReason());
+        assertEquals(WaitingRoomException.Reason.INVALID_TOKEN, assertThrows(WaitingRoomException.class,
+                () -> waitingRoomService.checkAdmitted(7, 2, forged)).getReason());
+        assertEquals(WaitingRoomException.Reason.INVALID_TOKEN, assertThrows(WaitingRoomException.class,
+                () -> waitingRoomService.checkAdmitted(7, 2, "not-a-token")).getReason());
+
+        waitingRoomService.open(8, 5, 5);
+        assertThrows(WaitingRoomException.class, () -> waitingRoomService.checkAdmitted(8, 1, token));
+    }
+
+    @Test
+    void checkAdmitted_ExpiresAdmissionAfterItsWindow() {
+        waitingRoomService.open(7, 1, 1);
+        String first = waitingRoomService.join(7, 1).getToken();
+        String second = waitingRoomService.join(7, 2).getToken();
+
+        clock.addAndGet(SECOND);
+        assertDoesNotThrow(() -> waitingRoomService.checkAdmitted(7, 2, second));
+
+        clock.addAndGet(15 * 60 * SECOND - SECOND);
+        WaitingRoomException e = assertThrows(WaitingRoomException.class,
+                () -> waitingRoomService.checkAdmitted(7, 1, first));
+        assertEquals(WaitingRoomException.Reason.ADMISSION_EXPIRED, e.getReason());
+        assertThrows(WaitingRoomException.class, () -> waitingRoomService.getTicket(7, first));
+        assertDoesNotThrow(() -> waitingRoomService.checkAdmitted(7, 2, second));
+
+        clock.addAndGet(SECOND);
+        assertThrows(WaitingRoomException.class, () -> waitingRoomService.checkAdmitted(7, 2, second));
+        assertTrue(waitingRoomService.join(7, 2).isAdmitted());
+    }
+
+    @Test
+    void open_ReplacesTheRoomAndInvalidatesEarlierTokens() {
+        waitingRoomService.open(7, 5, 5);
+        String token = waitingRoomService.join(7, 1).getToken();
+
+        waitingRoomService.open(7, 5, 5);
+
+        assertThrows(WaitingRoomException.class, () -> waitingRoomService.checkAdmitted(7, 1, token));
+        assertTrue(waitingRoomService.close(7));
+        assertDoesNotThrow(() -> waitingRoomService.checkAdmitted(7, 1, token));
+    }
+
+    @Test
+    void open_RejectsNonPositiveRates() {
+        assertThrows(IllegalArgumentException.class, () -> waitingRoomService.open(7, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> waitingRoomService.open(7, 5, 0));
+    }
+}
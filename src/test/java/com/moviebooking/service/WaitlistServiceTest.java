@@ -0,0 +1,173 @@
+package com.moviebooking.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moviebooking.dto.SeatHold;
+import com.moviebooking.dto.WaitlistEntry;
+import com.moviebooking.dto.WaitlistRequest;
+import com.moviebooking.entity.Screen;
+import com.moviebooking.entity.Show;
+import com.moviebooking.repository.ICustomerRepository;
+import com.moviebooking.repository.IScreenRepository;
+import com.moviebooking.repository.IShowRepository;
+import com.moviebooking.repository.IShowSeatReservationRepository;
+import com.moviebooking.service.impl.SeatHoldServiceImpl;
+import com.moviebooking.service.impl.SeatInventoryServiceImpl;
+import com.moviebooking.service.impl.WaitlistServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceTest {
+
+    @Mock
+    private IShowSeatReservationRepository seatReservationRepository;
+
+    @Mock
+    private IScreenRepository screenRepository;
+
+    @Mock
+    private IShowRepository showRepository;
+
+    @Mock
+    private ICustomerRepository customerRepository;
+
+    @Mock
+    private ISeatEventService seatEventService;
+
+    private SeatInventoryServiceImpl seatInventoryService;
+
+    private SeatHoldServiceImpl seatHoldService;
+
+    private WaitlistServiceImpl waitlistService;
+
+    @BeforeEach
+    void setUp() {
+        seatInventoryService = new SeatInventoryServiceImpl(seatReservationRepository, screenRepository, showRepository,
+                seatEventService);
+        seatHoldService = new SeatHoldServiceImpl(showRepository, customerRepository,
+                seatInventoryService, 10, 30, 1000);
+        waitlistService = new WaitlistServiceImpl(showRepository, customerRepository, seatInventoryService,
+                seatHoldService, 100);
+
+        Show show = new Show();
+        show.setShowId(2);
+        show.setScreenId(1);
+        when(showRepository.findById(2)).thenReturn(Optional.of(show));
+        when(customerRepository.existsById(anyInt())).thenReturn(true);
+        // A sold-out two-row screen with four seats per row.
+        when(screenRepository.findById(1)).thenReturn(Optional.of(new Screen(1, "Screen 1", 2, 4)));
+        when(seatReservationRepository.findSeatNumbersByShowId(2))
+                .thenReturn(List.of("A1", "A2", "A3", "A4", "B1", "B2", "B3", "B4"));
+    }
+
+    @Test
+    void join_QueuesCustomersInArrivalOrderWhileSoldOut() {
+        WaitlistEntry first = waitlistService.join(2, request(5, 2));
+        WaitlistEntry second = waitlistService.join(2, request(6, 1));
+
+        assertEquals(WaitlistEntry.Status.WAITING, first.getStatus());
+        assertEquals(0, first.getPosition());
+        assertEquals(1, second.getPosition());
+    }
+
+    @Test
+    void promote_HoldsReleasedSeatsForTheEarliestCustomerTheyFit() {
+        WaitlistEntry family = waitlistService.join(2, request(5, 4));
+        WaitlistEntry couple = waitlistService.join(2, request(6, 2));
+        WaitlistEntry single = waitlistService.join(2, request(7, 1));
+
+        seatInventoryService.markReleased(2, List.of("B2", "B3"));
+        List<SeatHold> holds = waitlistService.promote(2);
+
+        assertEquals(1, holds.size());
+        assertEquals(6, holds.get(0).getCustomerId());
+        assertEquals(List.of("B2", "B3"), holds.get(0).getSeatNumbers());
+
+        WaitlistEntry promoted = waitlistService.getEntry(2, couple.getEntryId());
+        assertEquals(WaitlistEntry.Status.PROMOTED, promoted.getStatus());
+        assertNull(promoted.getPosition());
+        assertEquals(holds.get(0).getHoldId(), promoted.getHold().getHoldId());
+        assertEquals(0, waitlistService.getEntry(2, family.getEntryId()).getPosition());
+        assertEquals(1, waitlistService.getEntry(2, single.getEntryId()).getPosition());
+    }
+
+    @Test
+    void promote_SkipsCustomersWhoseSeatsAreNotTogether() {
+        WaitlistEntry couple = waitlistService.join(2, request(5, 2));
+        WaitlistEntry single = waitlistService.join(2, request(6, 1));
+
+        seatInventoryService.markReleased(2, List.of("A1", "B4"));
+        List<SeatHold> holds = waitlistService.promote(2);
+
+        assertEquals(1, holds.size());
+        assertEquals(6, holds.get(0).getCustomerId());
+        assertEquals(WaitlistEntry.Status.WAITING, waitlistService.getEntry(2, couple.getEntryId()).getStatus());
+        assertEquals(WaitlistEntry.Status.PROMOTED, waitlistService.getEntry(2, single.getEntryId()).getStatus());
+    }
+
+    @Test
+    void expireHolds_OffersALapsedPromotionToTheNextCustomer() {
+        WaitlistEntry first = waitlistService.join(2, request(5, 1));
+        WaitlistEntry second = waitlistService.join(2, request(6, 1));
+
+        seatInventoryService.markReleased(2, List.of("A1"));
+        waitlistService.promote(2);
+        assertEquals(WaitlistEntry.Status.PROMOTED, waitlistService.getEntry(2, first.getEntryId()).getStatus());
+
+        seatHoldService.expireHolds(System.currentTimeMillis() + 11 * 60_000);
+
+        WaitlistEntry next = waitlistService.getEntry(2, second.getEntryId());
+        assertEquals(WaitlistEntry.Status.PROMOTED, next.getStatus());
+        assertEquals(List.of("A1"), next.getHold().getSeatNumbers());
+    }
+
+    @Test
+    void join_PromotesImmediatelyWhenSeatsAreFree() {
+        seatInventoryService.markReleased(2, List.of("A3", "A4"));
+
+        WaitlistEntry entry = waitlistService.join(2, request(5, 2));
+
+        assertEquals(WaitlistEntry.Status.PROMOTED, entry.getStatus());
+        assertEquals(List.of("A3", "A4"), entry.getHold().getSeatNumbers());
+    }
+
+    @Test
+    void join_RejectsCustomerAlreadyWaiting() {
+        waitlistService.join(2, request(5, 2));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> waitlistService.join(2, request(5, 1)));
+        assertEquals("Customer is already on the waitlist for this show", exception.getMessage());
+    }
+
+    @Test
+    void leave_RemovesEntryAndMovesOthersUp() {
+        WaitlistEntry first = waitlistService.join(2, request(5, 2));
+        WaitlistEntry second = waitlistService.join(2, request(6, 2));
+
+        assertTrue(waitlistService.leave(2, first.getEntryId()));
+        assertFalse(waitlistService.leave(2, first.getEntryId()));
+        assertEquals(0, waitlistService.getEntry(2, second.getEntryId()).getPosition());
+        assertThrows(IllegalArgumentException.class, () -> waitlistService.getEntry(2, first.getEntryId()));
+    }
+
+    private WaitlistRequest request(int customerId, int seatCount) {
+        WaitlistRequest request = new WaitlistRequest();
+        request.setCustomerId(customerId);
+        request.setSeatCount(seatCount);
+        return request;
+    }
+}
@@ -0,0 +1,64 @@
+package com.moviebooking.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class FirstFitQueueTest {
+
+    @Test
+    void firstFitting_ReturnsOldestEntryThatFits() {
+        FirstFitQueue<String> queue = new FirstFitQueue<>();
+        queue.add("four", 4);
+        FirstFitQueue.Entry<String> two = queue.add("two", 2);
+        queue.add("one", 1);
+
+        assertEquals("two", queue.firstFitting(3, null).getValue());
+        assertEquals("one", queue.firstFitting(3, two).getValue());
+        assertEquals("four", queue.firstFitting(10, null).getValue());
+        assertNull(queue.firstFitting(0, null));
+    }
+
+    @Test
+    void remove_SkipsEntryAndUpdatesPositions() {
+        FirstFitQueue<String> queue = new FirstFitQueue<>();
+        FirstFitQueue.Entry<String> first = queue.add("first", 1);
+        FirstFitQueue.Entry<String> second = queue.add("second", 1);
+
+        assertEquals(1, queue.positionOf(second));
+        assertTrue(queue.remove(first));
+        assertFalse(queue.remove(first));
+
+        assertEquals(0, queue.positionOf(second));
+        assertEquals(-1, queue.positionOf(first));
+        assertEquals("second", queue.firstFitting(1, null).getValue());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void add_KeepsArrivalOrderAcrossCompactionAndGrowth() {
+        FirstFitQueue<Integer> queue = new FirstFitQueue<>();
+        List<FirstFitQueue.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            entries.add(queue.add(i, 1 + i % 5));
+            if (i % 3 == 0) {
+                queue.remove(entries.get(i / 2));
+            }
+        }
+
+        int previous = -1;
+        int seen = 0;
+        for (FirstFitQueue.Entry<Integer> entry = queue.firstFitting(5, null); entry != null;
+                entry = queue.firstFitting(5, entry)) {
+            assertTrue(entry.getValue() > previous);
+            assertEquals(seen++, queue.positionOf(entry));
+            previous = entry.getValue();
+        }
+        assertEquals(queue.size(), seen);
+    }
+}
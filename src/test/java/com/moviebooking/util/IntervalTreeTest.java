@@ -0,0 +1,78 @@
+package com.moviebooking.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTest {
+
+    private final IntervalTree tree = new IntervalTree();
+
+    @Test
+    void overlapping_TreatsIntervalsAsHalfOpen() {
+        tree.put(1, 10, 20);
+        tree.put(2, 20, 30);
+        tree.put(3, 5, 40);
+
+        assertEquals(List.of(3, 1), tree.overlapping(15, 20));
+        assertEquals(List.of(3, 2), tree.containing(20));
+        assertEquals(List.of(3, 1, 2), tree.overlapping(0, 100));
+        assertTrue(tree.overlapping(40, 50).isEmpty());
+    }
+
+    @Test
+    void put_ReplacesAnIntervalWithTheSameId() {
+        tree.put(1, 10, 20);
+        tree.put(1, 50, 60);
+
+        assertEquals(1, tree.size());
+        assertTrue(tree.containing(15).isEmpty());
+        assertEquals(List.of(1), tree.containing(55));
+        assertThrows(IllegalArgumentException.class, () -> tree.put(2, 10, 10));
+    }
+
+    @Test
+    void remove_DropsTheInterval() {
+        tree.put(1, 10, 20);
+        tree.put(2, 10, 30);
+
+        assertTrue(tree.remove(1));
+        assertFalse(tree.remove(1));
+        assertEquals(List.of(2), tree.overlapping(0, 100));
+    }
+
+    @Test
+    void overlapping_MatchesABruteForceScan() {
+        Random random = new Random(7);
+        List<long[]> intervals = new ArrayList<>();
+        for (int id = 0; id < 2000; id++) {
+            long start = random.nextInt(100_000);
+            long[] interval = {id, start, start + 1 + random.nextInt(500)};
+            intervals.add(interval);
+            tree.put(id, interval[1], interval[2]);
+        }
+        for (int id = 0; id < 2000; id += 3) {
+            tree.remove(id);
+        }
+        intervals.removeIf(interval -> interval[0] % 3 == 0);
+        intervals.sort((a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(a[0], b[0]));
+
+        for (int query = 0; query < 200; query++) {
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(2_000);
+            List<Integer> expected = new ArrayList<>();
+            for (long[] interval : intervals) {
+                if (interval[1] < end && interval[2] > start) {
+                    expected.add((int) interval[0]);
+                }
+            }
+            assertEquals(expected, tree.overlapping(start, end));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.moviebooking.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class TinyLfuCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void get_LoadsOnceAndCountsHitsAndMisses() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, 100, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("A", cache.get("a", key -> load(loads, key)));
+        assertEquals("A", cache.get("a", key -> load(loads, key)));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void get_ReloadsAfterTheTimeToLive() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, 100, now::get);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> load(loads, key));
+
+        now.addAndGet(99);
+        cache.get("a", key -> load(loads, key));
+        now.addAndGet(1);
+        cache.get("a", key -> load(loads, key));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_KeepsFrequentlyReadKeysWhenScannedByOneOffKeys() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(2, 1_000, now::get);
+        AtomicInteger loads = new AtomicInteger();
+        for (int round = 0; round < 5; round++) {
+            cache.get("hot", key -> load(loads, key));
+            cache.get("warm", key -> load(loads, key));
+        }
+
+        for (int scan = 0; scan < 20; scan++) {
+            cache.get("cold" + scan, key -> load(loads, key));
+        }
+        loads.set(0);
+        cache.get("hot", key -> load(loads, key));
+        cache.get("warm", key -> load(loads, key));
+
+        assertEquals(0, loads.get());
+        assertEquals(2, cache.size());
+        assertEquals(20, cache.getRejectionCount());
+    }
+
+    @Test
+    void get_EvictsTheLeastRecentlyUsedEntryForAMoreFrequentKey() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(2, 1_000, now::get);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> null);
+        cache.get("a", key -> null);
+        cache.get("b", key -> load(loads, key));
+        cache.get("c", key -> load(loads, key));
+
+        cache.get("a", key -> load(loads, key));
+
+        assertEquals(1, cache.getEvictionCount());
+        loads.set(0);
+        cache.get("c", key -> load(loads, key));
+        cache.get("b", key -> load(loads, key));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidateAll_DropsEntriesAndLoadsStartedBeforeIt() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, 100, now::get);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> load(loads, key));
+
+        cache.get("b", key -> {
+            cache.invalidateAll();
+            return load(loads, key);
+        });
+
+        assertEquals(0, cache.size());
+        cache.get("a", key -> load(loads, key));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void constructor_RejectsNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<String, String>(0, 100, now::get));
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<String, String>(10, 0, now::get));
+    }
+
+    private static String load(AtomicInteger loads, String key) {
+        loads.incrementAndGet();
+        return key.toUpperCase();
+    }
+}